@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import foundation.icon.score.util.StringUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads relay messages from the DataSource JSON which is used by the unit tests of BMV.
+ * The files are copied from the test resources of BMV modules by processResources.
+ */
+public class Fixtures {
+
+    public static List<byte[]> relayMessages(String resource) {
+        ObjectMapper mapper = new ObjectMapper();
+        try (InputStream is = Fixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new IllegalArgumentException("not found resource:" + resource);
+            }
+            JsonNode root = mapper.readTree(is);
+            List<byte[]> inputs = new ArrayList<>();
+            for (JsonNode c : root.path("cases")) {
+                for (JsonNode phase : c.path("phases")) {
+                    JsonNode input = phase.get("input");
+                    if (input != null && !input.isNull()) {
+                        inputs.add(StringUtil.hexToBytes(input.asText()));
+                    }
+                }
+            }
+            return inputs;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
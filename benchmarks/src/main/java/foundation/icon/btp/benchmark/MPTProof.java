@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.benchmark;
+
+import score.ByteArrayObjectWriter;
+import score.Context;
+
+import java.util.Random;
+
+/**
+ * Proof of Merkle Patricia Trie which has full branch nodes from the root to the leaf.
+ * Siblings of the path are filled with random hashes, so that the size of each branch node
+ * is the same as the worst case of the real trie.
+ */
+public class MPTProof {
+    private static final int KEY_LEN = 32;
+    private static final int HASH_LEN = 32;
+
+    private final byte[] root;
+    private final byte[] key;
+    private final byte[][] proofs;
+
+    private MPTProof(byte[] root, byte[] key, byte[][] proofs) {
+        this.root = root;
+        this.key = key;
+        this.proofs = proofs;
+    }
+
+    public byte[] getRoot() {
+        return root;
+    }
+
+    public byte[] getKey() {
+        return key;
+    }
+
+    public byte[][] getProofs() {
+        return proofs;
+    }
+
+    /**
+     * @param codec     codec of the node, "RLP" or "RLPn"
+     * @param hashAlg   hash algorithm of the node
+     * @param depth     number of branch nodes
+     * @param valueSize length of the value in the leaf
+     * @param seed      seed of the random key, value and siblings
+     */
+    public static MPTProof build(String codec, String hashAlg, int depth, int valueSize, long seed) {
+        Random random = new Random(seed);
+        byte[] key = new byte[KEY_LEN];
+        random.nextBytes(key);
+        byte[] value = new byte[valueSize];
+        random.nextBytes(value);
+        byte[] nibbles = toNibbles(key);
+
+        byte[][] proofs = new byte[depth + 1][];
+        proofs[depth] = leaf(codec, nibbles, depth, value);
+        byte[] child = Context.hash(hashAlg, proofs[depth]);
+        for (int i = depth - 1; i >= 0; i--) {
+            proofs[i] = branch(codec, nibbles[i], child, random);
+            child = Context.hash(hashAlg, proofs[i]);
+        }
+        return new MPTProof(child, key, proofs);
+    }
+
+    private static byte[] toNibbles(byte[] bytes) {
+        byte[] nibbles = new byte[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            nibbles[i * 2] = (byte) (bytes[i] >> 4 & 0x0F);
+            nibbles[i * 2 + 1] = (byte) (bytes[i] & 0x0F);
+        }
+        return nibbles;
+    }
+
+    private static byte[] leaf(String codec, byte[] nibbles, int from, byte[] value) {
+        int len = nibbles.length - from;
+        boolean odd = len % 2 == 1;
+        byte[] path = new byte[len / 2 + 1];
+        int j = from;
+        if (odd) {
+            path[0] = (byte) (0x30 | nibbles[j++]);
+        } else {
+            path[0] = 0x20;
+        }
+        for (int i = 1; i < path.length; i++) {
+            path[i] = (byte) (nibbles[j] << 4 | nibbles[j + 1]);
+            j += 2;
+        }
+        ByteArrayObjectWriter w = Context.newByteArrayObjectWriter(codec);
+        w.beginList(2);
+        w.write(path);
+        w.write(value);
+        w.end();
+        return w.toByteArray();
+    }
+
+    private static byte[] branch(String codec, int nibble, byte[] child, Random random) {
+        ByteArrayObjectWriter w = Context.newByteArrayObjectWriter(codec);
+        w.beginList(17);
+        for (int i = 0; i < 16; i++) {
+            if (i == nibble) {
+                w.write(child);
+            } else {
+                byte[] sibling = new byte[HASH_LEN];
+                random.nextBytes(sibling);
+                w.write(sibling);
+            }
+        }
+        w.write(new byte[0]);
+        w.end();
+        return w.toByteArray();
+    }
+}
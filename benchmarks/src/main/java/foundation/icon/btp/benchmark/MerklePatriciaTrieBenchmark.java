@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.benchmark;
+
+import foundation.icon.btp.lib.mpt.MerklePatriciaTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MerklePatriciaTrieBenchmark {
+    //codec and hash algorithm of the node, icon: RLPn/sha3-256, bsc: RLP/keccak-256, eth2: RLPn/keccak-256
+    @Param({"icon", "bsc", "eth2"})
+    public String network;
+    //number of branch nodes in the proof
+    @Param({"1", "4", "8"})
+    public int depth;
+    @Param({"128", "1024"})
+    public int valueSize;
+
+    private String hashAlg;
+    private MPTProof proof;
+
+    @Setup
+    public void setup() {
+        hashAlg = "icon".equals(network) ? "sha3-256" : "keccak-256";
+        String codec = "bsc".equals(network) ? "RLP" : "RLPn";
+        proof = MPTProof.build(codec, hashAlg, depth, valueSize, depth);
+    }
+
+    @Benchmark
+    public byte[] prove() {
+        return MerklePatriciaTrie.prove(hashAlg, proof.getRoot(), proof.getKey(), proof.getProofs());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.benchmark;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import foundation.icon.btp.lib.MerkleTreeAccumulator;
+import foundation.icon.btp.lib.MerkleTreeAccumulatorDB;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import score.Context;
+import score.annotation.External;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds to and verifies with {@link MerkleTreeAccumulatorDB.Accumulator} as BMV does for each relay message.
+ * Storage of the accumulator is owned by a score, so that operations run in the frame of the score
+ * and each invocation runs {@link #OPS} operations to amortize the call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MerkleTreeAccumulatorBenchmark extends TestBase {
+    private static final int HASH_LEN = 32;
+    private static final int OPS = 100;
+    private static final ServiceManager sm = getServiceManager();
+
+    //number of leaves, power of two to have a single root
+    @Param({"1024", "65536"})
+    public int size;
+
+    private byte[][] leaves;
+    private byte[][] witness;
+    private int witnessIdx;
+    private int addIdx;
+    private Account owner;
+    private Score score;
+
+    public static class StorageScore {
+        static Runnable task;
+
+        @External
+        public void run() {
+            task.run();
+        }
+    }
+
+    private void run(Runnable task) {
+        StorageScore.task = task;
+        try {
+            sm.call(owner, BigInteger.ZERO, score.getAddress(), "run");
+        } finally {
+            StorageScore.task = null;
+        }
+    }
+
+    @Setup
+    public void setup() throws Exception {
+        Random random = new Random(size);
+        leaves = new byte[size][HASH_LEN];
+        for (byte[] leaf : leaves) {
+            random.nextBytes(leaf);
+        }
+        MerkleTreeAccumulator mta = new MerkleTreeAccumulator();
+        for (byte[] leaf : leaves) {
+            mta.add(leaf);
+        }
+        witnessIdx = random.nextInt(size);
+        witness = witness(leaves, witnessIdx);
+
+        owner = sm.createAccount();
+        score = sm.deploy(owner, StorageScore.class);
+        run(() -> new MerkleTreeAccumulatorDB("mta").set(mta));
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        run(() -> new MerkleTreeAccumulatorDB("added").set(new MerkleTreeAccumulator()));
+        addIdx = 0;
+    }
+
+    static byte[] concatAndHash(byte[] b1, byte[] b2) {
+        byte[] data = new byte[HASH_LEN * 2];
+        System.arraycopy(b1, 0, data, 0, HASH_LEN);
+        System.arraycopy(b2, 0, data, HASH_LEN, HASH_LEN);
+        return Context.hash("sha3-256", data);
+    }
+
+    static byte[][] witness(byte[][] leaves, int idx) {
+        int depth = Integer.numberOfTrailingZeros(leaves.length);
+        byte[][] witness = new byte[depth][];
+        byte[][] level = leaves;
+        for (int i = 0; i < depth; i++) {
+            witness[i] = level[idx ^ 1];
+            byte[][] parent = new byte[level.length / 2][];
+            for (int j = 0; j < parent.length; j++) {
+                parent[j] = concatAndHash(level[j * 2], level[j * 2 + 1]);
+            }
+            level = parent;
+            idx /= 2;
+        }
+        return witness;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void add() {
+        run(() -> {
+            MerkleTreeAccumulatorDB db = new MerkleTreeAccumulatorDB("added");
+            for (int i = 0; i < OPS; i++) {
+                MerkleTreeAccumulatorDB.Accumulator acc = db.get();
+                acc.add(leaves[addIdx]);
+                acc.flush();
+                addIdx = (addIdx + 1) % size;
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    public void verify() {
+        run(() -> {
+            MerkleTreeAccumulatorDB db = new MerkleTreeAccumulatorDB("mta");
+            for (int i = 0; i < OPS; i++) {
+                MerkleTreeAccumulatorDB.Accumulator acc = db.get();
+                acc.verify(witness, leaves[witnessIdx], witnessIdx + 1, acc.getHeight());
+            }
+        });
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmv.bsc;
+
+import foundation.icon.btp.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes the relay messages of the fixture and the type-prefixed messages in them.
+ * Each operation handles all relay messages of the fixture.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelayMessageBenchmark {
+    @Param({"bsc/mainnet.json", "bsc/privnet.json"})
+    public String fixture;
+
+    private List<byte[]> relayMessages;
+
+    @Setup
+    public void setup() {
+        relayMessages = Fixtures.relayMessages(fixture);
+    }
+
+    @Benchmark
+    public void decode(Blackhole bh) {
+        for (byte[] bytes : relayMessages) {
+            for (RelayMessage.TypePrefixedMessage tpm : RelayMessage.fromBytes(bytes).getMessages()) {
+                bh.consume(tpm.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmv.btpblock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import score.ByteArrayObjectWriter;
+import score.Context;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relay messages which have message proofs of BTP block.
+ * Messages are given without proof nodes, so that whole tree is built while proving.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageProofBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Proof {
+        //number of messages in a message proof
+        @Param({"1", "16", "128"})
+        public int messageCount;
+        @Param({"256"})
+        public int messageSize;
+
+        private byte[] payload;
+        private MessageProof messageProof;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(messageCount);
+            byte[][] messages = new byte[messageCount][messageSize];
+            for (byte[] message : messages) {
+                random.nextBytes(message);
+            }
+            payload = toBytes(messages);
+            messageProof = MessageProof.fromBytes(payload);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Batch {
+        //number of message proofs in a relay message
+        @Param({"1", "10"})
+        public int batchSize;
+
+        private byte[] relayMessage;
+
+        @Setup
+        public void setup(Proof proof) {
+            RelayMessage.TypePrefixedMessage[] tpms = new RelayMessage.TypePrefixedMessage[batchSize];
+            for (int i = 0; i < batchSize; i++) {
+                tpms[i] = new RelayMessage.TypePrefixedMessage(
+                        RelayMessage.TypePrefixedMessage.MESSAGE_PROOF, proof.payload);
+            }
+            RelayMessage rm = new RelayMessage();
+            rm.setMessages(tpms);
+            relayMessage = rm.toBytes();
+        }
+    }
+
+    static byte[] toBytes(byte[][] messages) {
+        ByteArrayObjectWriter w = Context.newByteArrayObjectWriter("RLPn");
+        w.beginList(3);
+        w.beginList(0);
+        w.end();
+        w.beginList(messages.length);
+        for (byte[] message : messages) {
+            w.write(message);
+        }
+        w.end();
+        w.beginList(0);
+        w.end();
+        w.end();
+        return w.toByteArray();
+    }
+
+    @Benchmark
+    public MessageProof.ProveResult proveMessage(Proof state) {
+        return state.messageProof.proveMessage();
+    }
+
+    @Benchmark
+    public void decodeRelayMessage(Batch state, Blackhole bh) {
+        for (RelayMessage.TypePrefixedMessage tpm : RelayMessage.fromBytes(state.relayMessage).getMessages()) {
+            bh.consume(tpm.getMessage());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmv.eth2;
+
+import foundation.icon.btp.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SszUtilsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Chunks {
+        @Param({"16", "512"})
+        public int chunkCount;
+
+        private byte[][] chunks;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(chunkCount);
+            chunks = new byte[chunkCount][Constants.BYTES_PER_CHUNK];
+            for (byte[] chunk : chunks) {
+                random.nextBytes(chunk);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Branches {
+        //proofs in the relay messages of the fixture
+        @Param({"eth2/sepolia.json", "eth2/historicalRoot.json"})
+        public String fixture;
+
+        private List<Proof> proofs;
+        private List<byte[]> roots;
+
+        @Setup
+        public void setup() {
+            proofs = new ArrayList<>();
+            roots = new ArrayList<>();
+            for (byte[] bytes : Fixtures.relayMessages(fixture)) {
+                for (RelayMessage.TypePrefixedMessage tpm : RelayMessage.fromBytes(bytes).getMessages()) {
+                    Object msg = tpm.getMessage();
+                    if (msg instanceof BlockProof) {
+                        addProof(((BlockProof) msg).getProof());
+                        addProof(((BlockProof) msg).getHistoricalProof());
+                    } else if (msg instanceof MessageProof) {
+                        addProof(((MessageProof) msg).getReceiptsRootProof());
+                    }
+                }
+            }
+        }
+
+        private void addProof(Proof proof) {
+            if (proof == null) {
+                return;
+            }
+            proofs.add(proof);
+            roots.add(root(proof));
+        }
+    }
+
+    static byte[] root(Proof proof) {
+        BigInteger proofIndex = proof.getIndex();
+        int depth = SszUtils.floorLog2(proofIndex).intValue();
+        //same index as SszUtils.verify
+        int index = depth > 31 ? proofIndex.intValue() :
+                proofIndex.subtract(BigInteger.ONE.shiftLeft(depth)).intValue();
+        byte[][] branch = proof.getHashes();
+        byte[] value = proof.getLeaf();
+        for (int i = 0; i < depth; i++) {
+            if ((index / (1 << i)) % 2 == 1)
+                value = SszUtils.concatAndHash(branch[i], value);
+            else
+                value = SszUtils.concatAndHash(value, branch[i]);
+        }
+        return value;
+    }
+
+    @Benchmark
+    public byte[] merkleize(Chunks state) {
+        return SszUtils.merkleize(state.chunks);
+    }
+
+    @Benchmark
+    public int validateMerkleBranch(Branches state) {
+        int size = state.proofs.size();
+        for (int i = 0; i < size; i++) {
+            SszUtils.verify(state.roots.get(i), state.proofs.get(i));
+        }
+        return size;
+    }
+}
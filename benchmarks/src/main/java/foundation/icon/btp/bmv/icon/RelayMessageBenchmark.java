@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmv.icon;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import score.Address;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a relay message which has a block update with votes of the validators and receipt proofs.
+ * There is no captured relay message of ICON in the repository, so the message is built with random
+ * hashes and signatures in the size of ICON, decoding doesn't verify them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelayMessageBenchmark {
+    private static final int HASH_LEN = 32;
+    private static final int SIGNATURE_LEN = 65;
+    private static final int LOGS_BLOOM_LEN = 256;
+    //branch node of MPT which has 16 hashes
+    private static final int PROOF_NODE_LEN = 532;
+    private static final int PROOF_DEPTH = 3;
+
+    @Param({"4", "22"})
+    public int validators;
+
+    @Param({"1", "10"})
+    public int receiptProofs;
+
+    private byte[] relayMessage;
+
+    private static byte[] random(Random random, int len) {
+        byte[] bytes = new byte[len];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static Proofs proofs(Random random) {
+        byte[][] nodes = new byte[PROOF_DEPTH][];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = random(random, PROOF_NODE_LEN);
+        }
+        Proofs proofs = new Proofs();
+        proofs.setProofs(nodes);
+        return proofs;
+    }
+
+    private static BlockUpdate blockUpdate(Random random, int validators) {
+        Result result = new Result();
+        result.setStateHash(random(random, HASH_LEN));
+        result.setPatchReceiptHash(random(random, HASH_LEN));
+        result.setReceiptHash(random(random, HASH_LEN));
+
+        BlockHeader header = new BlockHeader();
+        header.setVersion(2);
+        header.setHeight(1);
+        header.setTimestamp(1_672_531_200_000_000L);
+        header.setProposer(Address.fromString("hx" + "01".repeat(20)));
+        header.setPrevHash(random(random, HASH_LEN));
+        header.setVoteHash(random(random, HASH_LEN));
+        header.setNextValidatorHash(random(random, HASH_LEN));
+        header.setTxHash(random(random, HASH_LEN));
+        header.setLogsBloom(random(random, LOGS_BLOOM_LEN));
+        header.setResult(result);
+
+        PartSetId partSetId = new PartSetId();
+        partSetId.setCount(1);
+        partSetId.setHash(random(random, HASH_LEN));
+        Vote[] items = new Vote[validators];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new Vote();
+            items[i].setTimestamp(header.getTimestamp() + i);
+            items[i].setSignature(random(random, SIGNATURE_LEN));
+        }
+        Votes votes = new Votes();
+        votes.setRound(0);
+        votes.setPartSetId(partSetId);
+        votes.setItems(items);
+
+        BlockUpdate blockUpdate = new BlockUpdate();
+        blockUpdate.setBlockHeader(header);
+        blockUpdate.setVotes(votes);
+        return blockUpdate;
+    }
+
+    private static ReceiptProof receiptProof(Random random, int index) {
+        MPTProof eventProof = new MPTProof();
+        eventProof.setIndex(0);
+        eventProof.setProofs(proofs(random));
+        ReceiptProof receiptProof = new ReceiptProof();
+        receiptProof.setIndex(index);
+        receiptProof.setProofs(proofs(random));
+        receiptProof.setEventProofs(new MPTProof[]{eventProof});
+        return receiptProof;
+    }
+
+    @Setup
+    public void setup() {
+        Random random = new Random(validators * 31L + receiptProofs);
+        ReceiptProof[] proofs = new ReceiptProof[receiptProofs];
+        for (int i = 0; i < proofs.length; i++) {
+            proofs[i] = receiptProof(random, i);
+        }
+        RelayMessage msg = new RelayMessage();
+        msg.setBlockUpdates(new BlockUpdate[]{blockUpdate(random, validators)});
+        msg.setReceiptProofs(proofs);
+        relayMessage = msg.toBytes();
+    }
+
+    @Benchmark
+    public void decode(Blackhole bh) {
+        RelayMessage msg = RelayMessage.fromBytes(relayMessage);
+        bh.consume(msg.getBlockUpdates());
+        bh.consume(msg.getReceiptProofs());
+    }
+}
@@ -25,6 +25,8 @@ import score.ObjectWriter;
 import java.math.BigInteger;
 
 public class BTPMessage {
+    private static final int FEE_INFO_INDEX = 6;
+
     private String src;
     private String dst;
     private String svc;
@@ -33,12 +35,18 @@ public class BTPMessage {
     private BigInteger nsn;
     private FeeInfo feeInfo;
 
+    //serialized bytes which is decoded by fromBytes, payload is decoded on demand
+    //and the items before feeInfo are reused by toBytes until one of them is changed
+    private byte[] bytes;
+    private int feeInfoOffset;
+
     public String getSrc() {
         return src;
     }
 
     public void setSrc(String src) {
         this.src = src;
+        this.bytes = null;
     }
 
     public String getDst() {
@@ -47,6 +55,7 @@ public class BTPMessage {
 
     public void setDst(String dst) {
         this.dst = dst;
+        this.bytes = null;
     }
 
     public String getSvc() {
@@ -55,6 +64,7 @@ public class BTPMessage {
 
     public void setSvc(String svc) {
         this.svc = svc;
+        this.bytes = null;
     }
 
     public BigInteger getSn() {
@@ -63,14 +73,22 @@ public class BTPMessage {
 
     public void setSn(BigInteger sn) {
         this.sn = sn;
+        this.bytes = null;
     }
 
     public byte[] getPayload() {
+        if (payload == null && bytes != null) {
+            ObjectReader reader = Context.newByteArrayObjectReader("RLPn", bytes);
+            reader.beginList();
+            reader.skip(4);
+            payload = reader.readByteArray();
+        }
         return payload;
     }
 
     public void setPayload(byte[] payload) {
         this.payload = payload;
+        this.bytes = null;
     }
 
     public BigInteger getNsn() {
@@ -79,6 +97,7 @@ public class BTPMessage {
 
     public void setNsn(BigInteger nsn) {
         this.nsn = nsn;
+        this.bytes = null;
     }
 
     public FeeInfo getFeeInfo() {
@@ -96,7 +115,7 @@ public class BTPMessage {
         sb.append(", dst=").append(dst);
         sb.append(", svc='").append(svc).append('\'');
         sb.append(", sn=").append(sn);
-        sb.append(", payload=").append(StringUtil.bytesToHex(payload));
+        sb.append(", payload=").append(StringUtil.bytesToHex(getPayload()));
         sb.append(", nsn=").append(nsn);
         sb.append(", feeInfo=").append(feeInfo);
         sb.append('}');
@@ -133,14 +152,115 @@ public class BTPMessage {
         writer.end();
     }
 
+    /**
+     * Decodes BTPMessage without payload, payload is decoded by {@link #getPayload()} on demand.
+     * Until one of the fields except feeInfo is changed, {@link #toBytes()} reuses
+     * the serialized bytes of the fields, and encodes feeInfo only.
+     *
+     * @param bytes serialized bytes of BTPMessage
+     * @return BTPMessage
+     */
     public static BTPMessage fromBytes(byte[] bytes) {
         ObjectReader reader = Context.newByteArrayObjectReader("RLPn", bytes);
-        return BTPMessage.readObject(reader);
+        BTPMessage obj = new BTPMessage();
+        reader.beginList();
+        obj.src = reader.readString();
+        obj.dst = reader.readString();
+        obj.svc = reader.readString();
+        obj.sn = reader.readBigInteger();
+        reader.skip();
+        obj.nsn = reader.readBigInteger();
+        obj.feeInfo = reader.readNullable(FeeInfo.class);
+        reader.end();
+        obj.bytes = bytes;
+        obj.feeInfoOffset = itemOffset(bytes, FEE_INFO_INDEX);
+        return obj;
     }
 
     public byte[] toBytes() {
+        if (bytes != null) {
+            return toBytesWithFeeInfo();
+        }
         ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
         BTPMessage.writeObject(writer, this);
         return writer.toByteArray();
     }
+
+    private byte[] toBytesWithFeeInfo() {
+        ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
+        writer.writeNullable(feeInfo);
+        byte[] feeInfoBytes = writer.toByteArray();
+        int offset = contentOffset(bytes, 0);
+        int prefixLen = feeInfoOffset - offset;
+        int contentLen = prefixLen + feeInfoBytes.length;
+        byte[] header = listHeader(contentLen);
+        byte[] ret = new byte[header.length + contentLen];
+        System.arraycopy(header, 0, ret, 0, header.length);
+        System.arraycopy(bytes, offset, ret, header.length, prefixLen);
+        System.arraycopy(feeInfoBytes, 0, ret, header.length + prefixLen, feeInfoBytes.length);
+        return ret;
+    }
+
+    static int itemOffset(byte[] bytes, int index) {
+        int offset = contentOffset(bytes, 0);
+        for (int i = 0; i < index; i++) {
+            offset = nextOffset(bytes, offset);
+        }
+        return offset;
+    }
+
+    static int contentOffset(byte[] bytes, int offset) {
+        int b = bytes[offset] & 0xff;
+        if (b < 0x80) {
+            return offset;
+        } else if (b <= 0xb7 || (b >= 0xc0 && b <= 0xf7)) {
+            return offset + 1;
+        } else if (b <= 0xbf) {
+            return offset + 1 + (b - 0xb7);
+        } else {
+            return offset + 1 + (b - 0xf7);
+        }
+    }
+
+    static int nextOffset(byte[] bytes, int offset) {
+        int b = bytes[offset] & 0xff;
+        if (b < 0x80) {
+            return offset + 1;
+        } else if (b <= 0xb7) {
+            return offset + 1 + (b - 0x80);
+        } else if (b <= 0xbf) {
+            int lenOfLen = b - 0xb7;
+            return offset + 1 + lenOfLen + readLength(bytes, offset + 1, lenOfLen);
+        } else if (b <= 0xf7) {
+            return offset + 1 + (b - 0xc0);
+        } else {
+            //RLPn encodes null as 0xf800
+            int lenOfLen = b - 0xf7;
+            return offset + 1 + lenOfLen + readLength(bytes, offset + 1, lenOfLen);
+        }
+    }
+
+    static int readLength(byte[] bytes, int offset, int lenOfLen) {
+        int len = 0;
+        for (int i = 0; i < lenOfLen; i++) {
+            len = (len << 8) | (bytes[offset + i] & 0xff);
+        }
+        return len;
+    }
+
+    static byte[] listHeader(int len) {
+        if (len <= 55) {
+            return new byte[]{(byte) (0xc0 + len)};
+        }
+        int lenOfLen = 0;
+        for (int v = len; v > 0; v >>= 8) {
+            lenOfLen++;
+        }
+        byte[] header = new byte[1 + lenOfLen];
+        header[0] = (byte) (0xf7 + lenOfLen);
+        for (int i = lenOfLen, v = len; i > 0; i--, v >>= 8) {
+            header[i] = (byte) v;
+        }
+        return header;
+    }
 }
@@ -24,6 +24,8 @@ import foundation.icon.btp.lib.BTPAddress;
 import foundation.icon.btp.lib.BTPException;
 import foundation.icon.btp.lib.OwnerManager;
 import foundation.icon.btp.lib.OwnerManagerImpl;
+import foundation.icon.score.data.EnumerableDictDB;
+import foundation.icon.score.data.EnumerableDictDBV2;
 import foundation.icon.score.util.ArrayUtil;
 import foundation.icon.score.util.Logger;
 import foundation.icon.score.util.StringUtil;
@@ -49,6 +51,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
 
     public static final String INTERNAL_SERVICE = "bmc";
     public static final Address CHAIN_SCORE = Address.fromString("cx0000000000000000000000000000000000000000");
+    public static final int STORAGE_VERSION = 4;
 
     public enum Internal {
         Init, Link, Unlink, Claim, Response;
@@ -72,15 +75,23 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
 
     //
     private final OwnerManager ownerManager = new OwnerManagerImpl("owners");
-    private final BranchDB<String, BranchDB<Address, ArrayDB<byte[]>>> fragments = Context.newBranchDB("fragments", byte[].class);
+    //Map<Link, Map<Relay, FragmentSession>>
+    private final BranchDB<String, DictDB<Address, FragmentSession>> fragmentSessions =
+            Context.newBranchDB("fragmentSessions", FragmentSession.class);
+    //Map<Link, Map<Relay, Map<Index, Fragment>>>
+    private final BranchDB<String, BranchDB<Address, DictDB<Integer, byte[]>>> fragments =
+            Context.newBranchDB("fragmentData", byte[].class);
 
     //
     private final Verifiers verifiers = new Verifiers("verifiers");
     private final Services services = new Services("services");
     private final Routes routes = new Routes("routes");
+    //Map<ReachableNetwork, LinkNetwork>, index of Link.reachable, which doesn't need value index
+    private final EnumerableDictDBV2<String, String> reachableRoutes =
+            new EnumerableDictDBV2<>("reachableRoutes", String.class, String.class);
     private final Links links = new Links("links");
 
-    private final BranchDB<String, ArrayDB<Address>> relays = Context.newBranchDB("relays", Address.class);
+    private final Relays relays = new Relays("relays");
     private final DictDB<String, BigInteger> btpLinkNetworkIds = Context.newDictDB("btpLinkNetworkIds", BigInteger.class);
     private final DictDB<BigInteger, BigInteger> btpLinkOffset = Context.newDictDB("btpLinkOffset", BigInteger.class);
     private final VarDB<BigInteger> networkSn = Context.newVarDB("networkSn", BigInteger.class);
@@ -92,11 +103,60 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
     private final BranchDB<Address, DictDB<String, BigInteger>> rewards
             = Context.newBranchDB("rewards", BigInteger.class);
     private final VarDB<Address> feeHandler = Context.newVarDB("feeHandler", Address.class);
+    //Map<Address, Map<Network, Amount>>, rewards to be added by flushCache
+    private Map<Address, Map<String, BigInteger>> pendingRewards;
     //Map<NetworkSn, BMCRequest>
     private final DictDB<BigInteger, BMCRequest> requests = Context.newDictDB("requests", BMCRequest.class);
+    private final VarDB<Integer> storageVersion = Context.newVarDB("storageVersion", Integer.class);
 
     public BTPMessageCenter(String _net) {
         this.btpAddr = new BTPAddress(BTPAddress.PROTOCOL_BTP, _net, Context.getAddress().toString());
+        migrate();
+    }
+
+    private void migrate() {
+        int version = storageVersion.getOrDefault(0);
+        if (version >= STORAGE_VERSION) {
+            return;
+        }
+        if (version < 4) {
+            //move entries to the tables which store key and value together
+            links.migrate(new EnumerableDictDB<>("links", String.class, Link.class));
+            routes.migrate(new EnumerableDictDB<>("routes", String.class, String.class));
+            reachableRoutes.migrate(new EnumerableDictDB<>("reachableRoutes", String.class, String.class));
+            fees.migrate(new EnumerableDictDB<>("fees", String.class, FeeInfo.class));
+            services.migrate(new EnumerableDictDB<>("services", String.class, Address.class));
+            verifiers.migrate(new EnumerableDictDB<>("verifiers", String.class, Address.class));
+        }
+        List<Link> values = links.values();
+        if (version < 1) {
+            for (Link link : values) {
+                relays.migrate(link.getAddr().toString());
+            }
+        }
+        if (version < 2) {
+            for (Link link : values) {
+                for (BTPAddress reachable : link.getReachable()) {
+                    addReachableRoute(link.getAddr().net(), reachable.net());
+                }
+            }
+        }
+        if (version < 3) {
+            //remove fragments which are stored with stringified indexes
+            BranchDB<String, BranchDB<Address, ArrayDB<byte[]>>> legacyFragments =
+                    Context.newBranchDB("fragments", byte[].class);
+            for (Link link : values) {
+                String _link = link.getAddr().toString();
+                for (Address relay : relays.toArray(_link)) {
+                    ArrayDB<byte[]> arrayDB = legacyFragments.at(_link).at(relay);
+                    int size = arrayDB.size();
+                    for (int i = 0; i < size; i++) {
+                        arrayDB.removeLast();
+                    }
+                }
+            }
+        }
+        storageVersion.set(STORAGE_VERSION);
     }
 
     @External(readonly = true)
@@ -211,6 +271,52 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         links.put(link.getAddr().net(), link);
     }
 
+    /**
+     * Enables read-through cache of links, routes, fees, verifiers and services for the external call,
+     * so that the relay loop and the message sending reads each entry once and writes each link once.
+     *
+     * @return false if cache is already enabled
+     */
+    private boolean beginCache() {
+        if (links.isCaching()) {
+            return false;
+        }
+        links.beginCache();
+        routes.beginCache();
+        reachableRoutes.beginCache();
+        fees.beginCache();
+        verifiers.beginCache();
+        services.beginCache();
+        pendingRewards = new HashMap<>();
+        return true;
+    }
+
+    /**
+     * Writes updated entries in the cache and disables cache.
+     * It must be called before the end of the external call and the call to the other SCORE
+     * which could call BMC.
+     *
+     * @return whether cache was enabled
+     */
+    private boolean flushCache() {
+        if (!links.flushCache()) {
+            return false;
+        }
+        routes.flushCache();
+        reachableRoutes.flushCache();
+        fees.flushCache();
+        verifiers.flushCache();
+        services.flushCache();
+        Map<Address, Map<String, BigInteger>> rewardsByAddress = pendingRewards;
+        pendingRewards = null;
+        for (Map.Entry<Address, Map<String, BigInteger>> entry : rewardsByAddress.entrySet()) {
+            for (Map.Entry<String, BigInteger> reward : entry.getValue().entrySet()) {
+                storeReward(entry.getKey(), reward.getKey(), reward.getValue());
+            }
+        }
+        return true;
+    }
+
     @External
     public void addLink(String _link) {
         requireOwnerAccess();
@@ -250,10 +356,13 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         if (routes.containsValue(net)) {
             throw BMCException.unknown("could not remove, referred by route");
         }
-        ArrayDB<Address> arrayDB = relays.at(_link);
-        for(int i = 0; i < arrayDB.size(); i++ ) {
-            arrayDB.removeLast();
+        for (BTPAddress reachable : link.getReachable()) {
+            removeReachableRoute(net, reachable.net());
+        }
+        for (Address relay : relays.toArray(_link)) {
+            clearFragmentSession(_link, relay);
         }
+        relays.clear(_link);
         BigInteger networkId = btpLinkNetworkIds.get(_link);
         if (networkId != null) {
             btpLinkNetworkIds.set(_link, null);
@@ -316,13 +425,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
     @External(readonly = true)
     public Map getRoutes() {
         Map<String, String> map = new HashMap<>();
-        for (Link link : links.values()) {
-            for(BTPAddress reachable : link.getReachable()) {
-                if (!map.containsKey(reachable.net())) {
-                    map.put(reachable.net(), link.getAddr().net());
-                }
-            }
-        }
+        map.putAll(reachableRoutes.toMap());
         map.putAll(routes.toMap());
         return map;
     }
@@ -412,12 +515,26 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
 
     private void addReward(Address addr, String net, BigInteger amount) {
         if (amount != null && amount.compareTo(BigInteger.ZERO) > 0) {
-            DictDB<String, BigInteger> rewardDictDB = rewards.at(addr);
-            rewardDictDB.set(net,
-                    amount.add(rewardDictDB.getOrDefault(net, BigInteger.ZERO)));
+            if (pendingRewards != null) {
+                Map<String, BigInteger> rewardMap = pendingRewards.get(addr);
+                if (rewardMap == null) {
+                    rewardMap = new HashMap<>();
+                    pendingRewards.put(addr, rewardMap);
+                }
+                BigInteger pending = rewardMap.get(net);
+                rewardMap.put(net, pending == null ? amount : pending.add(amount));
+            } else {
+                storeReward(addr, net, amount);
+            }
         }
     }
 
+    private void storeReward(Address addr, String net, BigInteger amount) {
+        DictDB<String, BigInteger> rewardDictDB = rewards.at(addr);
+        rewardDictDB.set(net,
+                amount.add(rewardDictDB.getOrDefault(net, BigInteger.ZERO)));
+    }
+
     static Address toAddress(String s) {
         try {
             return Address.fromString(s);
@@ -445,7 +562,11 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         } else {
             BMCMessage bmcMessage = new BMCMessage(Internal.Claim.name(),
                     new ClaimMessage(reward, _receiver).toBytes());
+            boolean cached = beginCache();
             BigInteger nsn = sendMessageWithFee(_network, INTERNAL_SERVICE, null, bmcMessage.toBytes(), false, true);
+            if (cached) {
+                flushCache();
+            }
             requests.set(nsn, new BMCRequest(_network, bmcMessage, caller));
             ClaimReward(caller, _network, _receiver, reward, nsn);
         }
@@ -464,6 +585,16 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         return rewards.at(_addr).getOrDefault(_network, BigInteger.ZERO);
     }
 
+    @External(readonly = true)
+    public BigInteger[] getRewards(Address _addr, String[] _networks) {
+        DictDB<String, BigInteger> rewardDictDB = rewards.at(_addr);
+        BigInteger[] ret = new BigInteger[_networks.length];
+        for (int i = 0; i < _networks.length; i++) {
+            ret[i] = rewardDictDB.getOrDefault(_networks[i], BigInteger.ZERO);
+        }
+        return ret;
+    }
+
     @External
     public void setFeeHandler(Address _addr) {
         requireOwnerAccess();
@@ -475,17 +606,27 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         return feeHandler.get();
     }
 
-    private BTPAddress resolveNextFromReachable(String _net) {
-        int size = links.size();
-        for (int i = 0; i < size; i++) {
-            Link link = links.getValue(i);
-            for (BTPAddress reachable : link.getReachable()) {
-                if (_net.equals(reachable.net())) {
-                    return link.getAddr();
+    private void addReachableRoute(String linkNet, String net) {
+        if (!reachableRoutes.containsKey(net)) {
+            reachableRoutes.put(net, linkNet);
+        }
+    }
+
+    private void removeReachableRoute(String linkNet, String net) {
+        if (linkNet.equals(reachableRoutes.get(net))) {
+            reachableRoutes.remove(net);
+            //fallback to other link which has same reachable
+            int size = links.size();
+            for (int i = 0; i < size; i++) {
+                Link link = links.getValue(i);
+                for (BTPAddress reachable : link.getReachable()) {
+                    if (net.equals(reachable.net())) {
+                        reachableRoutes.put(net, link.getAddr().net());
+                        return;
+                    }
                 }
             }
         }
-        return null;
     }
 
     private BTPAddress resolveNext(String _net) {
@@ -494,14 +635,12 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         }
 
         String nextNet = routes.get(_net);
+        if (nextNet == null) {
+            nextNet = reachableRoutes.get(_net);
+        }
         if (nextNet != null) {
             return getLink(nextNet).getAddr();
         }
-
-        BTPAddress next = resolveNextFromReachable(_net);
-        if (next != null) {
-            return next;
-        }
         throw BMCException.unreachable();
     }
 
@@ -522,18 +661,19 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         try {
             serializedMsgs = verifier.handleRelayMessage(btpAddr.toString(), _prev, rxSeq, msgBytes);
         } catch (Exception e) {
-            logger.println("handleRelayMessage", "fail to verify", e.toString());
+            logger.warn("handleRelayMessage", "fail to verify", e.toString());
             throw BTPException.of(e);
         }
         long msgCount = serializedMsgs.length;
 
         Address caller = Context.getCaller();
-        if (getRelayIndex(_prev, caller) < 0) {
+        if (!relays.contains(_prev, caller)) {
             throw BMCException.unauthorized("not registered relay");
         }
         if (msgCount > 0) {
             link.setRxSeq(rxSeq.add(BigInteger.valueOf(msgCount)));
         }
+        beginCache();
         putLink(link);
 
         // dispatch BTPMessages
@@ -543,7 +683,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
             try {
                 msg = BTPMessage.fromBytes(serializedMsg);
             } catch (Exception e) {
-                logger.println("handleRelayMessage",
+                logger.warn("handleRelayMessage",
                         "fail to parse BTPMessage rxSeq:",rxSeq,
                         ", msg:", serializedMsg,
                         ", err:", e.toString());
@@ -582,6 +722,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
                 }
             }
         }
+        flushCache();
     }
 
     private void handleMessage(BTPMessage msg) {
@@ -611,7 +752,14 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
                     internalHandleBTPMessage(src, msg.getNsn(), payload);
                 } else {
                     BSHScoreInterface service = getService(svc);
-                    service.handleBTPMessage(src, svc, sn, payload);
+                    boolean cached = flushCache();
+                    try {
+                        service.handleBTPMessage(src, svc, sn, payload);
+                    } finally {
+                        if (cached) {
+                            beginCache();
+                        }
+                    }
                 }
             } catch (Exception e) {
                 if (responseInfoDictDb != null) {
@@ -630,7 +778,14 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
                     internalHandleBTPError(src, msg.getNsn(), eCode, eMsg);
                 } else {
                     BSHScoreInterface service = getService(svc);
-                    service.handleBTPError(src, svc, sn, eCode, eMsg);
+                    boolean cached = flushCache();
+                    try {
+                        service.handleBTPError(src, svc, sn, eCode, eMsg);
+                    } finally {
+                        if (cached) {
+                            beginCache();
+                        }
+                    }
                 }
             } catch (Exception e) {
                 throw BTPException.of(e, BTPException.Type.BSH);
@@ -683,6 +838,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
             if (!list.contains(address)) {
                 list.add(address);
             }
+            addReachableRoute(net, address.net());
         }
         putLink(link);
     }
@@ -691,6 +847,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
         Link link = getLink(net);
         link.getReachable().remove(address);
         putLink(link);
+        removeReachableRoute(net, address.net());
     }
 
     private void handleResponse(BigInteger nsn, long result) {
@@ -712,7 +869,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
     }
 
     private void internalHandleBTPError(String src, BigInteger nsn, long code, String msg) {
-        logger.println("internalHandleBTPError",
+        logger.warn("internalHandleBTPError",
                 "src:", src, "nsn:", nsn, "code:", code, "msg:", msg);
         handleResponse(nsn.negate(), code);
     }
@@ -744,7 +901,12 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
             isResponse = true;
             _sn = _sn.negate();
         }
-        return sendMessageWithFee(_to, _svc, _sn, _msg, isResponse);
+        boolean cached = beginCache();
+        BigInteger nsn = sendMessageWithFee(_to, _svc, _sn, _msg, isResponse);
+        if (cached) {
+            flushCache();
+        }
+        return nsn;
     }
 
     private BigInteger sendMessageWithFee(String _to, String _svc, BigInteger _sn, byte[] msg, boolean isResponse) {
@@ -781,7 +943,7 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
             BigInteger[] values = getFeeList(_to, _sn.compareTo(BigInteger.ZERO) > 0);
             BigInteger remain = Context.getValue().subtract(ArrayUtil.sum(values));
             if (remain.compareTo(BigInteger.ZERO) < 0) {
-                logger.println("sendMessage", "not enough fee", remain);
+                logger.warn("sendMessage", "not enough fee", remain);
                 throw BMCException.unknown("not enough fee");
             }
             collectRemainFee(btpAddr.net(), remain);
@@ -907,60 +1069,68 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
 
     @External
     public void handleFragment(String _prev, String _msg, int _idx) {
-        logger.println("handleFragment", "_prev", _prev, "_idx:", _idx, "len(_msg):" + _msg.length());
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("handleFragment", "_prev", _prev, "_idx:", _idx, "len(_msg):", _msg.length());
+        }
         requireLink(BTPAddress.valueOf(_prev));
         Address caller = Context.getCaller();
-        if (getRelayIndex(_prev, caller) < 0) {
+        if (!relays.contains(_prev, caller)) {
             throw BMCException.unauthorized("not registered relay");
         }
         byte[] fragmentBytes = Base64.getUrlDecoder().decode(_msg.getBytes());
-        final int INDEX_LAST = 0;
-        final int INDEX_NEXT = 1;
-        final int INDEX_OFFSET = 2;
-        ArrayDB<byte[]> fragments = this.fragments.at(_prev).at(caller);
+        DictDB<Address, FragmentSession> sessions = fragmentSessions.at(_prev);
+        DictDB<Integer, byte[]> fragments = this.fragments.at(_prev).at(caller);
+        FragmentSession session = sessions.get(caller);
         if (_idx < 0) {
-            int last = _idx * -1;
-            if (fragments.size() == 0) {
-                fragments.add(Integer.toString(last).getBytes());
-                fragments.add(Integer.toString(last - 1).getBytes());
-                fragments.add(fragmentBytes);
-            } else {
-                fragments.set(INDEX_LAST, Integer.toString(last).getBytes());
-                fragments.set(INDEX_NEXT, Integer.toString(last - 1).getBytes());
-                fragments.set(INDEX_OFFSET, fragmentBytes);
+            if (session != null) {
+                //drop stale fragments
+                clearFragments(fragments, session.getStored());
             }
-        } else {
-            int next = Integer.parseInt(new String(fragments.get(INDEX_NEXT)));
-            if (next != _idx) {
-                throw BMCException.unknown("invalid _idx");
+            int last = _idx * -1;
+            fragments.set(0, fragmentBytes);
+            sessions.set(caller, new FragmentSession(last, last - 1, fragmentBytes.length));
+            return;
+        }
+        if (session == null || session.getNext() != _idx) {
+            throw BMCException.unknown("invalid _idx");
+        }
+        int stored = session.getStored();
+        int total = session.getLength() + fragmentBytes.length;
+        if (_idx == 0) {
+            byte[] msgBytes = new byte[total];
+            int pos = 0;
+            for (int i = 0; i < stored; i++) {
+                byte[] bytes = fragments.get(i);
+                System.arraycopy(bytes, 0, msgBytes, pos, bytes.length);
+                pos += bytes.length;
+                fragments.set(i, null);
             }
-            int last = Integer.parseInt(new String(fragments.get(INDEX_LAST)));
-            if (_idx == 0) {
-                int total = 0;
-                byte[][] bytesArr = new byte[last + 1][];
-                for (int i = 0; i < last; i++) {
-                    bytesArr[i] = fragments.get(i + INDEX_OFFSET);
-                    total += bytesArr[i].length;
-                }
-                bytesArr[last] = fragmentBytes;
-                total += fragmentBytes.length;
-                byte[] msgBytes = new byte[total];
-                int pos = 0;
-                for (byte[] bytes : bytesArr) {
-                    System.arraycopy(bytes, 0, msgBytes, pos, bytes.length);
-                    pos += bytes.length;
-                }
-                logger.println("handleFragment", "handleRelayMessage", "fragments:", last + 1, "len:" + total);
-                handleRelayMessage(_prev, msgBytes);
-            } else {
-                fragments.set(INDEX_NEXT, Integer.toString(_idx - 1).getBytes());
-                int INDEX_MSG = last - _idx + INDEX_OFFSET;
-                if (INDEX_MSG < fragments.size()) {
-                    fragments.set(INDEX_MSG, fragmentBytes);
-                } else {
-                    fragments.add(fragmentBytes);
-                }
+            System.arraycopy(fragmentBytes, 0, msgBytes, pos, fragmentBytes.length);
+            sessions.set(caller, null);
+            if (Logger.LEVEL <= Logger.DEBUG) {
+                logger.debug("handleFragment", "handleRelayMessage", "fragments:", stored + 1, "len:", total);
             }
+            handleRelayMessage(_prev, msgBytes);
+        } else {
+            fragments.set(stored, fragmentBytes);
+            session.setNext(_idx - 1);
+            session.setLength(total);
+            sessions.set(caller, session);
+        }
+    }
+
+    private void clearFragments(DictDB<Integer, byte[]> fragments, int stored) {
+        for (int i = 0; i < stored; i++) {
+            fragments.set(i, null);
+        }
+    }
+
+    private void clearFragmentSession(String _link, Address _addr) {
+        DictDB<Address, FragmentSession> sessions = fragmentSessions.at(_link);
+        FragmentSession session = sessions.get(_addr);
+        if (session != null) {
+            clearFragments(fragments.at(_link).at(_addr), session.getStored());
+            sessions.set(_addr, null);
         }
     }
 
@@ -1022,55 +1192,29 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
     public void MessageDropped(String _prev, BigInteger _seq, byte[] _msg, long _ecode, String _emsg) {
     }
 
-    private int getRelayIndex(String _link, Address _addr) {
-        ArrayDB<Address> arrayDB = relays.at(_link);
-        for (int i = 0 ; i < arrayDB.size(); i++) {
-            if (arrayDB.get(i).equals(_addr)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
     @External
     public void addRelay(String _link, Address _addr) {
         requireOwnerAccess();
         requireLink(BTPAddress.valueOf(_link));
-        if (getRelayIndex(_link, _addr) >= 0) {
+        if (!relays.add(_link, _addr)) {
             throw BMCException.alreadyExistsBMR();
         }
-        relays.at(_link).add(_addr);
     }
 
     @External
     public void removeRelay(String _link, Address _addr) {
         requireOwnerAccess();
         requireLink(BTPAddress.valueOf(_link));
-        ArrayDB<Address> arrayDB = relays.at(_link);
-        if (arrayDB.size() == 0) {
-            throw BMCException.notExistsBMR();
-        }
-        Address last = arrayDB.pop();
-        if (!last.equals(_addr)) {
-            for (int i = 0 ; i < arrayDB.size(); i++) {
-                if (arrayDB.get(i).equals(_addr)) {
-                    arrayDB.set(i, last);
-                    return;
-                }
-            }
+        if (!relays.remove(_link, _addr)) {
             throw BMCException.notExistsBMR();
         }
+        clearFragmentSession(_link, _addr);
     }
 
     @External(readonly = true)
     public Address[] getRelays(String _link) {
         requireLink(BTPAddress.valueOf(_link));
-        ArrayDB<Address> arrayDB = relays.at(_link);
-        Address[] arr = new Address[arrayDB.size()];
-        for (int i = 0 ; i < arrayDB.size(); i++) {
-            arr[i] = arrayDB.get(i);
-        }
-        return arr;
+        return relays.toArray(_link);
     }
 
     /* Delegate OwnerManager */
@@ -1114,7 +1258,9 @@ public class BTPMessageCenter implements BMC, ICONSpecific, OwnerManager {
 
     @Payable
     public void fallback() {
-        logger.println("fallback", "value:", Context.getValue());
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("fallback", "value:", Context.getValue());
+        }
     }
 
     @External
@@ -16,10 +16,10 @@
 
 package foundation.icon.btp.bmc;
 
-import foundation.icon.score.data.EnumerableDictDB;
+import foundation.icon.score.data.EnumerableDictDBV2;
 import foundation.icon.score.util.Logger;
 
-public class Fees extends EnumerableDictDB<String, FeeInfo> {
+public class Fees extends EnumerableDictDBV2<String, FeeInfo> {
     private static final Logger logger = Logger.getLogger(Fees.class);
 
     public Fees(String id) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmc;
+
+import score.ByteArrayObjectWriter;
+import score.Context;
+import score.ObjectReader;
+import score.ObjectWriter;
+
+/**
+ * State of the Relay Message which is being assembled by {@link BTPMessageCenter#handleFragment}.
+ * Fragments are stored in order of arrival, so the index of the fragment to be stored
+ * is {@code last - next} and the number of stored fragments is also {@code last - next}.
+ */
+public class FragmentSession {
+    //index of the first fragment, which is the number of fragments minus one
+    private int last;
+    //index of the fragment to be received
+    private int next;
+    //sum of length of the stored fragments
+    private int length;
+
+    public FragmentSession() {
+    }
+
+    public FragmentSession(int last, int next, int length) {
+        this.last = last;
+        this.next = next;
+        this.length = length;
+    }
+
+    public int getLast() {
+        return last;
+    }
+
+    public void setLast(int last) {
+        this.last = last;
+    }
+
+    public int getNext() {
+        return next;
+    }
+
+    public void setNext(int next) {
+        this.next = next;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public void setLength(int length) {
+        this.length = length;
+    }
+
+    public int getStored() {
+        return last - next;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("FragmentSession{");
+        sb.append("last=").append(last);
+        sb.append(", next=").append(next);
+        sb.append(", length=").append(length);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    public static void writeObject(ObjectWriter writer, FragmentSession obj) {
+        obj.writeObject(writer);
+    }
+
+    public static FragmentSession readObject(ObjectReader reader) {
+        FragmentSession obj = new FragmentSession();
+        reader.beginList();
+        obj.setLast(reader.readInt());
+        obj.setNext(reader.readInt());
+        obj.setLength(reader.readInt());
+        reader.end();
+        return obj;
+    }
+
+    public void writeObject(ObjectWriter writer) {
+        writer.beginList(3);
+        writer.write(this.getLast());
+        writer.write(this.getNext());
+        writer.write(this.getLength());
+        writer.end();
+    }
+
+    public static FragmentSession fromBytes(byte[] bytes) {
+        ObjectReader reader = Context.newByteArrayObjectReader("RLPn", bytes);
+        return FragmentSession.readObject(reader);
+    }
+
+    public byte[] toBytes() {
+        ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
+        FragmentSession.writeObject(writer, this);
+        return writer.toByteArray();
+    }
+}
@@ -132,4 +132,14 @@ public interface ICONSpecific {
     @External(readonly = true)
     long getBTPLinkOffset(String _link);
 
+    /**
+     * Get rewards of the address for the networks
+     *
+     * @param _addr     Address ( the address of the reward owner )
+     * @param _networks String[] ( Network Addresses of the rewards )
+     * @return Integer[] rewards in order of _networks
+     */
+    @External(readonly = true)
+    BigInteger[] getRewards(Address _addr, String[] _networks);
+
 }
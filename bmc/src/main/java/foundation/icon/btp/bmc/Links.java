@@ -16,12 +16,12 @@
 
 package foundation.icon.btp.bmc;
 
-import foundation.icon.score.data.EnumerableDictDB;
+import foundation.icon.score.data.EnumerableDictDBV2;
 import foundation.icon.score.util.Logger;
 
 import java.util.Map;
 
-public class Links extends EnumerableDictDB<String, Link> {
+public class Links extends EnumerableDictDBV2<String, Link> {
     private static final Logger logger = Logger.getLogger(Links.class);
 
     public Links(String id) {
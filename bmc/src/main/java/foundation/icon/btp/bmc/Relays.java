@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmc;
+
+import score.Address;
+import score.ArrayDB;
+import score.BranchDB;
+import score.Context;
+import score.DictDB;
+
+/**
+ * Registered relays per link.
+ * Addresses are kept in ArrayDB of the link for enumeration, and
+ * DictDB of the link maps address to array index for membership check.
+ */
+public class Relays {
+    //Map<Link, List<Address>>
+    private final BranchDB<String, ArrayDB<Address>> relays;
+    //Map<Link, Map<Address, index of relays>>
+    private final BranchDB<String, DictDB<Address, Integer>> indexes;
+
+    public Relays(String id) {
+        this.relays = Context.newBranchDB(id, Address.class);
+        this.indexes = Context.newBranchDB(id + "|indexes", Integer.class);
+    }
+
+    public boolean contains(String link, Address addr) {
+        return indexes.at(link).get(addr) != null;
+    }
+
+    public boolean add(String link, Address addr) {
+        DictDB<Address, Integer> indexDB = indexes.at(link);
+        if (indexDB.get(addr) != null) {
+            return false;
+        }
+        ArrayDB<Address> arrayDB = relays.at(link);
+        indexDB.set(addr, arrayDB.size());
+        arrayDB.add(addr);
+        return true;
+    }
+
+    public boolean remove(String link, Address addr) {
+        DictDB<Address, Integer> indexDB = indexes.at(link);
+        Integer i = indexDB.get(addr);
+        if (i == null) {
+            return false;
+        }
+        indexDB.set(addr, null);
+        ArrayDB<Address> arrayDB = relays.at(link);
+        Address last = arrayDB.pop();
+        if (i != arrayDB.size()) {
+            arrayDB.set(i, last);
+            indexDB.set(last, i);
+        }
+        return true;
+    }
+
+    public Address[] toArray(String link) {
+        ArrayDB<Address> arrayDB = relays.at(link);
+        int size = arrayDB.size();
+        Address[] arr = new Address[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = arrayDB.get(i);
+        }
+        return arr;
+    }
+
+    public void clear(String link) {
+        ArrayDB<Address> arrayDB = relays.at(link);
+        DictDB<Address, Integer> indexDB = indexes.at(link);
+        int size = arrayDB.size();
+        for (int i = 0; i < size; i++) {
+            indexDB.set(arrayDB.pop(), null);
+        }
+    }
+
+    /**
+     * Builds indexes of relays which are registered without index.
+     * Used to migrate the storage of the link while updating BMC.
+     *
+     * @param link String (BTP Address of connected BMC)
+     */
+    public void migrate(String link) {
+        ArrayDB<Address> arrayDB = relays.at(link);
+        DictDB<Address, Integer> indexDB = indexes.at(link);
+        int size = arrayDB.size();
+        for (int i = 0; i < size; i++) {
+            Address addr = arrayDB.get(i);
+            if (indexDB.get(addr) == null) {
+                indexDB.set(addr, i);
+            }
+        }
+    }
+}
@@ -16,14 +16,14 @@
 
 package foundation.icon.btp.bmc;
 
-import foundation.icon.score.data.EnumerableDictDB;
+import foundation.icon.score.data.EnumerableDictDBV2;
 import foundation.icon.score.util.Logger;
 
-public class Routes extends EnumerableDictDB<String, String> {
+public class Routes extends EnumerableDictDBV2<String, String> {
     private static final Logger logger = Logger.getLogger(Routes.class);
 
     public Routes(String id) {
-        super(id, String.class, String.class);
+        super(id, String.class, String.class, true);
     }
 
 }
@@ -16,11 +16,11 @@
 
 package foundation.icon.btp.bmc;
 
-import foundation.icon.score.data.EnumerableDictDB;
+import foundation.icon.score.data.EnumerableDictDBV2;
 import foundation.icon.score.util.Logger;
 import score.Address;
 
-public class Services extends EnumerableDictDB<String, Address> {
+public class Services extends EnumerableDictDBV2<String, Address> {
     private static final Logger logger = Logger.getLogger(Services.class);
 
     public Services(String id) {
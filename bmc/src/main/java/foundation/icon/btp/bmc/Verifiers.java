@@ -16,11 +16,11 @@
 
 package foundation.icon.btp.bmc;
 
-import foundation.icon.score.data.EnumerableDictDB;
+import foundation.icon.score.data.EnumerableDictDBV2;
 import foundation.icon.score.util.Logger;
 import score.Address;
 
-public class Verifiers extends EnumerableDictDB<String, Address> {
+public class Verifiers extends EnumerableDictDBV2<String, Address> {
     private static final Logger logger = Logger.getLogger(Verifiers.class);
 
     public Verifiers(String id) {
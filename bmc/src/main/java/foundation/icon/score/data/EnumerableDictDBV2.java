@@ -0,0 +1,376 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.score.data;
+
+import score.ArrayDB;
+import score.ByteArrayObjectWriter;
+import score.Context;
+import score.DictDB;
+import score.ObjectReader;
+import scorex.util.ArrayList;
+import scorex.util.HashMap;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enumerable map which stores key and value of the entry together in an array element,
+ * so that enumerating entries costs one read per entry.
+ * Optionally, it keeps the number of entries per value to check {@link #containsValue(Object)}
+ * without enumeration. The value index requires the value type which is supported as key of DictDB.
+ */
+public class EnumerableDictDBV2<K, V> {
+    protected final String id;
+    private final Class<K> keyClass;
+    private final Class<? extends V> valueClass;
+    private final boolean supportedKeyType;
+    // key => array index
+    private final DictDB<Object, Integer> indexes;
+    // array of [key, value]
+    private final ArrayDB<byte[]> entries;
+    // value => number of entries which has the value
+    private final DictDB<Object, Integer> valueIndexes;
+    //read-through cache, enabled from beginCache to flushCache
+    private Map<K, CacheEntry<V>> cache;
+
+    static class CacheEntry<V> {
+        // value in storage
+        private final V stored;
+        private V value;
+        private boolean dirty;
+
+        CacheEntry(V value) {
+            this.stored = value;
+            this.value = value;
+        }
+    }
+
+    public EnumerableDictDBV2(String id, Class<K> keyClass, Class<? extends V> valueClass) {
+        this(id, keyClass, valueClass, false);
+    }
+
+    public EnumerableDictDBV2(String id, Class<K> keyClass, Class<? extends V> valueClass, boolean valueIndex) {
+        this.id = id;
+        this.keyClass = keyClass;
+        this.valueClass = valueClass;
+        this.supportedKeyType = EnumerableDictDB.isSupportedKeyType(keyClass);
+        this.indexes = Context.newDictDB(concatId("indexes"), Integer.class);
+        this.entries = Context.newArrayDB(concatId("entries"), byte[].class);
+        if (valueIndex) {
+            if (!EnumerableDictDB.isSupportedKeyType(valueClass)) {
+                throw new IllegalArgumentException("not supported value type for index");
+            }
+            this.valueIndexes = Context.newDictDB(concatId("valueIndexes"), Integer.class);
+        } else {
+            this.valueIndexes = null;
+        }
+    }
+
+    protected String concatId(Object id) {
+        return EnumerableDictDB.concatId(this.id, id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Object ensureKeyType(K key) {
+        return supportedKeyType ? key : key.toString();
+    }
+
+    private Integer getIndex(K key) {
+        return indexes.get(ensureKeyType(key));
+    }
+
+    private void setIndex(K key, Integer i) {
+        indexes.set(ensureKeyType(key), i);
+    }
+
+    private byte[] toEntry(K key, V value) {
+        ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
+        writer.beginList(2);
+        writer.write(key);
+        writer.write(value);
+        writer.end();
+        return writer.toByteArray();
+    }
+
+    private K entryKey(byte[] entry) {
+        ObjectReader reader = Context.newByteArrayObjectReader("RLPn", entry);
+        reader.beginList();
+        return reader.read(keyClass);
+    }
+
+    private V entryValue(byte[] entry) {
+        ObjectReader reader = Context.newByteArrayObjectReader("RLPn", entry);
+        reader.beginList();
+        reader.skip();
+        return reader.read(valueClass);
+    }
+
+    public K getKey(Integer i) {
+        return (i != null) ? entryKey(entries.get(i)) : null;
+    }
+
+    public V getValue(Integer i) {
+        if (i == null) {
+            return null;
+        }
+        byte[] entry = entries.get(i);
+        if (cache != null) {
+            K key = entryKey(entry);
+            CacheEntry<V> cached = cache.get(key);
+            if (cached == null) {
+                V value = entryValue(entry);
+                cache.put(key, new CacheEntry<>(value));
+                return value;
+            }
+            return cached.value;
+        }
+        return entryValue(entry);
+    }
+
+    private V loadValue(Integer i) {
+        return (i != null) ? entryValue(entries.get(i)) : null;
+    }
+
+    private void increaseValue(V value) {
+        Integer cnt = valueIndexes.get(value);
+        valueIndexes.set(value, cnt == null ? 1 : cnt + 1);
+    }
+
+    private void decreaseValue(V value) {
+        Integer cnt = valueIndexes.get(value);
+        if (cnt != null) {
+            valueIndexes.set(value, cnt > 1 ? cnt - 1 : null);
+        }
+    }
+
+    public boolean containsKey(K key) {
+        if (cache != null) {
+            return get(key) != null;
+        }
+        return getIndex(key) != null;
+    }
+
+    public boolean containsValue(V value) {
+        if (valueIndexes != null) {
+            Integer cnt = valueIndexes.get(value);
+            int n = cnt == null ? 0 : cnt;
+            if (cache != null) {
+                //apply updates which are not written yet
+                for (CacheEntry<V> entry : cache.values()) {
+                    if (entry.dirty) {
+                        if (value.equals(entry.stored)) {
+                            n--;
+                        }
+                        if (value.equals(entry.value)) {
+                            n++;
+                        }
+                    }
+                }
+            }
+            return n > 0;
+        }
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (getValue(i).equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(K key) {
+        if (cache != null) {
+            CacheEntry<V> entry = cache.get(key);
+            if (entry == null) {
+                entry = new CacheEntry<>(loadValue(getIndex(key)));
+                cache.put(key, entry);
+            }
+            return entry.value;
+        }
+        return loadValue(getIndex(key));
+    }
+
+    public V put(K key, V value) {
+        if (cache != null) {
+            V old = get(key);
+            if (old != null) {
+                //update of existing value is written by flushCache,
+                //and value index is updated with the value in storage at that time
+                CacheEntry<V> entry = cache.get(key);
+                entry.value = value;
+                entry.dirty = true;
+                return old;
+            }
+            cache.put(key, new CacheEntry<>(value));
+        }
+        return store(key, value);
+    }
+
+    private V store(K key, V value) {
+        Integer i = getIndex(key);
+        V old = null;
+        if (i == null) {
+            setIndex(key, entries.size());
+            entries.add(toEntry(key, value));
+        } else {
+            old = loadValue(i);
+            entries.set(i, toEntry(key, value));
+        }
+        if (valueIndexes != null) {
+            if (old != null) {
+                decreaseValue(old);
+            }
+            increaseValue(value);
+        }
+        return old;
+    }
+
+    public V remove(K key) {
+        V cached = null;
+        if (cache != null) {
+            cached = get(key);
+            cache.put(key, new CacheEntry<>(null));
+            if (cached == null) {
+                return null;
+            }
+        }
+        Integer i = getIndex(key);
+        if (i == null) {
+            return null;
+        }
+        //value in storage could be older than the cached one which is not written yet
+        V old = loadValue(i);
+        setIndex(key, null);
+        byte[] last = entries.pop();
+        if (i != entries.size()) {
+            entries.set(i, last);
+            setIndex(entryKey(last), i);
+        }
+        if (valueIndexes != null) {
+            decreaseValue(old);
+        }
+        return cached != null ? cached : old;
+    }
+
+    public void clear() {
+        if (cache != null) {
+            cache = new HashMap<>();
+        }
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            byte[] entry = entries.pop();
+            setIndex(entryKey(entry), null);
+            if (valueIndexes != null) {
+                valueIndexes.set(entryValue(entry), null);
+            }
+        }
+    }
+
+    /**
+     * Enables read-through cache, values are loaded from storage once until {@link #flushCache()}.
+     * Updates of existing values are kept in the cache, and others are written to storage.
+     * Cache must be flushed before the end of the external call which calls this.
+     */
+    public void beginCache() {
+        cache = new HashMap<>();
+    }
+
+    public boolean isCaching() {
+        return cache != null;
+    }
+
+    /**
+     * Writes updated values in the cache to storage and disables the cache.
+     *
+     * @return whether the cache was enabled
+     */
+    public boolean flushCache() {
+        if (cache == null) {
+            return false;
+        }
+        Map<K, CacheEntry<V>> entries = cache;
+        cache = null;
+        for (Map.Entry<K, CacheEntry<V>> entry : entries.entrySet()) {
+            CacheEntry<V> v = entry.getValue();
+            if (v.dirty) {
+                store(entry.getKey(), v.value);
+            }
+        }
+        return true;
+    }
+
+    public List<K> keySet() {
+        return keys(0, size());
+    }
+
+    /**
+     * Returns keys in the range of array index
+     *
+     * @param offset index of the first key
+     * @param limit  maximum number of keys
+     * @return keys in order of array index
+     */
+    public List<K> keys(int offset, int limit) {
+        ArrayList<K> keys = new ArrayList<>();
+        int end = Math.min(size(), offset + limit);
+        for (int i = Math.max(0, offset); i < end; i++) {
+            keys.add(getKey(i));
+        }
+        return keys;
+    }
+
+    public List<V> values() {
+        ArrayList<V> values = new ArrayList<>();
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            values.add(getValue(i));
+        }
+        return values;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Map<K, V> toMap() {
+        int size = size();
+        Map.Entry[] mapEntries = new Map.Entry[size];
+        for (int i = 0; i < size; i++) {
+            byte[] entry = entries.get(i);
+            K key = entryKey(entry);
+            V value = null;
+            if (cache != null && cache.containsKey(key)) {
+                value = cache.get(key).value;
+            }
+            mapEntries[i] = Map.entry(key, value != null ? value : entryValue(entry));
+        }
+        return Map.ofEntries(mapEntries);
+    }
+
+    /**
+     * Moves entries of {@link EnumerableDictDB} to this, and clears it.
+     *
+     * @param legacy EnumerableDictDB which has entries to move
+     */
+    public void migrate(EnumerableDictDB<K, V> legacy) {
+        int size = legacy.size();
+        for (int i = 0; i < size; i++) {
+            store(legacy.getKey(i), legacy.getValue(i));
+        }
+        legacy.clear();
+    }
+}
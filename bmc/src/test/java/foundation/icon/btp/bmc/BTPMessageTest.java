@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BTPMessageTest {
+    static final FeeInfo EMPTY_FEE_INFO = new FeeInfo("0x1.icon", new BigInteger[]{});
+    static final FeeInfo FEE_INFO = new FeeInfo("0x1.icon",
+            new BigInteger[]{BigInteger.valueOf(10), BigInteger.valueOf(1000000)});
+
+    static BTPMessage newMessage(int payloadSize, FeeInfo feeInfo) {
+        BTPMessage msg = new BTPMessage();
+        msg.setSrc("0x1.icon");
+        msg.setDst("0x2.bsc");
+        msg.setSvc("svc");
+        msg.setSn(BigInteger.ONE);
+        byte[] payload = new byte[payloadSize];
+        for (int i = 0; i < payloadSize; i++) {
+            payload[i] = (byte) (i + 1);
+        }
+        msg.setPayload(payload);
+        msg.setNsn(BigInteger.TWO);
+        msg.setFeeInfo(feeInfo);
+        return msg;
+    }
+
+    static FeeInfo largeFeeInfo(int size) {
+        BigInteger[] values = new BigInteger[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = BigInteger.valueOf(Long.MAX_VALUE - i);
+        }
+        return new FeeInfo("0x1.icon", values);
+    }
+
+    /**
+     * Re-encodes all fields of the message
+     */
+    static byte[] encode(BTPMessage msg) {
+        BTPMessage copy = new BTPMessage();
+        copy.setSrc(msg.getSrc());
+        copy.setDst(msg.getDst());
+        copy.setSvc(msg.getSvc());
+        copy.setSn(msg.getSn());
+        copy.setPayload(msg.getPayload());
+        copy.setNsn(msg.getNsn());
+        copy.setFeeInfo(msg.getFeeInfo());
+        return copy.toBytes();
+    }
+
+    static Stream<Arguments> messages() {
+        List<Arguments> args = new ArrayList<>();
+        List<Integer> payloadSizes = new ArrayList<>();
+        // length of the list crosses 56 bytes which needs the length of length in the header
+        for (int i = 0; i <= 64; i++) {
+            payloadSizes.add(i);
+        }
+        // two and three bytes of length
+        payloadSizes.add(300);
+        payloadSizes.add(70000);
+        for (int payloadSize : payloadSizes) {
+            for (FeeInfo feeInfo : new FeeInfo[]{null, EMPTY_FEE_INFO, FEE_INFO, largeFeeInfo(10)}) {
+                args.add(Arguments.of(payloadSize, feeInfo));
+            }
+        }
+        return args.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("messages")
+    void toBytesShouldEqualToReEncoded(int payloadSize, FeeInfo feeInfo) {
+        byte[] bytes = newMessage(payloadSize, feeInfo).toBytes();
+        BTPMessage decoded = BTPMessage.fromBytes(bytes);
+        assertArrayEquals(bytes, decoded.toBytes());
+        assertArrayEquals(encode(decoded), decoded.toBytes());
+        assertEquals(payloadSize, decoded.getPayload().length);
+    }
+
+    @ParameterizedTest
+    @MethodSource("messages")
+    void toBytesWithChangedFeeInfo(int payloadSize, FeeInfo feeInfo) {
+        byte[] bytes = newMessage(payloadSize, feeInfo).toBytes();
+        for (FeeInfo changed : new FeeInfo[]{null, EMPTY_FEE_INFO, FEE_INFO, largeFeeInfo(10)}) {
+            BTPMessage decoded = BTPMessage.fromBytes(bytes);
+            decoded.setFeeInfo(changed);
+            byte[] expected = encode(decoded);
+            assertArrayEquals(expected, decoded.toBytes());
+            assertArrayEquals(expected, BTPMessage.fromBytes(decoded.toBytes()).toBytes());
+        }
+    }
+
+    @Test
+    void listHeaderShouldBeDecodable() {
+        for (int len : new int[]{0, 1, 55, 56, 255, 256, 65535, 65536}) {
+            byte[] header = BTPMessage.listHeader(len);
+            assertEquals(header.length, BTPMessage.contentOffset(header, 0));
+            byte[] list = new byte[header.length + len];
+            System.arraycopy(header, 0, list, 0, header.length);
+            assertEquals(list.length, BTPMessage.nextOffset(list, 0));
+        }
+    }
+}
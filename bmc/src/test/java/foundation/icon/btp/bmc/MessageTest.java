@@ -574,6 +574,26 @@ public class MessageTest implements BMCIntegrationTest {
         }
     }
 
+    @Test
+    void handleFragmentShouldDropStaleFragments() {
+        BTPMessage staleMsg = btpMessageForSuccess(link);
+        String[] staleFragments = fragments(mockRelayMessage(staleMsg).toBytes(), 3);
+        iconSpecific.handleFragment(link.toString(), staleFragments[0], -2);
+        iconSpecific.handleFragment(link.toString(), staleFragments[1], 1);
+
+        //restart with fewer fragments, stale fragments should not be assembled
+        BTPMessage msg = btpMessageForSuccess(link);
+        String[] fragments = fragments(mockRelayMessage(msg).toBytes(), 2);
+        iconSpecific.handleFragment(link.toString(), fragments[0], -1);
+        iconSpecific.handleFragment(
+                handleBTPMessageChecker(msg),
+                link.toString(), fragments[1], 0);
+
+        //session is closed after assembling
+        AssertBMCException.assertUnknown(() ->
+                iconSpecific.handleFragment(link.toString(), fragments[1], 0));
+    }
+
     @ParameterizedTest
     @MethodSource("dropMessageShouldSuccessArguments")
     void dropMessageShouldSuccess(
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmc;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import foundation.icon.btp.lib.BTPAddress;
+import foundation.icon.btp.mock.MockBMVImpl;
+import foundation.icon.btp.mock.MockRelayMessage;
+import foundation.icon.btp.test.BTPIntegrationTest;
+import foundation.icon.score.data.EnumerableDictDB;
+import org.junit.jupiter.api.Test;
+import score.Address;
+import score.Context;
+import score.UserRevertedException;
+import score.annotation.External;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Routes to the networks which are reachable through the links, by Init, Link and Unlink messages and removeLink.
+ */
+class ReachableRouteTest extends TestBase {
+    static final ServiceManager sm = getServiceManager();
+    static final Account owner = sm.createAccount();
+    static final Account relay = sm.createAccount();
+    static final String NET = "0x1.icon";
+
+    /**
+     * BMC which is updated in place, to run migration with the storage which is written by the task.
+     */
+    public static class UpdatableBMC extends BTPMessageCenter {
+        static Runnable task;
+
+        public UpdatableBMC(String _net) {
+            super(_net);
+        }
+
+        @External
+        public void run() {
+            task.run();
+        }
+
+        @External
+        public void update() {
+            new BTPMessageCenter(getNetworkAddress());
+        }
+    }
+
+    static BTPAddress btpLink() {
+        return BTPIntegrationTest.Faker.btpLink();
+    }
+
+    static Score deployBMC(BTPAddress... links) throws Exception {
+        Score bmc = sm.deploy(owner, UpdatableBMC.class, NET);
+        Score bmv = sm.deploy(owner, MockBMVImpl.class);
+        for (BTPAddress link : links) {
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addVerifier", link.net(), bmv.getAddress());
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addLink", link.toString());
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addRelay", link.toString(), relay.getAddress());
+        }
+        return bmc;
+    }
+
+    static byte[] internalMessage(BTPAddress link, BTPMessageCenter.Internal internal, byte[] payload) {
+        BTPMessage msg = new BTPMessage();
+        msg.setSrc(link.net());
+        msg.setDst(NET);
+        msg.setSvc(BTPMessageCenter.INTERNAL_SERVICE);
+        msg.setSn(BigInteger.ZERO);
+        msg.setPayload(new BMCMessage(internal.name(), payload).toBytes());
+        msg.setNsn(BigInteger.ZERO);
+        msg.setFeeInfo(new FeeInfo(link.net(), new BigInteger[]{}));
+        return msg.toBytes();
+    }
+
+    static void relay(Score bmc, BTPAddress link, byte[]... btpMessages) {
+        MockRelayMessage relayMessage = new MockRelayMessage();
+        relayMessage.setBtpMessages(btpMessages);
+        sm.call(relay, BigInteger.ZERO, bmc.getAddress(),
+                "handleRelayMessage", link.toString(), relayMessage.toBase64String());
+    }
+
+    static void init(Score bmc, BTPAddress link, BTPAddress... reachable) {
+        relay(bmc, link, internalMessage(link, BTPMessageCenter.Internal.Init,
+                new InitMessage(reachable).toBytes()));
+    }
+
+    static void link(Score bmc, BTPAddress link, BTPAddress reachable) {
+        relay(bmc, link, internalMessage(link, BTPMessageCenter.Internal.Link,
+                new LinkMessage(reachable).toBytes()));
+    }
+
+    static void unlink(Score bmc, BTPAddress link, BTPAddress reachable) {
+        relay(bmc, link, internalMessage(link, BTPMessageCenter.Internal.Unlink,
+                new UnlinkMessage(reachable).toBytes()));
+    }
+
+    @SuppressWarnings("unchecked")
+    static void assertRoute(Score bmc, String dst, BTPAddress link) {
+        Map<String, String> routes = bmc.call(Map.class, "getRoutes");
+        assertEquals(link.net(), routes.get(dst));
+        // resolveNext
+        bmc.call(BigInteger.class, "getFee", dst, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    static void assertUnreachable(Score bmc, String dst) {
+        Map<String, String> routes = bmc.call(Map.class, "getRoutes");
+        assertFalse(routes.containsKey(dst));
+        UserRevertedException e = assertThrows(UserRevertedException.class, () -> sm.call(
+                owner, BigInteger.ZERO, bmc.getAddress(), "getFee", dst, false));
+        assertEquals(BMCException.unreachable().getCode(), e.getCode());
+    }
+
+    @Test
+    void reachableRouteShouldFollowInternalMessages() throws Exception {
+        BTPAddress linkA = btpLink();
+        BTPAddress linkB = btpLink();
+        BTPAddress reachable = btpLink();
+        BTPAddress reachableOfB = btpLink();
+        Score bmc = deployBMC(linkA, linkB);
+        assertUnreachable(bmc, reachable.net());
+
+        init(bmc, linkA, reachable);
+        assertRoute(bmc, reachable.net(), linkA);
+
+        // the first link which reaches the network is kept
+        link(bmc, linkB, reachable);
+        assertRoute(bmc, reachable.net(), linkA);
+        link(bmc, linkB, reachableOfB);
+        assertRoute(bmc, reachableOfB.net(), linkB);
+
+        // linkB is not the link of the route
+        unlink(bmc, linkB, reachable);
+        assertRoute(bmc, reachable.net(), linkA);
+        unlink(bmc, linkB, reachableOfB);
+        assertUnreachable(bmc, reachableOfB.net());
+        link(bmc, linkB, reachable);
+
+        // fallback to the other link which reaches the network
+        unlink(bmc, linkA, reachable);
+        assertRoute(bmc, reachable.net(), linkB);
+
+        unlink(bmc, linkB, reachable);
+        assertUnreachable(bmc, reachable.net());
+    }
+
+    @Test
+    void removeLinkShouldFallbackToOtherLink() throws Exception {
+        BTPAddress linkA = btpLink();
+        BTPAddress linkB = btpLink();
+        BTPAddress linkC = btpLink();
+        BTPAddress reachable = btpLink();
+        BTPAddress reachableOfA = btpLink();
+        // linkB is scanned first
+        Score bmc = deployBMC(linkB, linkA, linkC);
+        init(bmc, linkC, reachable);
+        init(bmc, linkA, reachable, reachableOfA);
+        init(bmc, linkB);
+        assertRoute(bmc, reachable.net(), linkC);
+        assertRoute(bmc, reachableOfA.net(), linkA);
+
+        // linkB is not the link of the route
+        unlink(bmc, linkB, reachable);
+        assertRoute(bmc, reachable.net(), linkC);
+
+        // scans links, linkB doesn't reach the network
+        sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "removeLink", linkC.toString());
+        assertRoute(bmc, reachable.net(), linkA);
+
+        // removal of the link which is not the link of the route
+        sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "removeLink", linkB.toString());
+        assertRoute(bmc, reachable.net(), linkA);
+
+        sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "removeLink", linkA.toString());
+        assertUnreachable(bmc, reachable.net());
+        assertUnreachable(bmc, reachableOfA.net());
+    }
+
+    static Link newLink(BTPAddress addr, BTPAddress... reachable) {
+        Link link = new Link();
+        link.setAddr(addr);
+        link.setRxSeq(BigInteger.ZERO);
+        link.setTxSeq(BigInteger.ZERO);
+        link.setReachable(new ArrayList<>(List.of(reachable)));
+        return link;
+    }
+
+    @Test
+    void migrateShouldBuildReachableRoutes() throws Exception {
+        BTPAddress linkA = btpLink();
+        BTPAddress linkB = btpLink();
+        BTPAddress reachable = btpLink();
+        BTPAddress reachableOfB = btpLink();
+        String dst = BTPIntegrationTest.Faker.btpNetwork();
+        Score bmc = sm.deploy(owner, UpdatableBMC.class, NET);
+        Score bmv = sm.deploy(owner, MockBMVImpl.class);
+        Address bmvAddr = bmv.getAddress();
+        Address relayAddr = relay.getAddress();
+
+        // storage of STORAGE_VERSION 1, which has links, routes and verifiers in EnumerableDictDB
+        // and relays with indexes, without reachableRoutes
+        UpdatableBMC.task = () -> {
+            EnumerableDictDB<String, Link> links = new EnumerableDictDB<>("links", String.class, Link.class);
+            links.put(linkA.net(), newLink(linkA, reachable));
+            links.put(linkB.net(), newLink(linkB, reachable, reachableOfB));
+            EnumerableDictDB<String, String> routes = new EnumerableDictDB<>("routes", String.class, String.class);
+            routes.put(dst, linkB.net());
+            EnumerableDictDB<String, Address> verifiers =
+                    new EnumerableDictDB<>("verifiers", String.class, Address.class);
+            verifiers.put(linkA.net(), bmvAddr);
+            verifiers.put(linkB.net(), bmvAddr);
+            Relays relays = new Relays("relays");
+            relays.add(linkA.toString(), relayAddr);
+            relays.add(linkB.toString(), relayAddr);
+            Context.newVarDB("storageVersion", Integer.class).set(1);
+        };
+        try {
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "run");
+        } finally {
+            UpdatableBMC.task = null;
+        }
+        sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "update");
+
+        assertArrayEquals(new String[]{linkA.toString(), linkB.toString()}, bmc.call(String[].class, "getLinks"));
+        assertRoute(bmc, dst, linkB);
+        assertRoute(bmc, reachable.net(), linkA);
+        assertRoute(bmc, reachableOfB.net(), linkB);
+        // resolveNext of the link itself
+        bmc.call(BigInteger.class, "getFee", linkA.net(), false);
+
+        // routes are updated with the migrated links
+        unlink(bmc, linkA, reachable);
+        assertRoute(bmc, reachable.net(), linkB);
+        sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "removeLink", linkA.toString());
+        assertUnreachable(bmc, linkA.net());
+
+        // migration is done once
+        sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "update");
+        assertRoute(bmc, reachable.net(), linkB);
+        assertUnreachable(bmc, linkA.net());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmc;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import foundation.icon.btp.lib.BTPAddress;
+import foundation.icon.btp.mock.MockBMVImpl;
+import foundation.icon.btp.mock.MockRelayMessage;
+import foundation.icon.btp.test.BTPIntegrationTest;
+import foundation.icon.score.test.StepProfile;
+import foundation.icon.score.test.StepProfiler;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Profiles storage writes of handleRelayMessage which routes the messages to the next link.
+ */
+public class RelayStepCostTest extends TestBase {
+    static final ServiceManager sm = getServiceManager();
+    static final Account owner = sm.createAccount();
+    static final Account relay = sm.createAccount();
+    static final String NET = "0x1.icon";
+    static final BTPAddress link = BTPIntegrationTest.Faker.btpLink();
+    static final BTPAddress next = BTPIntegrationTest.Faker.btpLink();
+    static final String svc = BTPIntegrationTest.Faker.btpService();
+    static final int[] batchSizes = new int[]{1, 10, 100};
+
+    static MockRelayMessage routeRelayMessage(int count) {
+        byte[][] btpMessages = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            BTPMessage msg = new BTPMessage();
+            msg.setSrc(link.net());
+            msg.setDst(next.net());
+            msg.setSvc(svc);
+            msg.setSn(BigInteger.ZERO);
+            msg.setPayload(BTPIntegrationTest.Faker.btpLink().toBytes());
+            msg.setNsn(BigInteger.valueOf(i + 1));
+            msg.setFeeInfo(new FeeInfo(link.net(), new BigInteger[]{}));
+            btpMessages[i] = msg.toBytes();
+        }
+        MockRelayMessage relayMessage = new MockRelayMessage();
+        relayMessage.setBtpMessages(btpMessages);
+        return relayMessage;
+    }
+
+    /***
+     * Each link touched by a relay message is read and written once regardless of the number of messages,
+     * so that steps grow only by the cost of each message
+     */
+    @Test
+    void handleRelayMessageShouldWriteLinkOncePerLink() throws Exception {
+        try (StepProfiler profiler = new StepProfiler(RelayStepCostTest.class.getSimpleName())) {
+            Score bmc = sm.deploy(owner, BTPMessageCenter.class, NET);
+            Score bmv = sm.deploy(owner, MockBMVImpl.class);
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addVerifier", link.net(), bmv.getAddress());
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addLink", link.toString());
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addRelay", link.toString(), relay.getAddress());
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addVerifier", next.net(), bmv.getAddress());
+            sm.call(owner, BigInteger.ZERO, bmc.getAddress(), "addLink", next.toString());
+
+            StepProfile first = null;
+            for (int count : batchSizes) {
+                String method = "handleRelayMessage:" + count;
+                String msg = routeRelayMessage(count).toBase64String();
+                profiler.profile(method, () -> sm.call(relay, BigInteger.ZERO, bmc.getAddress(),
+                        "handleRelayMessage", link.toString(), msg));
+                StepProfile profile = profiler.get(method);
+                // rxSeq of the link and txSeq of the next link
+                assertEquals(2, profile.getWrites("links"), method);
+                if (first == null) {
+                    first = profile;
+                } else {
+                    assertEquals(first.getReads("links"), profile.getReads("links"), method);
+                    assertEquals(first.getWrites("links"), profile.getWrites("links"), method);
+                }
+            }
+            profiler.writeReport();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmc;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import foundation.icon.btp.lib.BTPAddress;
+import foundation.icon.btp.test.BTPIntegrationTest;
+import org.junit.jupiter.api.Test;
+import score.Address;
+import score.ArrayDB;
+import score.BranchDB;
+import score.Context;
+import score.annotation.External;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RelaysTest extends TestBase {
+    static final ServiceManager sm = getServiceManager();
+    static final Account owner = sm.createAccount();
+    static final String link = BTPIntegrationTest.Faker.btpLink().toString();
+    static final String other = BTPIntegrationTest.Faker.btpLink().toString();
+
+    /**
+     * Runs the task in the frame of the score, which owns the storage of Relays.
+     */
+    public static class StorageScore {
+        static Runnable task;
+
+        @External
+        public void run() {
+            task.run();
+        }
+    }
+
+    static void run(Runnable task) throws Exception {
+        Score score = sm.deploy(owner, StorageScore.class);
+        StorageScore.task = task;
+        try {
+            sm.call(owner, BigInteger.ZERO, score.getAddress(), "run");
+        } finally {
+            StorageScore.task = null;
+        }
+    }
+
+    static Address[] addresses(int count) {
+        Address[] addrs = new Address[count];
+        for (int i = 0; i < count; i++) {
+            addrs[i] = Address.fromString(String.format("hx%040x", i + 1));
+        }
+        return addrs;
+    }
+
+    static void assertRelays(Relays relays, Address[] expected, Address... removed) {
+        assertArrayEquals(expected, relays.toArray(link));
+        for (Address addr : expected) {
+            assertTrue(relays.contains(link, addr));
+        }
+        for (Address addr : removed) {
+            assertFalse(relays.contains(link, addr));
+        }
+    }
+
+    @Test
+    void removeShouldMoveLastToRemoved() throws Exception {
+        Address[] addrs = addresses(4);
+        run(() -> {
+            Relays relays = new Relays("relays");
+            for (Address addr : addrs) {
+                assertTrue(relays.add(link, addr));
+            }
+            assertFalse(relays.add(link, addrs[0]));
+            assertFalse(relays.contains(other, addrs[0]));
+
+            // first
+            assertTrue(relays.remove(link, addrs[0]));
+            assertRelays(relays, new Address[]{addrs[3], addrs[1], addrs[2]}, addrs[0]);
+            assertFalse(relays.remove(link, addrs[0]));
+
+            // last
+            assertTrue(relays.remove(link, addrs[2]));
+            assertRelays(relays, new Address[]{addrs[3], addrs[1]}, addrs[0], addrs[2]);
+
+            // index of the moved one must be updated
+            assertTrue(relays.remove(link, addrs[3]));
+            assertRelays(relays, new Address[]{addrs[1]}, addrs[0], addrs[2], addrs[3]);
+
+            assertTrue(relays.add(link, addrs[0]));
+            assertRelays(relays, new Address[]{addrs[1], addrs[0]}, addrs[2], addrs[3]);
+
+            relays.clear(link);
+            assertRelays(relays, new Address[]{}, addrs);
+            assertTrue(relays.add(link, addrs[2]));
+            assertRelays(relays, new Address[]{addrs[2]}, addrs[0], addrs[1], addrs[3]);
+        });
+    }
+
+    @Test
+    void migrateShouldIndexLegacyRelays() throws Exception {
+        Address[] addrs = addresses(3);
+        run(() -> {
+            // relays which are registered only in ArrayDB of the link
+            BranchDB<String, ArrayDB<Address>> legacy = Context.newBranchDB("relays", Address.class);
+            for (Address addr : addrs) {
+                legacy.at(link).add(addr);
+            }
+            Relays relays = new Relays("relays");
+            assertArrayEquals(addrs, relays.toArray(link));
+            assertFalse(relays.contains(link, addrs[0]));
+
+            relays.migrate(link);
+            assertRelays(relays, addrs);
+            // idempotent
+            relays.migrate(link);
+            assertRelays(relays, addrs);
+
+            assertFalse(relays.add(link, addrs[1]));
+            assertTrue(relays.remove(link, addrs[0]));
+            assertRelays(relays, new Address[]{addrs[2], addrs[1]}, addrs[0]);
+        });
+    }
+}
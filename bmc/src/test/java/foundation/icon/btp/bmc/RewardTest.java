@@ -190,6 +190,31 @@ public class RewardTest implements BMCIntegrationTest {
         return msg;
     }
 
+    @Test
+    void handleRelayMessageShouldAccumulateRewardOfMessages() {
+        String net = link.net();
+        BigInteger amount = BigInteger.ONE;
+        int count = 3;
+        BTPMessage[] msgs = new BTPMessage[count];
+        for (int i = 0; i < count; i++) {
+            msgs[i] = btpMessageForReward(net, new BigInteger[]{amount});
+        }
+        bmc.handleRelayMessage(
+                rewardChecker(net, relay, amount.multiply(BigInteger.valueOf(count))),
+                link.toString(),
+                MessageTest.mockRelayMessage(msgs).toBase64String());
+    }
+
+    @Test
+    void getRewardsShouldReturnRewardOfNetworks() {
+        String[] networks = new String[]{link.net(), btpAddress.net(), Faker.btpNetwork()};
+        BigInteger[] rewards = iconSpecific.getRewards(relay, networks);
+        assertEquals(networks.length, rewards.length);
+        for (int i = 0; i < networks.length; i++) {
+            assertEquals(bmc.getReward(networks[i], relay), rewards[i]);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("claimRewardShouldSuccessArguments")
     void claimRewardShouldSuccess(
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.score.data;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import org.junit.jupiter.api.Test;
+import score.annotation.External;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnumerableDictDBV2Test extends TestBase {
+    static final ServiceManager sm = getServiceManager();
+    static final Account owner = sm.createAccount();
+
+    /**
+     * Runs the task in the frame of the score, which owns the storage of EnumerableDictDBV2.
+     */
+    public static class StorageScore {
+        static Runnable task;
+
+        @External
+        public void run() {
+            task.run();
+        }
+    }
+
+    static void run(Runnable task) throws Exception {
+        Score score = sm.deploy(owner, StorageScore.class);
+        StorageScore.task = task;
+        try {
+            sm.call(owner, BigInteger.ZERO, score.getAddress(), "run");
+        } finally {
+            StorageScore.task = null;
+        }
+    }
+
+    static EnumerableDictDBV2<String, String> newDB() {
+        return new EnumerableDictDBV2<>("db", String.class, String.class, true);
+    }
+
+    static void assertContainsValues(EnumerableDictDBV2<String, String> db, List<String> contains, String... notContains) {
+        for (String value : contains) {
+            assertTrue(db.containsValue(value), value);
+        }
+        for (String value : notContains) {
+            assertFalse(db.containsValue(value), value);
+        }
+    }
+
+    @Test
+    void containsValueShouldApplyCachedUpdates() throws Exception {
+        run(() -> {
+            EnumerableDictDBV2<String, String> db = newDB();
+            db.put("a", "v1");
+            db.put("b", "v1");
+            db.put("c", "v2");
+            assertContainsValues(db, List.of("v1", "v2"), "v3");
+
+            db.beginCache();
+            // updates of existing values are written by flushCache
+            assertEquals("v1", db.put("a", "v3"));
+            assertContainsValues(db, List.of("v1", "v2", "v3"));
+            assertEquals("v1", db.put("b", "v3"));
+            assertContainsValues(db, List.of("v2", "v3"), "v1");
+            // updated again in the cache
+            assertEquals("v3", db.put("a", "v2"));
+            assertContainsValues(db, List.of("v2", "v3"), "v1");
+            assertEquals("v2", db.put("c", "v1"));
+            assertContainsValues(db, List.of("v1", "v2", "v3"));
+            // new entry is written at once
+            assertNull(db.put("d", "v4"));
+            assertContainsValues(db, List.of("v1", "v2", "v3", "v4"));
+            assertEquals(Map.of("a", "v2", "b", "v3", "c", "v1", "d", "v4"), db.toMap());
+            assertTrue(db.flushCache());
+
+            assertContainsValues(db, List.of("v1", "v2", "v3", "v4"));
+            assertEquals(Map.of("a", "v2", "b", "v3", "c", "v1", "d", "v4"), db.toMap());
+
+            // value index is updated with the value in storage
+            db.remove("b");
+            assertContainsValues(db, List.of("v1", "v2", "v4"), "v3");
+            db.remove("c");
+            assertContainsValues(db, List.of("v2", "v4"), "v1", "v3");
+            db.clear();
+            assertContainsValues(db, List.of(), "v1", "v2", "v3", "v4");
+        });
+    }
+
+    @Test
+    void removeThenPutInCache() throws Exception {
+        run(() -> {
+            EnumerableDictDBV2<String, String> db = newDB();
+            db.put("a", "v1");
+            db.put("b", "v2");
+
+            db.beginCache();
+            assertEquals("v1", db.remove("a"));
+            assertFalse(db.containsKey("a"));
+            assertNull(db.get("a"));
+            assertNull(db.remove("a"));
+            assertContainsValues(db, List.of("v2"), "v1");
+            assertNull(db.put("a", "v3"));
+            assertEquals("v3", db.get("a"));
+            assertContainsValues(db, List.of("v2", "v3"), "v1");
+
+            // put then remove
+            assertEquals("v2", db.put("b", "v4"));
+            assertEquals("v4", db.remove("b"));
+            assertNull(db.get("b"));
+            assertContainsValues(db, List.of("v3"), "v1", "v2", "v4");
+            assertTrue(db.flushCache());
+
+            assertEquals(1, db.size());
+            assertEquals(List.of("a"), db.keySet());
+            assertEquals("v3", db.get("a"));
+            assertNull(db.get("b"));
+            assertContainsValues(db, List.of("v3"), "v1", "v2", "v4");
+        });
+    }
+
+    @Test
+    void keysShouldReturnPage() throws Exception {
+        run(() -> {
+            EnumerableDictDBV2<String, String> db = newDB();
+            for (int i = 0; i < 10; i++) {
+                db.put("k" + i, "v" + i);
+            }
+            assertEquals(List.of("k0", "k1", "k2"), db.keys(0, 3));
+            assertEquals(List.of("k3", "k4", "k5"), db.keys(3, 3));
+            assertEquals(List.of("k9"), db.keys(9, 3));
+            assertEquals(List.of(), db.keys(10, 3));
+            assertEquals(List.of(), db.keys(3, 0));
+            assertEquals(List.of("k0"), db.keys(-1, 2));
+
+            // the last one is moved to the removed one
+            db.remove("k1");
+            assertEquals(List.of("k0", "k9", "k2"), db.keys(0, 3));
+            assertEquals(List.of("k6", "k7", "k8"), db.keys(6, 3));
+            assertEquals(db.keySet(), db.keys(0, db.size()));
+        });
+    }
+
+    @Test
+    void migrateShouldMoveEntries() throws Exception {
+        run(() -> {
+            EnumerableDictDB<String, String> legacy = new EnumerableDictDB<>("db", String.class, String.class);
+            for (int i = 0; i < 5; i++) {
+                legacy.put("k" + i, i % 2 == 0 ? "even" : "odd");
+            }
+            legacy.remove("k1");
+            Map<String, String> expected = legacy.toMap();
+            List<String> keys = legacy.keySet();
+
+            EnumerableDictDBV2<String, String> db = newDB();
+            db.migrate(legacy);
+            assertEquals(0, legacy.size());
+            assertNull(legacy.get("k0"));
+
+            assertEquals(keys, db.keySet());
+            assertEquals(expected, db.toMap());
+            assertContainsValues(db, List.of("even", "odd"));
+            db.remove("k3");
+            assertContainsValues(db, List.of("even"), "odd");
+            db.remove("k0");
+            db.remove("k2");
+            assertContainsValues(db, List.of("even"), "odd");
+            db.remove("k4");
+            assertContainsValues(db, List.of(), "even", "odd");
+        });
+    }
+}
@@ -18,6 +18,10 @@ package foundation.icon.btp.bmv.bsc;
 import foundation.icon.btp.lib.BMV;
 import foundation.icon.btp.lib.BMVStatus;
 import foundation.icon.btp.lib.BTPAddress;
+import foundation.icon.btp.lib.MTAException;
+import foundation.icon.btp.lib.MerkleTreeAccumulator;
+import foundation.icon.btp.lib.MerkleTreeAccumulatorDB;
+import foundation.icon.btp.lib.mpt.MerklePatriciaTrie;
 import score.Address;
 import score.Context;
 import score.DictDB;
@@ -37,8 +41,9 @@ public class BTPMessageVerifier implements BMV {
     private final VarDB<BigInteger> cid = Context.newVarDB("cid", BigInteger.class);
     private final VarDB<BlockTree> tree = Context.newVarDB("tree", BlockTree.class);
     private final VarDB<Snapshot> snap = Context.newVarDB("snap", Snapshot.class);
-    private final VarDB<MerkleTreeAccumulator> mta = Context.newVarDB("mta", MerkleTreeAccumulator.class);
+    private final MerkleTreeAccumulatorDB mta = new MerkleTreeAccumulatorDB("mta");
     private final DictDB<byte[], Header> heads = Context.newDictDB("heads", Header.class);
+    private final DictDB<byte[], Checkpoint> checkpoints = Context.newDictDB("checkpoints", Checkpoint.class);
 
     public BTPMessageVerifier(Address bmc, BigInteger chainId, byte[] header,
                               byte[][] recents, byte[][] validators) {
@@ -64,18 +69,23 @@ public class BTPMessageVerifier implements BMV {
         this.cid.set(chainId);
         this.tree.set(new BlockTree(head.getHash()));
         this.mta.set(mta);
+        // remove MerkleTreeAccumulator of the previous version which was stored as a whole
+        Context.newVarDB("mta", MerkleTreeAccumulator.class).set(null);
         this.heads.set(head.getHash().toBytes(), head);
-        this.snap.set(new Snapshot(
+        Snapshot snap = new Snapshot(
                 head.getHash(),
                 head.getNumber(),
                 new EthAddresses(toSortedList(validators)),
                 new EthAddresses(head.getValidators()),
-                new EthAddresses(toSortedList(recents))));
+                new EthAddresses(toSortedList(recents)));
+        this.snap.set(snap);
+        this.checkpoints.set(head.getHash().toBytes(),
+                new Checkpoint(snap, new EthAddresses(new ArrayList<>()), false));
     }
 
     @External(readonly = true)
     public BMVStatus getStatus() {
-        MerkleTreeAccumulator mta = this.mta.get();
+        MerkleTreeAccumulatorDB.Accumulator mta = this.mta.get();
         BlockTree tree = this.tree.get();
         Header head = this.heads.get(tree.getRoot().toBytes());
         BMVStatus status = new BMVStatus();
@@ -89,7 +99,7 @@ public class BTPMessageVerifier implements BMV {
         checkAccessible();
 
         BlockTree tree = this.tree.get();
-        MerkleTreeAccumulator mta = this.mta.get();
+        MerkleTreeAccumulatorDB.Accumulator mta = this.mta.get();
         ChainConfig config = ChainConfig.fromChainID(this.cid.get());
         List<Header> confirmations = new ArrayList<>();
         List<MessageEvent> msgs = new ArrayList<>();
@@ -110,7 +120,7 @@ public class BTPMessageVerifier implements BMV {
         }
 
         this.tree.set(tree);
-        this.mta.set(mta);
+        mta.flush();
 
         int i = 0;
         byte[][]ret = new byte[msgs.size()][];
@@ -120,28 +130,40 @@ public class BTPMessageVerifier implements BMV {
         return ret;
     }
 
-    private List<Header> handleBlockUpdate(ChainConfig config, BlockUpdate bu, BlockTree tree, MerkleTreeAccumulator mta) {
+    private List<Header> handleBlockUpdate(ChainConfig config, BlockUpdate bu, BlockTree tree, MerkleTreeAccumulatorDB.Accumulator mta) {
         List<Header> newHeads = new ArrayList<>(bu.getHeaders());
         if (newHeads.isEmpty()) {
             return new ArrayList<>();
         }
 
         Hash hash = newHeads.get(0).getParentHash();
-        List<Hash> ancestors = tree.getStem(hash);
-        Context.require(ancestors.size() > 0, "Inconsistent block");
-
-        // load heads in storage
-        Snapshot snap = this.snap.get();
         Map<Hash, Header> heads = new HashMap<>();
         Map<Hash, Snapshot> snaps = new HashMap<>();
-        for (Hash ancestor : ancestors) {
-            Header head = this.heads.get(ancestor.toBytes());
-            heads.put(ancestor, head);
-
-            if (snap.getNumber().longValue() + 1L == head.getNumber().longValue()) {
-                snap = snap.apply(config, head);
+        List<Hash> ancestors = null;
+        Snapshot snap;
+        EthAddresses signers;
+        boolean epoch;
+        Checkpoint checkpoint = this.checkpoints.get(hash.toBytes());
+        if (checkpoint != null) {
+            // resume from the snapshot of the tip
+            snap = checkpoint.getSnapshot();
+            heads.put(hash, this.heads.get(hash.toBytes()));
+            snaps.put(hash, snap);
+            signers = new EthAddresses(checkpoint.getSigners());
+            epoch = checkpoint.isEpoch();
+        } else {
+            ancestors = tree.getStem(hash);
+            Context.require(ancestors.size() > 0, "Inconsistent block");
+            snap = loadAncestors(config, ancestors, heads, snaps);
+            signers = new EthAddresses(new ArrayList<>());
+            epoch = false;
+            for (int i = 1; i < ancestors.size(); i++) {
+                Header head = heads.get(ancestors.get(i));
+                if (!signers.contains(head.getCoinbase())) {
+                    signers.add(head.getCoinbase());
+                }
+                epoch |= config.isEpoch(head.getNumber());
             }
-            snaps.put(ancestor, snap);
         }
 
         Header parent = heads.get(hash);
@@ -152,38 +174,88 @@ public class BTPMessageVerifier implements BMV {
             snaps.put(snap.getHash(), snap);
             heads.put(snap.getHash(), newHead);
             parent = newHead;
+            if (!signers.contains(newHead.getCoinbase())) {
+                signers.add(newHead.getCoinbase());
+            }
+            epoch |= config.isEpoch(newHead.getNumber());
+        }
+        Hash tip = snap.getHash();
+        this.checkpoints.set(hash.toBytes(), null);
+
+        // without epoch block, candidates are same in the path, so that nothing is confirmed
+        // if the signers in the path are not enough
+        if (!epoch && countBy(signers, snap.getCandidates()) <= snap.getCandidates().size() * 2 / 3) {
+            for (Header newHead : newHeads) {
+                this.heads.set(newHead.getHash().toBytes(), newHead);
+            }
+            this.checkpoints.set(tip.toBytes(), new Checkpoint(snap, signers, false));
+            return new ArrayList<>();
         }
 
-        List<Header> confirmations = confirm(config, snaps, heads, snap.getHash());
+        if (ancestors == null) {
+            ancestors = tree.getStem(hash);
+            loadAncestors(config, ancestors, heads, snaps);
+        }
+        List<Header> confirmations = confirm(config, snaps, heads, tip);
         if (confirmations.size() > 0) {
             Hash newRoot = confirmations.get(confirmations.size()-1).getHash();
             this.snap.set(snaps.get(newRoot));
             tree.prune(newRoot, new BlockTree.OnRemoveListener() {
                 @Override
                 public void onRemove(Hash node) {
-                    if (ancestors.contains(node)) {
-                        BTPMessageVerifier.this.heads.set(node.toBytes(), null);
-                    } else {
-                        for (Header newHead : newHeads) {
-                            if (newHead.getHash().equals(node)) {
-                                newHeads.remove(newHead);
-                                break;
-                            }
+                    BTPMessageVerifier.this.checkpoints.set(node.toBytes(), null);
+                    for (Header newHead : newHeads) {
+                        if (newHead.getHash().equals(node)) {
+                            newHeads.remove(newHead);
+                            return;
                         }
                     }
+                    BTPMessageVerifier.this.heads.set(node.toBytes(), null);
                 }
             });
-            for (Header newHead : newHeads) {
-                this.heads.set(newHead.getHash().toBytes(), newHead);
-            }
             for (Header confirmation : confirmations) {
                 mta.add(confirmation.getHash().toBytes());
             }
         }
+        for (Header newHead : newHeads) {
+            this.heads.set(newHead.getHash().toBytes(), newHead);
+        }
+
+        List<Hash> path = tree.getStem(tip);
+        signers = new EthAddresses(new ArrayList<>());
+        epoch = false;
+        for (int i = 1; i < path.size(); i++) {
+            Header head = heads.get(path.get(i));
+            if (!signers.contains(head.getCoinbase())) {
+                signers.add(head.getCoinbase());
+            }
+            epoch |= config.isEpoch(head.getNumber());
+        }
+        this.checkpoints.set(tip.toBytes(), new Checkpoint(snap, signers, epoch));
         return confirmations;
     }
 
-    private Header handleBlockProof(BlockProof bp, MerkleTreeAccumulator mta) {
+    /**
+     * Loads heads of ancestors in storage and replays snapshots from the root
+     *
+     * @return snapshot of the last ancestor
+     */
+    private Snapshot loadAncestors(ChainConfig config, List<Hash> ancestors,
+            Map<Hash, Header> heads, Map<Hash, Snapshot> snaps) {
+        Snapshot snap = this.snap.get();
+        for (Hash ancestor : ancestors) {
+            Header head = this.heads.get(ancestor.toBytes());
+            heads.put(ancestor, head);
+
+            if (snap.getNumber().longValue() + 1L == head.getNumber().longValue()) {
+                snap = snap.apply(config, head);
+            }
+            snaps.put(ancestor, snap);
+        }
+        return snap;
+    }
+
+    private Header handleBlockProof(BlockProof bp, MerkleTreeAccumulatorDB.Accumulator mta) {
         Header head = bp.getHeader();
         if (head.getNumber().compareTo(BigInteger.valueOf(mta.getHeight())) > 0) {
             throw BMVException.unknown("Invalid block proof height - " +
@@ -218,13 +290,13 @@ public class BTPMessageVerifier implements BMV {
         }
 
         Context.require(head != null, "No confirmed header for message proof");
+        MerklePatriciaTrie prover = new MerklePatriciaTrie("keccak-256", head.getReceiptHash().toBytes());
         for (ReceiptProof rp : mp.getReceiptProofs()) {
             Receipt receipt;
             byte[] receiptBytes;
             try {
-                receiptBytes = MerklePatriciaTree.prove(
-                        head.getReceiptHash().toBytes(), rp.getKey(), rp.getProof());
-            } catch (MerklePatriciaTree.MPTException e) {
+                receiptBytes = prover.prove(rp.getKey(), rp.getProof());
+            } catch (MerklePatriciaTrie.MPTException e) {
                 throw BMVException.unknown(e.getMessage());
             }
 
@@ -345,6 +417,16 @@ public class BTPMessageVerifier implements BMV {
         return confirmations;
     }
 
+    private static int countBy(EthAddresses vals, EthAddresses newVals) {
+        int cnt = 0;
+        for (int i = 0; i < newVals.size(); i++) {
+            if (vals.contains(newVals.get(i))) {
+                cnt++;
+            }
+        }
+        return cnt;
+    }
+
     private static int countBy(Map<EthAddress, Boolean> vals, EthAddresses newVals) {
         int cnt = 0;
         for (int i = 0; i < newVals.size(); i++) {
@@ -26,73 +26,92 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+/**
+ * Tree of unfinalized blocks rooted at the last finalized block.
+ * Each node keeps the pointer to its parent and the depth from the root of the tree when it's loaded,
+ * so that {@link #getStem(Hash)} walks only the path to the root.
+ * It's serialized as a flat list of (number of children, hash) in breadth-first order.
+ */
 public class BlockTree {
 
     private Hash root;
-    private Map<Hash, List<Hash>> nodes;
+    private Map<Hash, Node> nodes;
+
+    private static class Node {
+        private Hash parent;
+        private final int depth;
+        private final List<Hash> children = new ArrayList<>();
+
+        private Node(Hash parent, int depth) {
+            this.parent = parent;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof Node)) {
+                return false;
+            }
+            return children.equals(((Node) o).children);
+        }
+
+        @Override
+        public String toString() {
+            return children.toString();
+        }
+    }
 
     public BlockTree(Hash root) {
         this.root = root;
-        this.nodes = new HashMap<>() {{
-            put(root, new ArrayList<>());
-        }};
+        this.nodes = new HashMap<>();
+        this.nodes.put(root, new Node(null, 0));
     }
 
-    private BlockTree(Hash root, Map<Hash, List<Hash>> nodes) {
+    private BlockTree(Hash root, Map<Hash, Node> nodes) {
         this.root = root;
         this.nodes = nodes;
     }
 
-    private static class Item {
-        private int nleaves;
-        private Hash id;
-
-        private Item(int nleaves, Hash id) {
-            this.nleaves = nleaves;
-            this.id = id;
-        }
-    }
-
     public static BlockTree readObject(ObjectReader r) {
-        Map<Hash, List<Hash>> nodes = new HashMap<>();
+        Map<Hash, Node> nodes = new HashMap<>();
+        List<Hash> queue = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
 
         r.beginList();
-        int nleaves = r.readInt();
+        counts.add(r.readInt());
         Hash root = Hash.of(r.readByteArray());
-        List<Item> items = new ArrayList<>() {{
-            add(new Item(nleaves, root));
-        }};
-
-        while(items.size() > 0) {
-            Item item = items.remove(0);
-            Hash id = item.id;
-            List<Hash> children = new ArrayList<>();
-            for (int i = 0; i < item.nleaves; i++) {
-                Item c = new Item(r.readInt(), Hash.of(r.readByteArray()));
-                children.add(c.id);
-                items.add(c);
+        queue.add(root);
+        nodes.put(root, new Node(null, 0));
+        for (int i = 0; i < queue.size(); i++) {
+            Hash id = queue.get(i);
+            Node node = nodes.get(id);
+            int n = counts.get(i);
+            for (int j = 0; j < n; j++) {
+                counts.add(r.readInt());
+                Hash child = Hash.of(r.readByteArray());
+                node.children.add(child);
+                nodes.put(child, new Node(id, node.depth + 1));
+                queue.add(child);
             }
-            nodes.put(id, children);
         }
         r.end();
-        BlockTree bt = new BlockTree(root, nodes);
-        return bt;
+        return new BlockTree(root, nodes);
     }
 
     public static void writeObject(ObjectWriter w, BlockTree o) {
-        List<Hash> children = new ArrayList<>() {{
-            add(o.root);
-        }};
-
-        w.beginList(o.nodes.size());
-        while (children.size() > 0) {
-            Hash node = children.remove(0);
-            List<Hash> tmp = o.nodes.get(node);
-            w.write(tmp.size());
-            w.write(node);
-            if (tmp.size() > 0) {
-                children.addAll(tmp);
-            }
+        List<Hash> queue = new ArrayList<>();
+        queue.add(o.root);
+
+        w.beginList(o.nodes.size() * 2);
+        for (int i = 0; i < queue.size(); i++) {
+            Hash id = queue.get(i);
+            List<Hash> children = o.nodes.get(id).children;
+            w.write(children.size());
+            w.write(id);
+            queue.addAll(children);
         }
         w.end();
     }
@@ -112,40 +131,39 @@ public class BlockTree {
         return root;
     }
 
+    /**
+     * @return path from the root to the given node, or empty list if the node doesn't exist
+     */
     public List<Hash> getStem(Hash id) {
-        List<Hash> ret = new ArrayList<>();
-        if (!this.nodes.containsKey(id)) {
-            return ret;
+        Node node = this.nodes.get(id);
+        if (node == null) {
+            return new ArrayList<>();
         }
 
+        // sorted by root to leaf
+        int len = node.depth - this.nodes.get(this.root).depth + 1;
+        Hash[] stem = new Hash[len];
         Hash target = id;
-        while (!target.equals(this.root)) {
-            for (Hash key : this.nodes.keySet()) {
-                List<Hash> children = this.nodes.get(key);
-                if (children.contains(target)) {
-                    ret.add(target);
-                    target = key;
-                    break;
-                }
+        for (int i = len - 1; i >= 0; i--) {
+            stem[i] = target;
+            target = node.parent;
+            if (target != null) {
+                node = this.nodes.get(target);
             }
         }
-        ret.add(this.root);
-
-        // sorted by root to leaf
-        for (int i = 0; i < ret.size()/2; i++) {
-            Hash tmp = ret.get(i);
-            ret.set(i, ret.get(ret.size()-1-i));
-            ret.set(ret.size()-1-i, tmp);
+        List<Hash> ret = new ArrayList<>(len);
+        for (Hash hash : stem) {
+            ret.add(hash);
         }
         return ret;
     }
 
     public void add(Hash parent, Hash node) {
         Context.require(!this.nodes.containsKey(node), "already exist node");
-        Context.require(this.nodes.containsKey(parent), "no such parent node");
-        List<Hash> descendants = this.nodes.get(parent);
-        descendants.add(node);
-        this.nodes.put(node, new ArrayList<>());
+        Node p = this.nodes.get(parent);
+        Context.require(p != null, "no such parent node");
+        p.children.add(node);
+        this.nodes.put(node, new Node(parent, p.depth + 1));
     }
 
     public void add(Header head) {
@@ -153,37 +171,41 @@ public class BlockTree {
             return;
         }
 
-        if (!nodes.containsKey(head.getParentHash())) {
+        Node p = nodes.get(head.getParentHash());
+        if (p == null) {
             throw new NoSuchElementException("No such parent node");
         }
 
-        List<Hash> descendants = nodes.get(head.getParentHash());
-        descendants.add(head.getHash());
-        nodes.put(head.getHash(), new ArrayList<>());
+        p.children.add(head.getHash());
+        nodes.put(head.getHash(), new Node(head.getParentHash(), p.depth + 1));
     }
 
     public interface OnRemoveListener {
         void onRemove(Hash node);
     }
 
+    /**
+     * Removes all nodes except the subtree of the given node which becomes the new root.
+     */
     public void prune(Hash until, OnRemoveListener lst) {
-        List<Hash> removals = new ArrayList<>() {{ add(root); }};
-        while (removals.size() > 0) {
-            List<Hash> buf = new ArrayList<>();
-            for (Hash removal : removals) {
-                List<Hash> leaves = nodes.get(removal);
-                for (Hash leaf : leaves) {
-                    if (!leaf.equals(until)) {
-                        buf.add(leaf);
-                    }
-                }
-                nodes.remove(removal);
-                if (lst != null) {
-                    lst.onRemove(removal);
+        if (until.equals(root)) {
+            return;
+        }
+        List<Hash> removals = new ArrayList<>();
+        removals.add(root);
+        for (int i = 0; i < removals.size(); i++) {
+            Hash removal = removals.get(i);
+            Node node = nodes.remove(removal);
+            for (Hash child : node.children) {
+                if (!child.equals(until)) {
+                    removals.add(child);
                 }
             }
-            removals = buf;
+            if (lst != null) {
+                lst.onRemove(removal);
+            }
         }
+        nodes.get(until).parent = null;
         root = until;
     }
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmv.bsc;
+
+import score.ObjectReader;
+import score.ObjectWriter;
+
+/**
+ * Snapshot of an unfinalized tip of BlockTree, with distinct signers of the blocks
+ * from the root(exclusive) to the tip(inclusive).
+ * Signers could be more than the actual ones after pruning, which only makes
+ * the check for confirmation conservative.
+ */
+public class Checkpoint {
+    private final Snapshot snapshot;
+    private final EthAddresses signers;
+    // whether there is epoch block in the path, which could change candidates
+    private final boolean epoch;
+
+    public Checkpoint(Snapshot snapshot, EthAddresses signers, boolean epoch) {
+        this.snapshot = snapshot;
+        this.signers = signers;
+        this.epoch = epoch;
+    }
+
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public EthAddresses getSigners() {
+        return signers;
+    }
+
+    public boolean isEpoch() {
+        return epoch;
+    }
+
+    public static void writeObject(ObjectWriter w, Checkpoint o) {
+        w.beginList(3);
+        w.write(o.snapshot);
+        w.write(o.signers);
+        w.write(o.epoch);
+        w.end();
+    }
+
+    public static Checkpoint readObject(ObjectReader r) {
+        r.beginList();
+        Snapshot snapshot = r.read(Snapshot.class);
+        EthAddresses signers = r.read(EthAddresses.class);
+        boolean epoch = r.readBoolean();
+        r.end();
+        return new Checkpoint(snapshot, signers, epoch);
+    }
+
+    @Override
+    public String toString() {
+        return "Checkpoint{" +
+                "snapshot=" + snapshot +
+                ", signers=" + signers +
+                ", epoch=" + epoch +
+                '}';
+    }
+}
@@ -83,12 +83,20 @@ public class EthAddress implements Comparable<EthAddress> {
 
     @Override
     public int compareTo(EthAddress o) {
-        return StringUtil.bytesToHex(data).compareTo(StringUtil.bytesToHex(o.data));
+        // same order as comparing hex strings
+        int len = Math.min(data.length, o.data.length);
+        for (int i = 0; i < len; i++) {
+            int c = (data[i] & 0xff) - (o.data[i] & 0xff);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return data.length - o.data.length;
     }
 
     @Override
     public int hashCode() {
-        return StringUtil.toString(data).hashCode();
+        return Arrays.hashCode(data);
     }
 
 
@@ -23,8 +23,17 @@ import scorex.util.ArrayList;
 
 import java.util.List;
 
+/**
+ * List of addresses which keeps the given order, because order of recent signers matters.
+ * Membership is checked by linear scan, or by binary search on the sorted index if it's enabled
+ * by {@link #indexed()}. The index is built on demand, and it's free to build if the list is
+ * already sorted like validators.
+ */
 public class EthAddresses {
     private List<EthAddress> addresses;
+    private boolean indexed;
+    // sorted index for contains, reset on modification
+    private EthAddress[] sorted;
 
     public EthAddresses(EthAddress[] addresses) {
         this.addresses = new ArrayList<>(List.of(addresses));
@@ -65,15 +74,49 @@ public class EthAddresses {
         return addresses.get(i);
     }
 
+    /**
+     * Enables the sorted index for the list which is looked up many times without modification,
+     * like validators and candidates which are shared by the snapshots of an epoch.
+     * Lists which are created for each header like recents are cheaper to scan than to index.
+     *
+     * @return this
+     */
+    public EthAddresses indexed() {
+        indexed = true;
+        return this;
+    }
+
     public boolean contains(EthAddress address) {
-        return addresses.contains(address);
+        if (!indexed) {
+            return addresses.contains(address);
+        }
+        if (sorted == null) {
+            sorted = toArray();
+            sort(sorted);
+        }
+        int lo = 0;
+        int hi = sorted.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = sorted[mid].compareTo(address);
+            if (c < 0) {
+                lo = mid + 1;
+            } else if (c > 0) {
+                hi = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void add(EthAddress newAddress) {
         addresses.add(newAddress);
+        sorted = null;
     }
 
     public EthAddress remove(int i) {
+        sorted = null;
         return addresses.remove(i);
     }
 
@@ -111,33 +154,30 @@ public class EthAddresses {
         w.end();
     }
 
+    /**
+     * Insertion sort which takes linear time for the sorted input
+     */
     public static void sort(EthAddress[] a) {
-        int len = a.length;
-        for (int i = 0; i < len; i++) {
+        for (int i = 1; i < a.length; i++) {
             EthAddress v = a[i];
-            for (int j = i+1; j < len; j++) {
-                if (v.compareTo(a[j]) > 0) {
-                    EthAddress t = v;
-                    v = a[j];
-                    a[j] = t;
-                }
+            int j = i - 1;
+            while (j >= 0 && a[j].compareTo(v) > 0) {
+                a[j + 1] = a[j];
+                j--;
             }
-            a[i] = v;
+            a[j + 1] = v;
         }
     }
 
     public static void sort(List<EthAddress> a) {
-        int len = a.size();
-        for (int i = 0; i < len; i++) {
+        for (int i = 1; i < a.size(); i++) {
             EthAddress v = a.get(i);
-            for (int j = i+1; j < len; j++) {
-                if (v.compareTo(a.get(j)) > 0) {
-                    EthAddress t = v;
-                    v = a.get(j);
-                    a.set(j, t);
-                }
+            int j = i - 1;
+            while (j >= 0 && a.get(j).compareTo(v) > 0) {
+                a.set(j + 1, a.get(j));
+                j--;
             }
-            a.set(i, v);
+            a.set(j + 1, v);
         }
     }
 }
@@ -52,8 +52,11 @@ public class Header {
     private Hash mixDigest;
     private byte[] nonce;
 
-    // caches
+    // caches, which are not serialized because the hash of header is the hash of its encoding
     private Hash hashCache;
+    private BigInteger sealCid;
+    private byte[] sealHashCache;
+    private EthAddress signerCache;
 
     public Header(Hash parentHash, Hash uncleHash, EthAddress coinbase, Hash root,
             Hash txHash, Hash receiptHash, byte[] bloom, BigInteger difficulty,
@@ -151,13 +154,26 @@ public class Header {
 
     public EthAddress getSigner(BigInteger cid) {
         Context.require(extra.length >= EXTRA_SEAL, "Invalid seal bytes");
-        byte[] signature = Arrays.copyOfRange(extra, extra.length - EXTRA_SEAL, extra.length);
-        byte[] pubkey = Context.recoverKey("ecdsa-secp256k1", getSealHash(cid), signature, false);
-        byte[] pubhash  = Context.hash("keccak-256", Arrays.copyOfRange(pubkey, 1, pubkey.length));
-        return new EthAddress(Arrays.copyOfRange(pubhash, 12, pubhash.length));
+        byte[] sealHash = getSealHash(cid);
+        if (signerCache == null) {
+            byte[] signature = Arrays.copyOfRange(extra, extra.length - EXTRA_SEAL, extra.length);
+            byte[] pubkey = Context.recoverKey("ecdsa-secp256k1", sealHash, signature, false);
+            byte[] pubhash  = Context.hash("keccak-256", Arrays.copyOfRange(pubkey, 1, pubkey.length));
+            signerCache = new EthAddress(Arrays.copyOfRange(pubhash, 12, pubhash.length));
+        }
+        return signerCache;
     }
 
     private byte[] getSealHash(BigInteger cid) {
+        if (sealHashCache == null || !cid.equals(sealCid)) {
+            sealHashCache = computeSealHash(cid);
+            sealCid = cid;
+            signerCache = null;
+        }
+        return sealHashCache;
+    }
+
+    private byte[] computeSealHash(BigInteger cid) {
         ByteArrayObjectWriter w = Context.newByteArrayObjectWriter("RLP");
         w.beginList(16);
         w.write(cid);
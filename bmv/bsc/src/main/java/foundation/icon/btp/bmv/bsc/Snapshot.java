@@ -32,8 +32,8 @@ public class Snapshot {
             EthAddresses candidates, EthAddresses recents) {
         this.hash = hash;
         this.number = number;
-        this.validators = validators;
-        this.candidates = candidates;
+        this.validators = validators.indexed();
+        this.candidates = candidates.indexed();
         this.recents = recents;
     }
 
@@ -60,8 +60,7 @@ public class Snapshot {
 
     public boolean inturn(EthAddress validator) {
         BigInteger offset = number.add(BigInteger.ONE).mod(BigInteger.valueOf(validators.size()));
-        EthAddress[] vals = validators.toArray();
-        return vals[offset.intValue()].equals(validator);
+        return validators.get(offset.intValue()).equals(validator);
     }
 
     public Snapshot apply(ChainConfig config, Header head) {
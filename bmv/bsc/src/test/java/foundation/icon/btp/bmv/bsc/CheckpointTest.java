@@ -0,0 +1,260 @@
+package foundation.icon.btp.bmv.bsc;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import foundation.icon.btp.lib.BMVStatus;
+import foundation.icon.btp.lib.BTPAddress;
+import org.bouncycastle.asn1.x9.X9ECParameters;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.ec.CustomNamedCurves;
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.crypto.params.ECPrivateKeyParameters;
+import org.bouncycastle.crypto.signers.ECDSASigner;
+import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
+import org.junit.jupiter.api.Test;
+import score.Address;
+import score.ByteArrayObjectWriter;
+import score.Context;
+import score.DictDB;
+import score.annotation.External;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Relays block updates of a private chain which is signed in the test, so that
+ * the headers and the checkpoints in storage can be checked after each relay message.
+ */
+public class CheckpointTest extends TestBase {
+    static final ServiceManager sm = getServiceManager();
+    static final Account BMC = sm.createAccount(Integer.MAX_VALUE);
+    static final BTPAddress BMC_BTP_ADDR = BTPAddress.parse("btp://0x1.icon/cx123");
+
+    private static final BigInteger CHAIN_ID = BigInteger.valueOf(99);
+    private static final X9ECParameters CURVE = CustomNamedCurves.getByName("secp256k1");
+    private static final ECDomainParameters DOMAIN = new ECDomainParameters(
+            CURVE.getCurve(), CURVE.getG(), CURVE.getN(), CURVE.getH());
+    private static final BigInteger GAS_LIMIT = BigInteger.valueOf(30000000);
+    // sorted by address as validators in the snapshot, so that block N is in-turn for VALIDATORS[N % 4]
+    private static final Validator[] VALIDATORS = newValidators(4);
+    private static final Header GENESIS = newHeader(Hash.EMPTY, 0, 0, VALIDATORS[0], true, VALIDATORS);
+
+    /**
+     * BTPMessageVerifier which exposes whether a header or a checkpoint of the hash exists in storage
+     */
+    public static class StorageBMV extends BTPMessageVerifier {
+        private final DictDB<byte[], Header> storedHeads = Context.newDictDB("heads", Header.class);
+        private final DictDB<byte[], Checkpoint> storedCheckpoints = Context.newDictDB("checkpoints", Checkpoint.class);
+
+        public StorageBMV(Address bmc, BigInteger chainId, byte[] header, byte[][] recents, byte[][] validators) {
+            super(bmc, chainId, header, recents, validators);
+        }
+
+        @External(readonly = true)
+        public boolean hasHead(byte[] _hash) {
+            return storedHeads.get(_hash) != null;
+        }
+
+        @External(readonly = true)
+        public boolean hasCheckpoint(byte[] _hash) {
+            return storedCheckpoints.get(_hash) != null;
+        }
+    }
+
+    static class Validator {
+        private final BigInteger key;
+        private final byte[] publicKey;
+        private final EthAddress address;
+
+        Validator(BigInteger key) {
+            this.key = key;
+            this.publicKey = DOMAIN.getG().multiply(key).normalize().getEncoded(false);
+            byte[] hash = Context.hash("keccak-256", Arrays.copyOfRange(publicKey, 1, publicKey.length));
+            this.address = new EthAddress(Arrays.copyOfRange(hash, 12, hash.length));
+        }
+
+        byte[] sign(byte[] hash) {
+            ECDSASigner signer = new ECDSASigner(new HMacDSAKCalculator(new SHA256Digest()));
+            signer.init(true, new ECPrivateKeyParameters(key, DOMAIN));
+            BigInteger[] rs = signer.generateSignature(hash);
+            BigInteger s = rs[1].compareTo(DOMAIN.getN().shiftRight(1)) > 0 ? DOMAIN.getN().subtract(rs[1]) : rs[1];
+            byte[] sig = new byte[Header.EXTRA_SEAL];
+            System.arraycopy(toBytes32(rs[0]), 0, sig, 0, 32);
+            System.arraycopy(toBytes32(s), 0, sig, 32, 32);
+            for (byte v = 0; v < 2; v++) {
+                sig[64] = v;
+                if (Arrays.equals(publicKey, Context.recoverKey("ecdsa-secp256k1", hash, sig, false))) {
+                    return sig;
+                }
+            }
+            throw new IllegalStateException("no recovery id");
+        }
+
+        private static byte[] toBytes32(BigInteger v) {
+            byte[] b = v.toByteArray();
+            byte[] ret = new byte[32];
+            int len = Math.min(b.length, 32);
+            System.arraycopy(b, b.length - len, ret, 32 - len, len);
+            return ret;
+        }
+    }
+
+    private static Validator[] newValidators(int n) {
+        List<Validator> validators = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            byte[] seed = Context.hash("keccak-256", ("validator" + i).getBytes());
+            validators.add(new Validator(new BigInteger(1, seed).mod(DOMAIN.getN())));
+        }
+        validators.sort((a, b) -> a.address.compareTo(b.address));
+        return validators.toArray(new Validator[0]);
+    }
+
+    private static byte[] sealHash(Header h) {
+        ByteArrayObjectWriter w = Context.newByteArrayObjectWriter("RLP");
+        w.beginList(16);
+        w.write(CHAIN_ID);
+        w.write(h.getParentHash());
+        w.write(h.getUncleHash());
+        w.write(h.getCoinbase());
+        w.write(h.getRoot());
+        w.write(h.getTxHash());
+        w.write(h.getReceiptHash());
+        w.write(h.getBloom());
+        w.write(h.getDifficulty());
+        w.write(h.getNumber());
+        w.write(h.getGasLimit());
+        w.write(h.getGasUsed());
+        w.write(h.getTime());
+        w.write(Arrays.copyOfRange(h.getExtra(), 0, h.getExtra().length - Header.EXTRA_SEAL));
+        w.write(h.getMixDigest());
+        w.write(h.getNonce());
+        w.end();
+        return Context.hash("keccak-256", w.toByteArray());
+    }
+
+    private static Header newHeader(Hash parentHash, long number, long time, Validator signer,
+            boolean inturn, Validator[] validators) {
+        byte[] extra = new byte[Header.EXTRA_VANITY + validators.length * EthAddress.ADDRESS_LEN + Header.EXTRA_SEAL];
+        for (int i = 0; i < validators.length; i++) {
+            System.arraycopy(validators[i].address.getEthAddress(), 0,
+                    extra, Header.EXTRA_VANITY + i * EthAddress.ADDRESS_LEN, EthAddress.ADDRESS_LEN);
+        }
+        Header unsealed = new Header(parentHash, Header.UNCLE_HASH, signer.address, Hash.EMPTY, Hash.EMPTY,
+                Hash.EMPTY, new byte[256], inturn ? Header.INTURN_DIFF : Header.NOTURN_DIFF,
+                BigInteger.valueOf(number), GAS_LIMIT, BigInteger.ZERO, time, extra, Hash.EMPTY, new byte[8]);
+        System.arraycopy(signer.sign(sealHash(unsealed)), 0, extra, extra.length - Header.EXTRA_SEAL, Header.EXTRA_SEAL);
+        return new Header(parentHash, Header.UNCLE_HASH, signer.address, Hash.EMPTY, Hash.EMPTY,
+                Hash.EMPTY, new byte[256], unsealed.getDifficulty(),
+                BigInteger.valueOf(number), GAS_LIMIT, BigInteger.ZERO, time, extra, Hash.EMPTY, new byte[8]);
+    }
+
+    /**
+     * @return child of the parent which is signed by the validator
+     */
+    private static Header newHeader(Header parent, int validator) {
+        long number = parent.getNumber().longValue() + 1;
+        return newHeader(parent.getHash(), number, parent.getTime() + 10, VALIDATORS[validator],
+                number % VALIDATORS.length == validator, new Validator[0]);
+    }
+
+    private static Score deployBmv() throws Exception {
+        byte[][] validators = new byte[VALIDATORS.length][];
+        for (int i = 0; i < VALIDATORS.length; i++) {
+            validators[i] = VALIDATORS[i].address.getEthAddress();
+        }
+        return sm.deploy(sm.createAccount(), StorageBMV.class, BMC.getAddress(), CHAIN_ID, GENESIS.toBytes(),
+                new byte[][]{validators[0]}, validators);
+    }
+
+    private static void relay(Score bmv, Header... headers) {
+        ByteArrayObjectWriter w = Context.newByteArrayObjectWriter("RLP");
+        w.beginList(headers.length);
+        for (Header header : headers) {
+            w.write(header);
+        }
+        w.end();
+        byte[] relayMsg = new RelayMessage(List.of(new RelayMessage.TypePrefixedMessage(
+                RelayMessage.TypePrefixedMessage.BLOCK_UPDATE, w.toByteArray()))).toBytes();
+        sm.call(BMC, BigInteger.ZERO, bmv.getAddress(), "handleRelayMessage",
+                BMC_BTP_ADDR.toString(), "", BigInteger.ZERO, relayMsg);
+    }
+
+    private static long height(Score bmv) {
+        return bmv.call(BMVStatus.class, "getStatus").getHeight();
+    }
+
+    private static boolean hasHead(Score bmv, Header header) {
+        return bmv.call(Boolean.class, "hasHead", (Object) header.getHash().toBytes());
+    }
+
+    private static boolean hasCheckpoint(Score bmv, Header header) {
+        return bmv.call(Boolean.class, "hasCheckpoint", (Object) header.getHash().toBytes());
+    }
+
+    @Test
+    public void resumeFromCheckpoint() throws Exception {
+        Score bmv = deployBmv();
+        Header h1 = newHeader(GENESIS, 1);
+        Header h2 = newHeader(h1, 2);
+        Header h3 = newHeader(h2, 3);
+
+        // signers of the path cover 2/4 of the candidates, which cannot confirm any block
+        relay(bmv, h1, h2);
+        assertEquals(0, height(bmv));
+        assertTrue(hasHead(bmv, h1));
+        assertTrue(hasHead(bmv, h2));
+        assertTrue(hasCheckpoint(bmv, h2));
+        assertFalse(hasCheckpoint(bmv, GENESIS));
+
+        // resumes with the signers of the checkpoint, then 3/4 of the candidates confirm h1
+        relay(bmv, h3);
+        assertEquals(1, height(bmv));
+        assertFalse(hasCheckpoint(bmv, h2));
+        assertTrue(hasCheckpoint(bmv, h3));
+        assertFalse(hasHead(bmv, GENESIS));
+        assertTrue(hasHead(bmv, h1));
+        assertTrue(hasHead(bmv, h2));
+        assertTrue(hasHead(bmv, h3));
+    }
+
+    @Test
+    public void pruneOtherForks() throws Exception {
+        Score bmv = deployBmv();
+        Header a1 = newHeader(GENESIS, 1);
+        Header a2 = newHeader(a1, 2);
+        relay(bmv, a1, a2);
+        assertTrue(hasCheckpoint(bmv, a2));
+
+        // fork from the root, which is not the tip of the checkpoint
+        Header b1 = newHeader(GENESIS, 2);
+        relay(bmv, b1);
+        assertEquals(0, height(bmv));
+        assertTrue(hasHead(bmv, b1));
+        assertTrue(hasCheckpoint(bmv, b1));
+        assertTrue(hasCheckpoint(bmv, a2));
+
+        Header b2 = newHeader(b1, 3);
+        Header b3 = newHeader(b2, 0);
+        relay(bmv, b2, b3);
+        assertEquals(1, height(bmv));
+
+        // b1 becomes the root, then the other fork is removed with its checkpoint
+        for (Header removed : new Header[]{GENESIS, a1, a2}) {
+            assertFalse(hasHead(bmv, removed));
+            assertFalse(hasCheckpoint(bmv, removed));
+        }
+        for (Header head : new Header[]{b1, b2, b3}) {
+            assertTrue(hasHead(bmv, head));
+        }
+        assertFalse(hasCheckpoint(bmv, b1));
+        assertTrue(hasCheckpoint(bmv, b3));
+    }
+}
@@ -62,27 +62,31 @@ public class BTPMessageVerifier implements BMV {
     public byte[][] handleRelayMessage(String _bmc, String _prev, BigInteger _seq, byte[] _msg) {
         BTPAddress curAddr = BTPAddress.valueOf(_bmc);
         BTPAddress prevAddr = BTPAddress.valueOf(_prev);
-        checkAccessible(curAddr, prevAddr);
         var bmvProperties = getProperties();
+        checkAccessible(curAddr, prevAddr, bmvProperties);
         var lastSeq = bmvProperties.getLastSequence();
         var seq = bmvProperties.getSequenceOffset().add(lastSeq);
         if (seq.compareTo(_seq) != 0) throw BMVException.unknown("invalid sequence");
         RelayMessage relayMessages = RelayMessage.fromBytes(_msg);
         RelayMessage.TypePrefixedMessage[] typePrefixedMessages = relayMessages.getMessages();
         BlockUpdate blockUpdate = null;
+        RelayContext ctx = new RelayContext(bmvProperties);
         List<byte[]> msgList = new ArrayList<>();
         for (RelayMessage.TypePrefixedMessage message : typePrefixedMessages) {
             Object msg = message.getMessage();
             if (msg instanceof BlockUpdate) {
                 blockUpdate = (BlockUpdate) msg;
-                handleBlockUpdateMessage(blockUpdate);
+                handleBlockUpdateMessage(blockUpdate, ctx);
             } else if (msg instanceof MessageProof) {
-                var msgs = handleMessageProof((MessageProof) msg, blockUpdate);
+                var msgs = handleMessageProof((MessageProof) msg, blockUpdate, bmvProperties);
                 for(byte[] m : msgs) {
                     msgList.add(m);
                 }
             }
         }
+        if (typePrefixedMessages.length > 0) {
+            propertiesDB.set(bmvProperties);
+        }
         var retSize = msgList.size();
         var ret = new byte[retSize][];
         if (retSize > 0) {
@@ -136,8 +140,34 @@ public class BTPMessageVerifier implements BMV {
         propertiesDB.set(bmvProperties);
     }
 
-    private void handleBlockUpdateMessage(BlockUpdate blockUpdate) {
-        var bmvProperties = getProperties();
+    /**
+     * Context of a relay message, which holds properties loaded once and
+     * the decoded proof context of the properties.
+     */
+    private static class RelayContext {
+        private final BMVProperties properties;
+        private byte[] proofContextHash;
+        private ProofContext proofContext;
+
+        private RelayContext(BMVProperties properties) {
+            this.properties = properties;
+        }
+
+        /**
+         * @return decoded proof context, which is decoded again only if proofContextHash is changed
+         */
+        private ProofContext getProofContext() {
+            byte[] hash = properties.getProofContextHash();
+            if (proofContext == null || !Arrays.equals(proofContextHash, hash)) {
+                proofContext = ProofContext.fromBytes(properties.getProofContext());
+                proofContextHash = hash;
+            }
+            return proofContext;
+        }
+    }
+
+    private void handleBlockUpdateMessage(BlockUpdate blockUpdate, RelayContext ctx) {
+        var bmvProperties = ctx.properties;
         var networkID = bmvProperties.getNetworkID();
         var blockHeader = blockUpdate.getBlockHeader();
         var updateNumber = blockHeader.getUpdateNumber();
@@ -175,7 +205,7 @@ public class BTPMessageVerifier implements BMV {
                 srcNetworkID, networkTypeID, height.longValue(), round.intValue(), ntsHash);
         Proofs proofs = Proofs.fromBytes(blockUpdate.getBlockProof());
         var isUpdate = updateNumber.and(BigInteger.ONE).compareTo(BigInteger.ONE) == 0;
-        verifyProof(decision, proofs);
+        verifyProof(decision, proofs, ctx.getProofContext());
         if (isUpdate) {
             var nextProofContext = blockHeader.getNextProofContext();
             verifyProofContextData(nextProofContextHash, nextProofContext, bmvProperties.getProofContextHash());
@@ -187,7 +217,6 @@ public class BTPMessageVerifier implements BMV {
         bmvProperties.setLastFirstMessageSN(blockHeader.getFirstMessageSn());
         bmvProperties.setLastNetworkSectionHash(nsHash);
         bmvProperties.setHeight(blockHeader.getMainHeight());
-        propertiesDB.set(bmvProperties);
     }
 
     private void verifyProofContextData(byte[] proofContextHash, byte[] proofContext, byte[] currentProofContextHash) {
@@ -195,33 +224,31 @@ public class BTPMessageVerifier implements BMV {
         if (!Arrays.equals(hash(proofContext), proofContextHash)) throw BMVException.unknown("mismatch Hash of NextProofContext");
     }
 
-    private void verifyProof(NetworkTypeSectionDecision decision, Proofs proofs) {
+    private void verifyProof(NetworkTypeSectionDecision decision, Proofs proofs, ProofContext proofContext) {
         byte[] decisionHash = decision.hash();
         byte[][] sigs = proofs.getProofs();
-        List<EthAddress> verifiedValidator = new ArrayList<>();
-        var bmvProperties = getProperties();
-        var proofContextBytes = bmvProperties.getProofContext();
-        var proofContext = ProofContext.fromBytes(proofContextBytes);
+        var validatorsCnt = proofContext.getValidators().length;
+        boolean[] verifiedValidator = new boolean[validatorsCnt];
+        int verified = 0;
         for (byte[] sig : sigs) {
             if (sig == null){
                 continue;
             }
             EthAddress address = recoverAddress(decisionHash, sig);
-            if (!proofContext.isValidator(address)) throw BMVException.unknown("invalid validator : " + address);
-            if (verifiedValidator.contains(address)) throw BMVException.unknown("duplicated validator : " + address);
-            verifiedValidator.add(address);
+            int idx = proofContext.indexOf(address);
+            if (idx < 0) throw BMVException.unknown("invalid validator : " + address);
+            if (verifiedValidator[idx]) throw BMVException.unknown("duplicated validator : " + address);
+            verifiedValidator[idx] = true;
+            verified++;
         }
-        var verified = verifiedValidator.size();
-        var validatorsCnt = proofContext.getValidators().length;
         //quorum = validator * 2/3
         if (verified * 3 <= validatorsCnt * 2)
             throw BMVException.unknown("not enough proof parts num of validator : " + validatorsCnt + ", num of proof parts : " + verified);
     }
 
-    private byte[][] handleMessageProof(MessageProof messageProof, BlockUpdate blockUpdate) {
+    private byte[][] handleMessageProof(MessageProof messageProof, BlockUpdate blockUpdate, BMVProperties bmvProperties) {
         byte[] expectedMessageRoot;
         BigInteger expectedMessageCnt;
-        var bmvProperties = getProperties();
         if (bmvProperties.getRemainMessageCount().compareTo(BigInteger.ZERO) <= 0)
             throw BMVException.unknown("remaining message count must greater than zero");
         MessageProof.ProveResult result = messageProof.proveMessage();
@@ -244,8 +271,8 @@ public class BTPMessageVerifier implements BMV {
         if (expectedMessageCnt.intValue() != result.total) {
             var rightProofNodes = messageProof.getRightProofNodes();
             for (int i = 0; i < rightProofNodes.length; i++) {
-                logger.println("ProofInRight["+i+"] : " + "NumOfLeaf:"+rightProofNodes[i].getNumOfLeaf()
-                        + "value:" + StringUtil.bytesToHex(rightProofNodes[i].getValue()));
+                logger.warn("ProofInRight", i, "NumOfLeaf:", rightProofNodes[i].getNumOfLeaf(),
+                        "value:", rightProofNodes[i].getValue());
             }
             throw BMVException.unknown(
                     "mismatch MessageCount offset:" + result.offset +
@@ -259,7 +286,6 @@ public class BTPMessageVerifier implements BMV {
             bmvProperties.setLastMessagesRoot(null);
         }
         bmvProperties.setLastSequence(bmvProperties.getLastSequence().add(BigInteger.valueOf(msgCnt)));
-        propertiesDB.set(bmvProperties);
         return messageProof.getMessages();
     }
 
@@ -278,8 +304,7 @@ public class BTPMessageVerifier implements BMV {
         return new EthAddress(addr);
     }
 
-    private void checkAccessible(BTPAddress curAddr, BTPAddress fromAddress) {
-        BMVProperties properties = getProperties();
+    private void checkAccessible(BTPAddress curAddr, BTPAddress fromAddress, BMVProperties properties) {
         if (!properties.getNetwork().equals(fromAddress.net())) {
             throw BMVException.unknown("invalid prev bmc");
         } else if (!Context.getCaller().equals(properties.getBmc())) {
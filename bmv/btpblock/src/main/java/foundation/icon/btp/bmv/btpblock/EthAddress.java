@@ -51,4 +51,9 @@ public class EthAddress {
         return Arrays.equals(data, that.data);
     }
 
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
 }
@@ -19,11 +19,15 @@ package foundation.icon.btp.bmv.btpblock;
 import score.Context;
 import score.ObjectReader;
 import scorex.util.ArrayList;
+import scorex.util.HashMap;
 
 import java.util.List;
+import java.util.Map;
 
 public class ProofContext {
     private EthAddress[] validators;
+    // index of validators, built on demand
+    private Map<EthAddress, Integer> index;
 
     public ProofContext(EthAddress[] validators) {
         this.validators = validators;
@@ -34,10 +38,21 @@ public class ProofContext {
     }
 
     public boolean isValidator(EthAddress address) {
-        for (EthAddress addr : validators) {
-            if (addr.equals(address)) return true;
+        return indexOf(address) >= 0;
+    }
+
+    /**
+     * @return index of the validator, or -1 if it's not a validator
+     */
+    public int indexOf(EthAddress address) {
+        if (index == null) {
+            index = new HashMap<>();
+            for (int i = 0; i < validators.length; i++) {
+                index.put(validators[i], i);
+            }
         }
-        return false;
+        Integer i = index.get(address);
+        return i == null ? -1 : i;
     }
 
     public static ProofContext readObject(ObjectReader reader) {
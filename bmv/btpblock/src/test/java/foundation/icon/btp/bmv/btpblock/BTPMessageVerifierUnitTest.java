@@ -22,9 +22,13 @@ import com.iconloop.score.test.ServiceManager;
 import com.iconloop.score.test.TestBase;
 import foundation.icon.btp.lib.BTPAddress;
 import foundation.icon.btp.test.BTPIntegrationTest;
+import foundation.icon.score.test.StepProfile;
+import foundation.icon.score.test.StepProfiler;
 import foundation.icon.score.util.StringUtil;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import score.Address;
 import score.RevertedException;
 import score.UserRevertedException;
@@ -284,6 +288,72 @@ public class BTPMessageVerifierUnitTest extends TestBase {
 
     }
 
+    /**
+     * @return number of ProofContext decodes for the relay message, once for the first BlockUpdate
+     * and once more for each BlockUpdate which follows the one rotating the proof context
+     */
+    static int proofContextDecodes(byte[] msg) {
+        int decodes = 0;
+        boolean rotated = false;
+        for (RelayMessage.TypePrefixedMessage message : RelayMessage.fromBytes(msg).getMessages()) {
+            if (message.getMessage() instanceof BlockUpdate) {
+                if (decodes == 0 || rotated) {
+                    decodes++;
+                }
+                BlockHeader blockHeader = ((BlockUpdate) message.getMessage()).getBlockHeader();
+                rotated = blockHeader.getUpdateNumber().testBit(0);
+            }
+        }
+        return decodes;
+    }
+
+    /***
+     * Profiles storage and API usage of handleRelayMessage with success cases
+     */
+    @Order(7)
+    @Test
+    public void profileHandleRelayMessage() throws Exception {
+        int[] decodes = new int[1];
+        try (StepProfiler profiler = new StepProfiler(BTPMessageVerifier.class.getSimpleName());
+             MockedStatic<ProofContext> proofContext = Mockito.mockStatic(ProofContext.class, (invocation) -> {
+                 if ("fromBytes".equals(invocation.getMethod().getName())) {
+                     decodes[0]++;
+                 }
+                 return invocation.callRealMethod();
+             })) {
+            Score profiled = sm.deploy(owner, BTPMessageVerifier.class,
+                    SRC_NETWORK_ID,
+                    2,
+                    Address.fromString(bmc.account()),
+                    StringUtil.hexToBytes(SUCCESS_RELAY_MESSAGE1.get(0)),
+                    BigInteger.ZERO
+            );
+            var seq = 0;
+            for (int i = 0; i < SUCCESS_RELAY_MESSAGE1.size() - 1; i++) {
+                byte[] msg = StringUtil.hexToBytes(SUCCESS_RELAY_MESSAGE1.get(i + 1));
+                final int curSeq = seq;
+                String method = "handleRelayMessage:" + i;
+                decodes[0] = 0;
+                byte[][] ret = profiler.profile(method, () -> (byte[][]) sm.call(
+                        bmcAccount, BigInteger.ZERO, profiled.getAddress(), "handleRelayMessage",
+                        bmc.toString(), prev.toString(), BigInteger.valueOf(curSeq), msg));
+                seq += ret.length;
+                StepProfile profile = profiler.get(method);
+                // properties are loaded once and written once per relay message
+                assertEquals(1, profile.getWrites("properties"), method);
+                assertEquals(proofContextDecodes(msg), decodes[0], method);
+                assertTrue(profile.getReads() > 0);
+            }
+            profiler.writeReport();
+            StepProfile profile = new StepProfile();
+            for (StepProfile p : profiler.getProfiles().values()) {
+                profile.add(p);
+            }
+            assertEquals(SUCCESS_RELAY_MESSAGE1.size() - 1, profile.getCalls());
+            assertTrue(profile.getRecoverKey() > 0);
+        }
+    }
+
     private void successCase(List<String> relayMessages, List<String[]> messages) throws Exception {
         score = sm.deploy(owner, BTPMessageVerifier.class,
                 SRC_NETWORK_ID,
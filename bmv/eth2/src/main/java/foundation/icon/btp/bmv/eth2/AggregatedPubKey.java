@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package foundation.icon.btp.bmv.eth2;
+
+import foundation.icon.score.util.StringUtil;
+import score.Context;
+import score.ObjectReader;
+import score.ObjectWriter;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated public key of the participants of sync committee which is marked in the bitvector.
+ * The key is derived from the cheapest of empty key, aggregate key of the committee and
+ * the previous one, so that only the difference of participants is aggregated.
+ */
+public class AggregatedPubKey {
+    static final String BLS_AGGREGATE_ALG = "bls12-381-g1";
+    private static final int BLS_PUBLIC_KEY_LENGTH = 48;
+    // flags of the first byte of the compressed point
+    private static final int INFINITY_FLAG = 0x40;
+    private static final int SIGN_FLAG = 0x20;
+
+    private final byte[] bits;
+    private final byte[] pubKey;
+
+    public AggregatedPubKey(byte[] bits, byte[] pubKey) {
+        this.bits = bits;
+        this.pubKey = pubKey;
+    }
+
+    public byte[] getBits() {
+        return bits;
+    }
+
+    public byte[] getPubKey() {
+        return pubKey;
+    }
+
+    int getParticipants() {
+        return bitCount(bits);
+    }
+
+    /**
+     * @param syncCommittee keys of committee which signs
+     * @param bits          participation bitvector of the committee
+     * @param prev          previous aggregated key of the same committee, nullable
+     * @return aggregated key, or prev if the bits are not changed
+     */
+    static AggregatedPubKey of(SyncCommitteeKeys syncCommittee, byte[] bits, AggregatedPubKey prev) {
+        if (prev != null && Arrays.equals(prev.bits, bits)) {
+            return prev;
+        }
+        int participants = bitCount(bits);
+        int fromCommittee = Constants.SYNC_COMMITTEE_COUNT - participants;
+        int fromPrev = prev == null ? Integer.MAX_VALUE : bitCount(xor(prev.bits, bits));
+
+        byte[] base;
+        byte[] sub;
+        if (fromPrev <= fromCommittee && fromPrev <= participants) {
+            base = prev.pubKey;
+            sub = prev.bits;
+        } else if (fromCommittee <= participants) {
+            base = syncCommittee.getAggregatePubKey();
+            sub = null;
+        } else {
+            base = null;
+            sub = new byte[bits.length];
+        }
+
+        // keys to add for the new participants and negated keys for the removed ones
+        int cnt = 0;
+        byte[] values = new byte[Math.min(Math.min(fromPrev, fromCommittee), participants) * BLS_PUBLIC_KEY_LENGTH];
+        for (int i = 0; i < Constants.SYNC_COMMITTEE_COUNT; i++) {
+            boolean in = isSet(bits, i);
+            boolean was = sub == null || isSet(sub, i);
+            if (in == was) continue;
+            System.arraycopy(syncCommittee.getPublicKey(i), 0, values, cnt * BLS_PUBLIC_KEY_LENGTH, BLS_PUBLIC_KEY_LENGTH);
+            if (was) negate(values, cnt * BLS_PUBLIC_KEY_LENGTH);
+            cnt++;
+        }
+        byte[] pubKey = base;
+        if (cnt > 0 || base == null) {
+            pubKey = Context.aggregate(BLS_AGGREGATE_ALG, base, values);
+        }
+        return new AggregatedPubKey(bits, pubKey);
+    }
+
+    private static boolean isSet(byte[] bits, int i) {
+        return (bits[i / 8] & (1 << (i % 8))) != 0;
+    }
+
+    private static byte[] xor(byte[] a, byte[] b) {
+        byte[] ret = new byte[a.length];
+        for (int i = 0; i < a.length; i++)
+            ret[i] = (byte) (a[i] ^ b[i]);
+        return ret;
+    }
+
+    private static int bitCount(byte[] bits) {
+        int cnt = 0;
+        for (byte b : bits)
+            cnt += Integer.bitCount(b & 0xff);
+        return cnt;
+    }
+
+    // negation of the compressed G1 point flips the sign of y
+    private static void negate(byte[] key, int offset) {
+        if ((key[offset] & INFINITY_FLAG) == 0) {
+            key[offset] ^= SIGN_FLAG;
+        }
+    }
+
+    public static AggregatedPubKey readObject(ObjectReader r) {
+        r.beginList();
+        var bits = r.readByteArray();
+        var pubKey = r.readByteArray();
+        r.end();
+        return new AggregatedPubKey(bits, pubKey);
+    }
+
+    public static void writeObject(ObjectWriter w, AggregatedPubKey obj) {
+        w.beginList(2);
+        w.write(obj.bits);
+        w.write(obj.pubKey);
+        w.end();
+    }
+
+    @Override
+    public String toString() {
+        return "AggregatedPubKey{" +
+                "bits=" + StringUtil.toString(bits) +
+                ", pubKey=" + StringUtil.toString(pubKey) +
+                '}';
+    }
+}
@@ -18,10 +18,11 @@ package foundation.icon.btp.bmv.eth2;
 import foundation.icon.btp.lib.BMV;
 import foundation.icon.btp.lib.BMVStatus;
 import foundation.icon.btp.lib.BTPAddress;
+import foundation.icon.btp.lib.mpt.MerklePatriciaTrie;
 import foundation.icon.score.util.Logger;
-import foundation.icon.score.util.StringUtil;
 import score.Address;
 import score.Context;
+import score.DictDB;
 import score.VarDB;
 import score.annotation.External;
 import score.annotation.Optional;
@@ -35,8 +36,11 @@ public class BTPMessageVerifier implements BMV {
     private static final Logger logger = Logger.getLogger(BTPMessageVerifier.class);
     private final VarDB<BMVProperties> propertiesDB = Context.newVarDB("properties", BMVProperties.class);
     private final VarDB<MessageProofProperties> messageProofPropertiesDB = Context.newVarDB("messageProofProperties", MessageProofProperties.class);
+    private final SyncCommitteeDB syncCommitteeDB = new SyncCommitteeDB("syncCommittee");
+    // legacy storage of sync committees, migrated to syncCommitteeDB
     private final VarDB<SyncCommittee> currentSyncCommitteeDB = Context.newVarDB("currentSyncCommittee", SyncCommittee.class);
     private final VarDB<SyncCommittee> nextSyncCommitteeDB = Context.newVarDB("nextSyncCommittee", SyncCommittee.class);
+    private final DictDB<BigInteger, AggregatedPubKey> aggregatedPubKeyDB = Context.newDictDB("aggregatedPubKey", AggregatedPubKey.class);
     private final VarDB<LightClientHeader> finalizedHeaderDB = Context.newVarDB("finalizedHeader", LightClientHeader.class);
     private final VarDB<LightClientHeader> blockProofHeaderDB = Context.newVarDB("blockProofHeader", LightClientHeader.class);
     private final String eventSignature = "Message(string,uint256,bytes)";
@@ -51,6 +55,7 @@ public class BTPMessageVerifier implements BMV {
             @Optional byte[] finalizedHeader,
             @Optional BigInteger seq
     ) {
+        migrateSyncCommittee();
         if (srcNetworkID == null && genesisValidatorsHash == null && syncCommittee == null && bmc == null && ethBmc == null && finalizedHeader == null && seq.signum() == 0) return;
         var properties = getProperties();
         var mpProperties = getMessageProofProperties();
@@ -58,8 +63,11 @@ public class BTPMessageVerifier implements BMV {
         if (bmc != null) properties.setBmc(bmc);
         if (ethBmc != null) mpProperties.setEthBmc(ethBmc);
         if (genesisValidatorsHash != null) properties.setGenesisValidatorsHash(genesisValidatorsHash);
-        if (syncCommittee != null) currentSyncCommitteeDB.set(SyncCommittee.deserialize(syncCommittee));
         if (finalizedHeader != null) finalizedHeaderDB.set(LightClientHeader.deserialize(finalizedHeader));
+        if (syncCommittee != null) {
+            if (getFinalizedHeader() == null) throw BMVException.unknown("finalizedHeader is required to set syncCommittee");
+            setSyncCommittee(getFinalizedPeriod(), SyncCommittee.deserialize(syncCommittee));
+        }
         if (seq.signum() == -1) throw BMVException.unknown("invalid seq. sequence must >= 0");
         var lastMsgSeq = mpProperties.getLastMsgSeq();
         if (lastMsgSeq == null || seq.signum() == 1) mpProperties.setLastMsgSeq(seq);
@@ -79,7 +87,7 @@ public class BTPMessageVerifier implements BMV {
 
     @External
     public byte[][] handleRelayMessage(String _bmc, String _prev, BigInteger _seq, byte[] _msg) {
-        logger.println("handleRelayMessage, msg : ", StringUtil.toString(_msg));
+        if (Logger.LEVEL <= Logger.DEBUG) logger.debug("handleRelayMessage", "msg :", _msg);
         BTPAddress curAddr = BTPAddress.valueOf(_bmc);
         BTPAddress prevAddr = BTPAddress.valueOf(_prev);
         BMVProperties properties = getProperties();
@@ -89,17 +97,20 @@ public class BTPMessageVerifier implements BMV {
         List<byte[]> msgList = new ArrayList<>();
         LightClientHeader finalizedHeader = null;
         LightClientHeader blockProofHeader = null;
+        byte[] receiptsRoot = null;
         for (RelayMessage.TypePrefixedMessage message : typePrefixedMessages) {
             Object msg = message.getMessage();
             if (msg instanceof BlockUpdate) {
-                logger.println("handleRelayMessage, blockUpdate : " + msg);
+                if (Logger.LEVEL <= Logger.DEBUG) logger.debug("handleRelayMessage", "blockUpdate :", msg);
                 finalizedHeader = processBlockUpdate((BlockUpdate) msg, properties);
             } else if (msg instanceof BlockProof) {
-                logger.println("handleRelayMessage, blockProof : " + msg);
-                blockProofHeader = processBlockProof((BlockProof) msg, finalizedHeader);
+                if (Logger.LEVEL <= Logger.DEBUG) logger.debug("handleRelayMessage", "blockProof :", msg);
+                var blockProof = (BlockProof) msg;
+                blockProofHeader = processBlockProof(blockProof, finalizedHeader, properties);
+                receiptsRoot = getReceiptsRoot(blockProof);
             } else if (msg instanceof MessageProof) {
-                logger.println("handleRelayMessage, MessageProof : " + msg);
-                var msgs = processMessageProof((MessageProof) msg, blockProofHeader);
+                if (Logger.LEVEL <= Logger.DEBUG) logger.debug("handleRelayMessage", "MessageProof :", msg);
+                var msgs = processMessageProof((MessageProof) msg, blockProofHeader, receiptsRoot);
                 msgList.addAll(msgs);
             }
         }
@@ -135,12 +146,36 @@ public class BTPMessageVerifier implements BMV {
         return messageProofPropertiesDB.getOrDefault(MessageProofProperties.DEFAULT);
     }
 
-    SyncCommittee getCurrentSyncCommittee() {
-        return currentSyncCommitteeDB.get();
+    private void migrateSyncCommittee() {
+        var current = currentSyncCommitteeDB.get();
+        if (current == null) return;
+        var period = getFinalizedPeriod();
+        setSyncCommittee(period, current);
+        var next = nextSyncCommitteeDB.get();
+        if (next != null) setSyncCommittee(period.add(BigInteger.ONE), next);
+        currentSyncCommitteeDB.set(null);
+        nextSyncCommitteeDB.set(null);
+    }
+
+    /**
+     * Sets the committee of the period, and drops the aggregated key of the period
+     * which is derived from the committee replaced.
+     */
+    void setSyncCommittee(BigInteger period, SyncCommittee syncCommittee) {
+        syncCommitteeDB.set(period, syncCommittee);
+        aggregatedPubKeyDB.set(period, null);
+    }
+
+    private BigInteger getFinalizedPeriod() {
+        return Utils.computeSyncCommitteePeriod(getFinalizedHeader().getBeacon().getSlot());
     }
 
-    SyncCommittee getNextSyncCommittee() {
-        return nextSyncCommitteeDB.get();
+    SyncCommitteeDB.Committee getCurrentSyncCommittee() {
+        return syncCommitteeDB.get(getFinalizedPeriod());
+    }
+
+    SyncCommitteeDB.Committee getNextSyncCommittee() {
+        return syncCommitteeDB.get(getFinalizedPeriod().add(BigInteger.ONE));
     }
 
     LightClientHeader getFinalizedHeader() {
@@ -152,28 +187,29 @@ public class BTPMessageVerifier implements BMV {
     }
 
     private LightClientHeader processBlockUpdate(BlockUpdate blockUpdate, BMVProperties properties) {
-        validateBlockUpdate(blockUpdate, properties);
-        return applyBlockUpdate(blockUpdate);
+        var bmvFinalizedHeader = getFinalizedHeader();
+        validateBlockUpdate(blockUpdate, bmvFinalizedHeader, properties);
+        return applyBlockUpdate(blockUpdate, bmvFinalizedHeader);
     }
 
-    private void validateBlockUpdate(BlockUpdate blockUpdate, BMVProperties properties) {
-        var attestedBeacon = LightClientHeader.deserialize(blockUpdate.getAttestedHeader()).getBeacon();
-        var finalizedBeacon = LightClientHeader.deserialize(blockUpdate.getFinalizedHeader()).getBeacon();
+    private void validateBlockUpdate(BlockUpdate blockUpdate, LightClientHeader bmvFinalizedHeader, BMVProperties properties) {
+        var attestedBeacon = blockUpdate.getAttestedLightClientHeader().getBeacon();
+        var finalizedBeacon = blockUpdate.getFinalizedLightClientHeader().getBeacon();
         var signatureSlot = blockUpdate.getSignatureSlot();
         var attestedSlot = attestedBeacon.getSlot();
         var finalizedSlot = finalizedBeacon.getSlot();
-        logger.println("validateBlockUpdate, ", "signatureSlot : ", signatureSlot, ", attestedSlot : ", attestedSlot, ", finalizedSlot : ", finalizedSlot);
+        if (Logger.LEVEL <= Logger.DEBUG) logger.debug("validateBlockUpdate", "signatureSlot :", signatureSlot, ", attestedSlot :", attestedSlot, ", finalizedSlot :", finalizedSlot);
         if (signatureSlot.compareTo(attestedSlot) <= 0) throw BMVException.unknown("signature slot( + " + signatureSlot + ") must be after attested Slot(" + attestedSlot + ")");
         if (attestedSlot.compareTo(finalizedSlot) < 0) throw BMVException.unknown("attested slot (" + attestedSlot + ") must be after finalized slot(" + finalizedSlot + ")");
 
-        var bmvFinalizedBeacon = getFinalizedHeader().getBeacon();
+        var bmvFinalizedBeacon = bmvFinalizedHeader.getBeacon();
         var bmvSlot = bmvFinalizedBeacon.getSlot();
         var bmvPeriod = Utils.computeSyncCommitteePeriod(bmvSlot);
         var signaturePeriod = Utils.computeSyncCommitteePeriod(signatureSlot);
         var isBmvPeriod = signaturePeriod.compareTo(bmvPeriod) == 0;
-        var bmvNextSyncCommittee = getNextSyncCommittee();
+        var hasNextSyncCommittee = syncCommitteeDB.contains(bmvPeriod.add(BigInteger.ONE));
 
-        if (bmvNextSyncCommittee != null) {
+        if (hasNextSyncCommittee) {
             if (!isBmvPeriod && signaturePeriod.compareTo(bmvPeriod.add(BigInteger.ONE)) != 0)
                 throw BMVException.notVerifiable(bmvSlot.toString());
         } else {
@@ -185,51 +221,52 @@ public class BTPMessageVerifier implements BMV {
 
         var nextSyncCommittee = blockUpdate.getNextSyncCommittee();
         if (nextSyncCommittee != null) {
-            logger.println("validateBlockUpdate, ", "verify nextSyncCommittee aggregatedKey : " + StringUtil.toString(nextSyncCommittee.getAggregatePubKey()));
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("validateBlockUpdate", "verify nextSyncCommittee aggregatedKey :", nextSyncCommittee.getAggregatePubKey());
             blockUpdate.verifyNextSyncCommittee();
         }
 
-        SyncCommittee syncCommittee;
-        if (isBmvPeriod) {
-            syncCommittee = getCurrentSyncCommittee();
-        } else {
-            syncCommittee = bmvNextSyncCommittee;
-        }
-        logger.println("validateBlockUpdate, ", "verify syncAggregate", syncCommittee.getAggregatePubKey());
-        if (!blockUpdate.verifySyncAggregate(syncCommittee.getBlsPublicKeys(), properties.getGenesisValidatorsHash()))
+        var syncCommittee = syncCommitteeDB.get(signaturePeriod);
+        if (Logger.LEVEL <= Logger.DEBUG) logger.debug("validateBlockUpdate", "verify syncAggregate", syncCommittee.getAggregatePubKey());
+        var prevAggregatedPubKey = aggregatedPubKeyDB.get(signaturePeriod);
+        var aggregatedPubKey = blockUpdate.verifySyncAggregate(syncCommittee, prevAggregatedPubKey, properties.getGenesisValidatorsHash());
+        if (aggregatedPubKey == null)
             throw BMVException.unknown("invalid signature");
+        if (aggregatedPubKey != prevAggregatedPubKey)
+            aggregatedPubKeyDB.set(signaturePeriod, aggregatedPubKey);
     }
 
-    private LightClientHeader applyBlockUpdate(BlockUpdate blockUpdate) {
-        var bmvNextSyncCommittee = getNextSyncCommittee();
-        var bmvFinalizedHeader = getFinalizedHeader();
+    private LightClientHeader applyBlockUpdate(BlockUpdate blockUpdate, LightClientHeader bmvFinalizedHeader) {
         var bmvBeacon = bmvFinalizedHeader.getBeacon();
         var bmvSlot = bmvBeacon.getSlot();
-        var finalizedHeader = LightClientHeader.deserialize(blockUpdate.getFinalizedHeader());
+        var finalizedHeader = blockUpdate.getFinalizedLightClientHeader();
         var finalizedSlot = finalizedHeader.getBeacon().getSlot();
         var bmvPeriod = Utils.computeSyncCommitteePeriod(bmvSlot);
         var finalizedPeriod = Utils.computeSyncCommitteePeriod(finalizedSlot);
 
-        if (bmvNextSyncCommittee == null) {
+        var nextPeriod = bmvPeriod.add(BigInteger.ONE);
+        var nextSyncCommittee = blockUpdate.getNextSyncCommittee();
+        if (!syncCommitteeDB.contains(nextPeriod)) {
             if (finalizedPeriod.compareTo(bmvPeriod) != 0) throw BMVException.unknown("invalid update period");
-            logger.println("applyBlockUpdate, ", "set next sync committee");
-            nextSyncCommitteeDB.set(blockUpdate.getNextSyncCommittee());
-        } else if (finalizedPeriod.compareTo(bmvPeriod.add(BigInteger.ONE)) == 0) {
-            logger.println("applyBlockUpdate, ", "set current/next sync committee");
-            currentSyncCommitteeDB.set(getNextSyncCommittee());
-            nextSyncCommitteeDB.set(blockUpdate.getNextSyncCommittee());
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("applyBlockUpdate", "set next sync committee");
+            if (nextSyncCommittee != null) setSyncCommittee(nextPeriod, nextSyncCommittee);
+        } else if (finalizedPeriod.compareTo(nextPeriod) == 0) {
+            // committee of the next period becomes current by the finalized header
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("applyBlockUpdate", "set current/next sync committee");
+            syncCommitteeDB.remove(bmvPeriod);
+            if (nextSyncCommittee != null) setSyncCommittee(nextPeriod.add(BigInteger.ONE), nextSyncCommittee);
+            aggregatedPubKeyDB.set(bmvPeriod, null);
         }
 
         if (finalizedSlot.compareTo(bmvSlot) > 0) {
-            logger.println("applyBlockUpdate, ", "set finalized header");
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("applyBlockUpdate", "set finalized header");
             finalizedHeaderDB.set(finalizedHeader);
             return finalizedHeader;
         }
         return bmvFinalizedHeader;
     }
 
-    private LightClientHeader processBlockProof(BlockProof blockProof, LightClientHeader finalizedHeader) {
-        var historicalLimit = BigInteger.valueOf(8192);
+    private LightClientHeader processBlockProof(BlockProof blockProof, LightClientHeader finalizedHeader, BMVProperties properties) {
+        var historicalLimit = BigInteger.valueOf(Constants.SLOTS_PER_HISTORICAL_ROOT);
         if (finalizedHeader == null) finalizedHeader = getFinalizedHeader();
         var bmvBeacon = finalizedHeader.getBeacon();
         var blockProofLightClientHeader = blockProof.getLightClientHeader();
@@ -238,15 +275,25 @@ public class BTPMessageVerifier implements BMV {
         var blockProofSlot = blockProofBeacon.getSlot();
         var blockProofBeaconHashTreeRoot = blockProofBeacon.getHashTreeRoot();
         var bmvStateRoot = bmvBeacon.getStateRoot();
-        var proof = blockProof.getProof();
-        var proofLeaf = proof.getLeaf();
-        logger.println("processBlockProof, ", "blockProofSlot : ", blockProofSlot, ", bmvFinalizedSlot : ", bmvFinalizedSlot);
-        logger.println("processBlockProof, ", "bmvStateRoot : ", StringUtil.bytesToHex(bmvStateRoot), ", proof : ", proof);
+        if (Logger.LEVEL <= Logger.DEBUG) logger.debug("processBlockProof", "blockProofSlot :", blockProofSlot, ", bmvFinalizedSlot :", bmvFinalizedSlot);
         if (bmvFinalizedSlot.compareTo(blockProofSlot) < 0)
             throw BMVException.unknown(blockProofSlot.toString());
+        var multiProof = blockProof.getMultiProof();
+        if (multiProof != null) {
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("processBlockProof", "bmvStateRoot :", bmvStateRoot, ", multiProof :", multiProof);
+            var headerIndex = BlockProof.getHeaderIndex(blockProofSlot, bmvFinalizedSlot, properties.getGenesisValidatorsHash());
+            multiProof.verifyHeader(bmvStateRoot, blockProofBeaconHashTreeRoot, headerIndex);
+            blockProofHeaderDB.set(blockProofLightClientHeader);
+            return blockProofLightClientHeader;
+        }
+        var proof = blockProof.getProof();
+        if (proof == null)
+            throw BMVException.unknown("proof empty");
+        var proofLeaf = proof.getLeaf();
+        if (Logger.LEVEL <= Logger.DEBUG) logger.debug("processBlockProof", "bmvStateRoot :", bmvStateRoot, ", proof :", proof);
         if (blockProofSlot.add(historicalLimit).compareTo(bmvFinalizedSlot) < 0) {
             var historicalProof = blockProof.getHistoricalProof();
-            logger.println("processBlockProof, ", "historicalProof : ", historicalProof);
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("processBlockProof", "historicalProof :", historicalProof);
             if (historicalProof == null)
                 throw BMVException.unknown("historicalProof empty");
             if (!Arrays.equals(blockProofBeaconHashTreeRoot, historicalProof.getLeaf()))
@@ -262,23 +309,35 @@ public class BTPMessageVerifier implements BMV {
         return blockProofLightClientHeader;
     }
 
-    private List<byte[]> processMessageProof(MessageProof messageProof, LightClientHeader blockProofHeader) {
+    // receipts root which is proven with the header by multiproof of the block proof
+    private static byte[] getReceiptsRoot(BlockProof blockProof) {
+        var multiProof = blockProof.getMultiProof();
+        if (multiProof == null) return null;
+        return multiProof.getReceiptsRoot();
+    }
+
+    private List<byte[]> processMessageProof(MessageProof messageProof, LightClientHeader blockProofHeader, byte[] receiptsRoot) {
         var mpProperties = getMessageProofProperties();
         var seq = mpProperties.getLastMsgSeq();
         if (blockProofHeader == null) blockProofHeader = getBlockProofHeader();
         var blockProofBeacon = blockProofHeader.getBeacon();
         var stateRoot = blockProofBeacon.getStateRoot();
         var receiptRootProof = messageProof.getReceiptsRootProof();
-        logger.println("processMessageProof, ", "stateRoot", StringUtil.bytesToHex(stateRoot), ", receiptRootProof : ", receiptRootProof);
-        SszUtils.verify(stateRoot, receiptRootProof);
-        var receiptsRoot = receiptRootProof.getLeaf();
+        if (Logger.LEVEL <= Logger.DEBUG) logger.debug("processMessageProof", "stateRoot", stateRoot, ", receiptRootProof :", receiptRootProof);
+        if (receiptRootProof != null) {
+            SszUtils.verify(stateRoot, receiptRootProof);
+            receiptsRoot = receiptRootProof.getLeaf();
+        } else if (receiptsRoot == null) {
+            throw BMVException.unknown("receiptsRootProof empty");
+        }
         var ethBmc = mpProperties.getEthBmc();
         var messageList = new ArrayList<byte[]>();
+        var prover = new MerklePatriciaTrie("keccak-256", receiptsRoot);
         for (ReceiptProof rp : messageProof.getReceiptProofs()) {
-            logger.println("processMessageProof, ", "mpt prove", ", receiptProof key : ", StringUtil.bytesToHex(rp.getKey()));
-            var value = MerklePatriciaTree.prove(receiptsRoot, rp.getKey(), rp.getProofs());
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("processMessageProof", "mpt prove", ", receiptProof key :", rp.getKey());
+            var value = prover.prove(rp.getKey(), rp.getProofs());
             var receipt = Receipt.fromBytes(value);
-            logger.println("processMessageProof, ", "receipt : ", receipt);
+            if (Logger.LEVEL <= Logger.DEBUG) logger.debug("processMessageProof", "receipt :", receipt);
             for (Log log : receipt.getLogs()) {
                 var topics = log.getTopics();
                 var signature = topics[0];
@@ -28,6 +28,8 @@ public class BeaconBlockHeader {
     private byte[] parentRoot;
     private byte[] stateRoot;
     private byte[] bodyRoot;
+    // memoized, not serialized
+    private byte[] hashTreeRoot;
     private static final int SLOT_LENGTH = 8;
     private static final int VALIDATOR_INDEX_LENGTH = 8;
 
@@ -45,6 +47,7 @@ public class BeaconBlockHeader {
 
     public void setSlot(BigInteger slot) {
         this.slot = slot;
+        this.hashTreeRoot = null;
     }
 
     public byte[] getStateRoot() {
@@ -53,6 +56,7 @@ public class BeaconBlockHeader {
 
     public void setStateRoot(byte[] stateRoot) {
         this.stateRoot = stateRoot;
+        this.hashTreeRoot = null;
     }
 
     public BigInteger getValidatorIndex() {
@@ -61,6 +65,7 @@ public class BeaconBlockHeader {
 
     public void setValidatorIndex(BigInteger validatorIndex) {
         this.validatorIndex = validatorIndex;
+        this.hashTreeRoot = null;
     }
 
     public byte[] getParentRoot() {
@@ -69,6 +74,7 @@ public class BeaconBlockHeader {
 
     public void setParentRoot(byte[] parentRoot) {
         this.parentRoot = parentRoot;
+        this.hashTreeRoot = null;
     }
 
     public byte[] getBodyRoot() {
@@ -77,10 +83,14 @@ public class BeaconBlockHeader {
 
     public void setBodyRoot(byte[] bodyRoot) {
         this.bodyRoot = bodyRoot;
+        this.hashTreeRoot = null;
     }
 
     byte[] getHashTreeRoot() {
-        return SszUtils.merkleize(pack());
+        if (hashTreeRoot == null) {
+            hashTreeRoot = SszUtils.merkleize(pack());
+        }
+        return hashTreeRoot;
     }
 
     private byte[][] pack() {
@@ -19,15 +19,24 @@ import foundation.icon.score.util.StringUtil;
 import score.Context;
 import score.ObjectReader;
 
+import java.math.BigInteger;
+
 public class BlockProof {
     private byte[] header;
     private Proof proof;
     private Proof historicalProof;
+    // proves the root of header and optionally its receipts root, instead of proof and historicalProof
+    private MultiProof multiProof;
 
     public BlockProof(byte[] header, Proof proof, Proof historicalProof) {
+        this(header, proof, historicalProof, null);
+    }
+
+    public BlockProof(byte[] header, Proof proof, Proof historicalProof, MultiProof multiProof) {
         this.header = header;
         this.proof = proof;
         this.historicalProof = historicalProof;
+        this.multiProof = multiProof;
     }
 
     LightClientHeader getLightClientHeader() {
@@ -42,9 +51,44 @@ public class BlockProof {
         return historicalProof;
     }
 
+    MultiProof getMultiProof() {
+        return multiProof;
+    }
+
+    /**
+     * Returns generalized index of the header root at the slot in the state of finalizedSlot.
+     * Root of the header older than SLOTS_PER_HISTORICAL_ROOT is in block_summary_root of historical_summaries.
+     */
+    static long getHeaderIndex(BigInteger slot, BigInteger finalizedSlot, byte[] genesisValidatorsRoot) {
+        var historicalLimit = BigInteger.valueOf(Constants.SLOTS_PER_HISTORICAL_ROOT);
+        var rootIndex = Constants.SLOTS_PER_HISTORICAL_ROOT + slot.mod(historicalLimit).longValue();
+        if (slot.add(historicalLimit).compareTo(finalizedSlot) >= 0)
+            return SszUtils.concatGeneralizedIndices(Constants.BLOCK_ROOTS_GINDEX, rootIndex);
+        var capellaSlot = Utils.getCapellaEpoch(genesisValidatorsRoot).multiply(Utils.SLOTS_PER_EPOCH);
+        if (slot.compareTo(capellaSlot) < 0)
+            throw BMVException.unknown("no historical summary for slot " + slot);
+        var summaryIndex = slot.divide(historicalLimit).subtract(capellaSlot.divide(historicalLimit)).longValue();
+        return SszUtils.concatGeneralizedIndices(
+                Constants.HISTORICAL_SUMMARIES_GINDEX,
+                2, // data root of the list
+                Constants.HISTORICAL_ROOTS_LIMIT + summaryIndex,
+                2, // block_summary_root of HistoricalSummary
+                rootIndex);
+    }
+
+    static long getReceiptsRootIndex(long headerIndex) {
+        return SszUtils.concatGeneralizedIndices(headerIndex, Constants.RECEIPTS_ROOT_GINDEX);
+    }
+
     public static BlockProof readObject(ObjectReader r) {
         r.beginList();
-        var blockProof = new BlockProof(r.readByteArray(), r.read(Proof.class), r.readNullable(Proof.class));
+        var header = r.readByteArray();
+        var proof = r.readNullable(Proof.class);
+        var historicalProof = r.readNullable(Proof.class);
+        MultiProof multiProof = null;
+        if (r.hasNext())
+            multiProof = r.readNullable(MultiProof.class);
+        var blockProof = new BlockProof(header, proof, historicalProof, multiProof);
         r.end();
         return blockProof;
     }
@@ -60,6 +104,7 @@ public class BlockProof {
                 "header=" + StringUtil.toString(header) +
                 ", proof=" + proof +
                 ", historicalProof=" + historicalProof +
+                ", multiProof=" + multiProof +
                 '}';
     }
 }
@@ -32,8 +32,12 @@ public class BlockUpdate {
     private BigInteger signatureSlot;
     private byte[] nextSyncCommittee;
     private byte[][] nextSyncCommitteeBranch;
+    // decoded on demand, not serialized
+    private LightClientHeader decodedAttestedHeader;
+    private LightClientHeader decodedFinalizedHeader;
+    private SyncAggregate decodedSyncAggregate;
+    private SyncCommittee decodedNextSyncCommittee;
     private static final byte[] DOMAIN_SYNC_COMMITTEE = StringUtil.hexToBytes("07000000");
-    private static final String BLS_AGGREGATE_ALG = "bls12-381-g1";
     private static final String BLS_SIG_ALG = "bls12-381-g2";
 
     public BlockUpdate(
@@ -62,18 +66,38 @@ public class BlockUpdate {
         return attestedHeader;
     }
 
+    LightClientHeader getFinalizedLightClientHeader() {
+        if (decodedFinalizedHeader == null) {
+            decodedFinalizedHeader = LightClientHeader.deserialize(finalizedHeader);
+        }
+        return decodedFinalizedHeader;
+    }
+
+    LightClientHeader getAttestedLightClientHeader() {
+        if (decodedAttestedHeader == null) {
+            decodedAttestedHeader = LightClientHeader.deserialize(attestedHeader);
+        }
+        return decodedAttestedHeader;
+    }
+
     SyncAggregate getSyncAggregate() {
-        return SyncAggregate.deserialize(syncAggregate);
+        if (decodedSyncAggregate == null) {
+            decodedSyncAggregate = SyncAggregate.deserialize(syncAggregate);
+        }
+        return decodedSyncAggregate;
     }
 
     SyncCommittee getNextSyncCommittee() {
         if (nextSyncCommittee == null) return null;
-        return SyncCommittee.deserialize(nextSyncCommittee);
+        if (decodedNextSyncCommittee == null) {
+            decodedNextSyncCommittee = SyncCommittee.deserialize(nextSyncCommittee);
+        }
+        return decodedNextSyncCommittee;
     }
 
     void verifyFinalizedHeader() {
-        var finalizedHeader = LightClientHeader.deserialize(this.finalizedHeader);
-        var attestedHeader = LightClientHeader.deserialize(this.attestedHeader);
+        var finalizedHeader = getFinalizedLightClientHeader();
+        var attestedHeader = getAttestedLightClientHeader();
         var finalizeHeaderDepth = 6;
         var finalizeHeaderIndex = 41;
         SszUtils.validateMerkleBranch(
@@ -86,11 +110,11 @@ public class BlockUpdate {
     }
 
     void verifyNextSyncCommittee() {
-        var attestedHeader = LightClientHeader.deserialize(this.attestedHeader);
+        var attestedHeader = getAttestedLightClientHeader();
         int nextSyncCommitteeDepth = 5;
         int nextSyncCommitteeIndex = 23;
         SszUtils.validateMerkleBranch(
-                SyncCommittee.deserialize(nextSyncCommittee).getHashTreeRoot(),
+                getNextSyncCommittee().getHashTreeRoot(),
                 nextSyncCommitteeBranch,
                 nextSyncCommitteeDepth,
                 nextSyncCommitteeIndex,
@@ -138,7 +162,7 @@ public class BlockUpdate {
 
     byte[] getSigningRoot(byte[] genesisValidatorsRoot, BigInteger signatureSlot) {
         var domain = computeDomain(genesisValidatorsRoot, signatureSlot);
-        var beacon = LightClientHeader.deserialize(attestedHeader).getBeacon();
+        var beacon = getAttestedLightClientHeader().getBeacon();
         var hashTree = beacon.getHashTreeRoot();
         return SszUtils.concatAndHash(hashTree, domain);
     }
@@ -178,23 +202,31 @@ public class BlockUpdate {
         throw BMVException.unknown("invalid genesisValidatorsRoot");
     }
 
-    boolean verifySyncAggregate(byte[][] syncCommitteePubs, byte[] genesisValidatorsRoot) {
+    /**
+     * Verifies sync aggregate with the aggregated key of participants.
+     *
+     * @param syncCommittee keys of committee which signs
+     * @param prev          aggregated key of the previous update in the same period, nullable
+     * @param genesisValidatorsRoot genesis validators root
+     * @return aggregated key of participants if signature is valid, otherwise null
+     */
+    AggregatedPubKey verifySyncAggregate(SyncCommitteeKeys syncCommittee, AggregatedPubKey prev, byte[] genesisValidatorsRoot) {
         var syncAggregate = getSyncAggregate();
-        var aggregateBits = syncAggregate.getSyncCommitteeBits();
+        var bits = syncAggregate.getSyncCommitteeBitvector();
+        var aggregatedPubKey = AggregatedPubKey.of(syncCommittee, bits, prev);
+        checkParticipants(aggregatedPubKey.getParticipants(), Constants.SYNC_COMMITTEE_COUNT);
         var signingRoot = getSigningRoot(genesisValidatorsRoot, signatureSlot);
         var committeeSig = syncAggregate.getSyncCommitteeSignature();
-        var aggregatedKey = Context.aggregate(BLS_AGGREGATE_ALG, null, new byte[0]);
-        var verified = 0;
-        for (int i = 0; i < aggregateBits.length; i++) {
-            if (aggregateBits[i]) {
-                aggregatedKey = Context.aggregate(BLS_AGGREGATE_ALG, aggregatedKey, syncCommitteePubs[i]);
-                verified++;
-            }
+        if (!Context.verifySignature(BLS_SIG_ALG, signingRoot, committeeSig, aggregatedPubKey.getPubKey())) {
+            return null;
         }
-        if (verified * 3 < 2 * aggregateBits.length) {
+        return aggregatedPubKey;
+    }
+
+    private static void checkParticipants(int verified, int total) {
+        if (verified * 3 < 2 * total) {
             throw BMVException.unknown("not enough validator : " + verified);
         }
-        return Context.verifySignature(BLS_SIG_ALG, signingRoot, committeeSig, aggregatedKey);
     }
 
     @Override
@@ -23,6 +23,13 @@ public class Constants {
     public static final int HASH_LENGTH = 32;
     public static final int SYNC_COMMITTEE_COUNT = 512;
     public static final int BYTES_PER_CHUNK = 32;
+    public static final long SLOTS_PER_HISTORICAL_ROOT = 8192;
+    public static final long HISTORICAL_ROOTS_LIMIT = 16777216;
+    // generalized indices of capella, block_roots and historical_summaries in BeaconState
+    public static final long BLOCK_ROOTS_GINDEX = 37;
+    public static final long HISTORICAL_SUMMARIES_GINDEX = 59;
+    // receipts_root of body.execution_payload in BeaconBlockHeader
+    public static final long RECEIPTS_ROOT_GINDEX = 3219;
     public static final byte[] MAINNET_GENESIS_VALIDATORS_ROOT = StringUtil.hexToBytes("4b363db94e286120d76eb905340fdd4e54bfe9f06bf33ff6cf5ad27f511bfe95");
     public static final byte[] SEPOLIA_GENESIS_VALIDATORS_ROOT = StringUtil.hexToBytes("d8ea171f3c94aea21ebc42a1ed61052acf3f9209c00e4efbaaddac09ed9b8078");
 
@@ -48,7 +48,7 @@ public class MessageProof {
     public static MessageProof readObject(ObjectReader r) {
         r.beginList();
         var slot = r.readBigInteger();
-        var proof = r.read(Proof.class);
+        var proof = r.readNullable(Proof.class);
         var receiptsProofList = new ArrayList<ReceiptProof>();
         r.beginList();
         while(r.hasNext())
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package foundation.icon.btp.bmv.eth2;
+
+import foundation.icon.score.util.StringUtil;
+import score.ObjectReader;
+import score.ObjectWriter;
+import scorex.util.ArrayList;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Merkle multiproof of SSZ, leaves at generalized indices share the helper nodes.
+ */
+public class MultiProof {
+    private final long[] indices;
+    private final byte[][] leaves;
+    private final byte[][] hashes;
+
+    public MultiProof(long[] indices, byte[][] leaves, byte[][] hashes) {
+        this.indices = indices;
+        this.leaves = leaves;
+        this.hashes = hashes;
+    }
+
+    long[] getIndices() {
+        return indices;
+    }
+
+    byte[][] getLeaves() {
+        return leaves;
+    }
+
+    byte[][] getHashes() {
+        return hashes;
+    }
+
+    void verify(byte[] root) {
+        SszUtils.verifyMultiproof(root, indices, leaves, hashes);
+    }
+
+    /**
+     * Verifies the proof whose first leaf is the header root at headerIndex
+     * and the optional second leaf is the receipts root of the header.
+     *
+     * @param root        expected root
+     * @param headerRoot  hash tree root of the header
+     * @param headerIndex generalized index of the header root
+     */
+    void verifyHeader(byte[] root, byte[] headerRoot, long headerIndex) {
+        if (indices.length == 0 || indices.length > 2 || indices[0] != headerIndex)
+            throw BMVException.unknown("invalid multiProof header index");
+        if (indices.length == 2 && indices[1] != BlockProof.getReceiptsRootIndex(headerIndex))
+            throw BMVException.unknown("invalid multiProof receipts root index");
+        verify(root);
+        if (!Arrays.equals(headerRoot, leaves[0]))
+            throw BMVException.unknown("invalid hashTree");
+    }
+
+    /**
+     * @return receipts root which is verified by {@link #verifyHeader}, or null if there is no receipts root
+     */
+    byte[] getReceiptsRoot() {
+        return leaves.length > 1 ? leaves[1] : null;
+    }
+
+    public static MultiProof readObject(ObjectReader r) {
+        r.beginList();
+        r.beginList();
+        List<Long> indexList = new ArrayList<>();
+        while (r.hasNext())
+            indexList.add(r.readLong());
+        r.end();
+        var indices = new long[indexList.size()];
+        for (int i = 0; i < indices.length; i++)
+            indices[i] = indexList.get(i);
+        var leaves = readHashes(r);
+        var hashes = readHashes(r);
+        r.end();
+        return new MultiProof(indices, leaves, hashes);
+    }
+
+    private static byte[][] readHashes(ObjectReader r) {
+        r.beginList();
+        List<byte[]> list = new ArrayList<>();
+        while (r.hasNext())
+            list.add(r.readByteArray());
+        r.end();
+        var ret = new byte[list.size()][];
+        for (int i = 0; i < ret.length; i++)
+            ret[i] = list.get(i);
+        return ret;
+    }
+
+    public static void writeObject(ObjectWriter w, MultiProof proof) {
+        w.beginList(3);
+        w.beginList(proof.indices.length);
+        for (long index : proof.indices)
+            w.write(index);
+        w.end();
+        w.beginList(proof.leaves.length);
+        for (byte[] leaf : proof.leaves)
+            w.write(leaf);
+        w.end();
+        w.beginList(proof.hashes.length);
+        for (byte[] hash : proof.hashes)
+            w.write(hash);
+        w.end();
+        w.end();
+    }
+
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("[");
+        for (int i = 0; i < indices.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(indices[i]);
+        }
+        sb.append(']');
+        return "MultiProof{" +
+                "indices=" + sb +
+                ", leaves=" + StringUtil.toString(leaves) +
+                ", hashes=" + StringUtil.toString(hashes) +
+                '}';
+    }
+}
@@ -104,7 +104,7 @@ public class RelayMessage {
 
         public Object getMessage() {
             try {
-                logger.println("getMessage, type = " + type);
+                if (Logger.LEVEL <= Logger.DEBUG) logger.debug("getMessage", "type =", type);
                 if (type == BLOCK_UPDATE) {
                     return BlockUpdate.fromBytes(payload);
                 } else if (type == BLOCK_PROOF) {
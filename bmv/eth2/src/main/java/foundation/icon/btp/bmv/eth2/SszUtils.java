@@ -17,18 +17,29 @@
 package foundation.icon.btp.bmv.eth2;
 
 import score.Context;
+import scorex.util.ArrayList;
+import scorex.util.HashMap;
 
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 public class SszUtils {
+    public static final int MAX_DEPTH = 64;
+    // ZERO_HASHES[i] is the root of the tree of depth i which has zero chunks only
+    private static final byte[][] ZERO_HASHES = new byte[MAX_DEPTH + 1][];
+
+    static {
+        ZERO_HASHES[0] = new byte[Constants.BYTES_PER_CHUNK];
+        for (int i = 1; i <= MAX_DEPTH; i++)
+            ZERO_HASHES[i] = concatAndHash(ZERO_HASHES[i - 1], ZERO_HASHES[i - 1]);
+    }
 
     public static byte[] getZeroHash(int index) {
-        if (index == 0) return new byte[32];
-        byte[][] zeroHashes = new byte[index + 1][32];
-        for (int i = 1; i <= index; i++)
-            zeroHashes[i] = concatAndHash(zeroHashes[index - 1], zeroHashes[index -1]);
-        return zeroHashes[index];
+        if (index < 0 || index > MAX_DEPTH)
+            throw BMVException.unknown("invalid zero hash index " + index);
+        return ZERO_HASHES[index];
     }
 
     public static byte[] serialize(BigInteger integer, int size) {
@@ -64,6 +75,19 @@ public class SszUtils {
         validateMerkleBranch(proof.getLeaf(), proof.getHashes(), depth.intValue(), index.intValue(), root);
     }
 
+    /**
+     * Returns generalized index of the node at the last index in the subtree of the former indices,
+     * as concat_generalized_indices of consensus specs.
+     */
+    public static long concatGeneralizedIndices(long... indices) {
+        long ret = 1;
+        for (long index : indices) {
+            long highest = Long.highestOneBit(index);
+            ret = ret * highest + (index - highest);
+        }
+        return ret;
+    }
+
     public static BigInteger floorLog2(BigInteger value) {
         var val = value.bitLength() - 1;
         return BigInteger.valueOf(val);
@@ -106,25 +130,151 @@ public class SszUtils {
         return highestOneBit * 2;
     }
 
-    public static byte[] merkleize(byte[][] chunk) {
-        var chunkCount = chunk.length;
-        var size = SszUtils.nextPow2(chunkCount);
-        byte[][] tree = new byte[size][Constants.BYTES_PER_CHUNK];
-        System.arraycopy(chunk, 0, tree, 0, chunkCount);
+    public static byte[] merkleize(byte[][] chunks) {
+        return merkleize(chunks, chunks.length);
+    }
+
+    /**
+     * Returns the root of the tree which has the chunks and zero chunks up to the next power of two of limit.
+     * Zero chunks are not allocated, the root of zero subtree is taken from the precomputed zero hashes.
+     * Hashes of each level are written over the copy of chunks, so that it doesn't modify the given chunks.
+     *
+     * @param chunks chunks of leaves
+     * @param limit  maximum number of chunks
+     * @return root of the tree
+     */
+    public static byte[] merkleize(byte[][] chunks, int limit) {
+        int count = chunks.length;
+        if (count > limit)
+            throw BMVException.unknown("chunks exceed limit " + count + " > " + limit);
+        int depth = limit <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(limit - 1);
+        if (count == 0) return getZeroHash(depth);
 
-        var depth = Integer.bitCount(size - 1);
+        byte[][] nodes = new byte[count][];
+        System.arraycopy(chunks, 0, nodes, 0, count);
+        byte[] buf = new byte[Constants.BYTES_PER_CHUNK * 2];
         for (int i = 0; i < depth; i++) {
-            int padCount = chunkCount % 2;
-            int paddedChunkCount = chunkCount + padCount;
+            int parents = (count + 1) / 2;
+            for (int j = 0; j < parents; j++) {
+                int left = j * 2;
+                byte[] right = left + 1 < count ? nodes[left + 1] : ZERO_HASHES[i];
+                nodes[j] = hash(buf, nodes[left], right);
+            }
+            count = parents;
+        }
+        return nodes[0];
+    }
+
+    /**
+     * Verifies multiproof of the leaves at generalized indices, as calculate_multi_merkle_root of consensus specs.
+     * Hashes are the nodes of helper indices in descending order of generalized index.
+     * A leaf may be an ancestor of other leaves, then it must be equal to the node computed from them.
+     *
+     * @param root    expected root
+     * @param indices generalized indices of the leaves
+     * @param leaves  leaves
+     * @param hashes  nodes of helper indices
+     */
+    public static void verifyMultiproof(byte[] root, long[] indices, byte[][] leaves, byte[][] hashes) {
+        if (indices.length == 0 || indices.length != leaves.length)
+            throw BMVException.unknown("invalid multiproof leaves");
+        long[] helpers = getHelperIndices(indices);
+        if (helpers.length != hashes.length)
+            throw BMVException.unknown("invalid multiproof hashes " + hashes.length + " != " + helpers.length);
+        checkChunks(leaves);
+        checkChunks(hashes);
+
+        Map<Long, byte[]> nodes = new HashMap<>();
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < helpers.length; i++) {
+            nodes.put(helpers[i], hashes[i]);
+        }
+        for (int i = 0; i < indices.length; i++) {
+            if (nodes.put(indices[i], leaves[i]) != null)
+                throw BMVException.unknown("duplicated multiproof index " + indices[i]);
+        }
+        long[] sorted = concat(indices, helpers);
+        sortDescending(sorted);
+        for (long k : sorted) keys.add(k);
 
-            for (int j = 0; j < padCount; j++)
-                tree[chunkCount + j] = SszUtils.getZeroHash(i);
+        // leaves which are ancestors of other leaves, to be checked with the computed node
+        Map<Long, Boolean> unchecked = new HashMap<>();
+        for (long index : indices) unchecked.put(index, Boolean.TRUE);
+        byte[] buf = new byte[Constants.BYTES_PER_CHUNK * 2];
+        for (int pos = 0; pos < keys.size(); pos++) {
+            long k = keys.get(pos);
+            if (k <= 1 || !nodes.containsKey(k ^ 1)) continue;
+            long parent = k >>> 1;
+            byte[] existing = nodes.get(parent);
+            if (existing != null && unchecked.get(parent) == null) continue;
+            byte[] node = hash(buf, nodes.get(k & ~1L), nodes.get(k | 1));
+            if (existing == null) {
+                nodes.put(parent, node);
+                keys.add(parent);
+            } else {
+                if (!Arrays.equals(existing, node))
+                    throw BMVException.unknown("Invalid MerkleBranch");
+                unchecked.remove(parent);
+            }
+        }
+        if (!Arrays.equals(nodes.get(1L), root))
+            throw BMVException.unknown("Invalid MerkleBranch");
+    }
 
-            for (int j = 0; j < paddedChunkCount; j += 2)
-                tree[j / 2] = SszUtils.concatAndHash(tree[j], tree[j + 1]);
+    /**
+     * Returns generalized indices of the nodes which are required to verify multiproof of the indices,
+     * in descending order.
+     */
+    public static long[] getHelperIndices(long[] indices) {
+        Map<Long, Boolean> paths = new HashMap<>();
+        for (long index : indices) {
+            if (index < 1)
+                throw BMVException.unknown("invalid generalized index " + index);
+            for (long k = index; k > 1; k >>>= 1) paths.put(k, Boolean.TRUE);
+        }
+        Map<Long, Boolean> helpers = new HashMap<>();
+        for (long index : indices) {
+            for (long k = index; k > 1; k >>>= 1) {
+                long sibling = k ^ 1;
+                if (paths.get(sibling) == null) helpers.put(sibling, Boolean.TRUE);
+            }
+        }
+        long[] ret = new long[helpers.size()];
+        int i = 0;
+        for (long k : helpers.keySet()) ret[i++] = k;
+        sortDescending(ret);
+        return ret;
+    }
 
-            chunkCount = paddedChunkCount / 2;
+    private static void checkChunks(byte[][] chunks) {
+        for (byte[] chunk : chunks) {
+            if (chunk == null || chunk.length != Constants.BYTES_PER_CHUNK)
+                throw BMVException.unknown("invalid multiproof node");
         }
-        return tree[0];
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] ret = new long[a.length + b.length];
+        System.arraycopy(a, 0, ret, 0, a.length);
+        System.arraycopy(b, 0, ret, a.length, b.length);
+        return ret;
+    }
+
+    private static void sortDescending(long[] a) {
+        for (int i = 1; i < a.length; i++) {
+            long v = a[i];
+            int j = i - 1;
+            while (j >= 0 && a[j] < v) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = v;
+        }
+    }
+
+    private static byte[] hash(byte[] buf, byte[] left, byte[] right) {
+        System.arraycopy(left, 0, buf, 0, Constants.BYTES_PER_CHUNK);
+        System.arraycopy(right, 0, buf, Constants.BYTES_PER_CHUNK, Constants.BYTES_PER_CHUNK);
+        return Context.hash("sha-256", buf);
     }
 }
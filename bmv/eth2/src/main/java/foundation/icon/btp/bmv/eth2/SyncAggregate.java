@@ -26,12 +26,8 @@ public class SyncAggregate {
         this.syncCommitteeSignature = syncCommitteeSignature;
     }
 
-    boolean[] getSyncCommitteeBits() {
-        boolean[] bits = new boolean[Constants.SYNC_COMMITTEE_COUNT];
-        for (int i = 0; i < syncCommitteeBits.length; i++)
-            for (int j = 0; j < 8; j++)
-                bits[i * 8 + j] = (syncCommitteeBits[i] & (1 << j)) != 0;
-        return bits;
+    byte[] getSyncCommitteeBitvector() {
+        return syncCommitteeBits;
     }
 
     byte[] getSyncCommitteeSignature() {
@@ -17,13 +17,16 @@ package foundation.icon.btp.bmv.eth2;
 
 
 import foundation.icon.score.util.StringUtil;
+import score.Context;
 import score.ObjectReader;
 import score.ObjectWriter;
 import scorex.util.ArrayList;
 
-public class SyncCommittee {
+public class SyncCommittee implements SyncCommitteeKeys {
     private BlsPublicKeys blsPublicKeys;
     private byte[] aggregatePubKey;
+    // memoized, not serialized
+    private byte[] hashTreeRoot;
     private static final int BLS_PUBLIC_KEY_LENGTH = 48;
 
     public SyncCommittee(BlsPublicKeys blsPublicKeys, byte[] aggregatePubKey) {
@@ -35,6 +38,12 @@ public class SyncCommittee {
         return blsPublicKeys.blsPublicKeys;
     }
 
+    @Override
+    public byte[] getPublicKey(int index) {
+        return blsPublicKeys.blsPublicKeys[index];
+    }
+
+    @Override
     public byte[] getAggregatePubKey() {
         return aggregatePubKey;
     }
@@ -52,22 +61,32 @@ public class SyncCommittee {
     }
 
     public byte[] getHashTreeRoot() {
-        var packed = pack();
-        return SszUtils.merkleize(packed);
+        if (hashTreeRoot == null) {
+            hashTreeRoot = SszUtils.merkleize(pack());
+        }
+        return hashTreeRoot;
     }
 
     byte[] hashPublicKeys() {
-        byte[][] packed = new byte[Constants.SYNC_COMMITTEE_COUNT][Constants.BYTES_PER_CHUNK];
-        for (int i = 0; i < blsPublicKeys.blsPublicKeys.length; i++)
-            packed[i] = SszUtils.concatAndHash(blsPublicKeys.blsPublicKeys[i], new byte[Constants.BYTES_PER_CHUNK / 2]);
-        return SszUtils.merkleize(packed);
+        var publicKeys = blsPublicKeys.blsPublicKeys;
+        byte[][] packed = new byte[publicKeys.length][];
+        byte[] buf = new byte[BLS_PUBLIC_KEY_LENGTH + Constants.BYTES_PER_CHUNK / 2];
+        for (int i = 0; i < publicKeys.length; i++)
+            packed[i] = hashPublicKey(buf, publicKeys[i]);
+        return SszUtils.merkleize(packed, Constants.SYNC_COMMITTEE_COUNT);
+    }
+
+    // root of Bytes48, the key is padded with zero to two chunks
+    private static byte[] hashPublicKey(byte[] buf, byte[] publicKey) {
+        System.arraycopy(publicKey, 0, buf, 0, BLS_PUBLIC_KEY_LENGTH);
+        return Context.hash("sha-256", buf);
     }
 
     private byte[][] pack() {
-        var packed = new byte[2][Constants.BYTES_PER_CHUNK];
-        var publicKeysRoot = hashPublicKeys();
-        packed[0] = publicKeysRoot;
-        packed[1] = SszUtils.concatAndHash(aggregatePubKey, new byte[Constants.BYTES_PER_CHUNK / 2]);
+        var packed = new byte[2][];
+        byte[] buf = new byte[BLS_PUBLIC_KEY_LENGTH + Constants.BYTES_PER_CHUNK / 2];
+        packed[0] = hashPublicKeys();
+        packed[1] = hashPublicKey(buf, aggregatePubKey);
         return packed;
     }
 
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package foundation.icon.btp.bmv.eth2;
+
+import score.ArrayDB;
+import score.Context;
+import score.DictDB;
+
+import java.math.BigInteger;
+
+/**
+ * Storage of sync committees indexed by sync committee period.
+ * Header of the committee is stored in DictDB, and public keys are packed into chunks of
+ * {@value #KEYS_PER_CHUNK} keys in ArrayDB of the period, so that verification reads
+ * only the chunks of the keys which it aggregates.
+ */
+public class SyncCommitteeDB {
+    static final int KEYS_PER_CHUNK = 16;
+    static final int BLS_PUBLIC_KEY_LENGTH = 48;
+    private final String id;
+    private final DictDB<BigInteger, SyncCommitteeHeader> headers;
+
+    public SyncCommitteeDB(String id) {
+        this.id = id;
+        this.headers = Context.newDictDB(id, SyncCommitteeHeader.class);
+    }
+
+    private ArrayDB<byte[]> chunks(BigInteger period) {
+        return Context.newArrayDB(id + "|" + period, byte[].class);
+    }
+
+    public SyncCommitteeHeader getHeader(BigInteger period) {
+        return headers.get(period);
+    }
+
+    public boolean contains(BigInteger period) {
+        return headers.get(period) != null;
+    }
+
+    /**
+     * @return committee of the period which loads public keys on demand, or null if not exists
+     */
+    public Committee get(BigInteger period) {
+        var header = headers.get(period);
+        if (header == null) return null;
+        return new Committee(header, chunks(period));
+    }
+
+    public void set(BigInteger period, SyncCommittee syncCommittee) {
+        var chunks = chunks(period);
+        clear(chunks);
+        var publicKeys = syncCommittee.getBlsPublicKeys();
+        for (int i = 0; i < publicKeys.length; i += KEYS_PER_CHUNK) {
+            int n = Math.min(KEYS_PER_CHUNK, publicKeys.length - i);
+            byte[] chunk = new byte[n * BLS_PUBLIC_KEY_LENGTH];
+            for (int j = 0; j < n; j++)
+                System.arraycopy(publicKeys[i + j], 0, chunk, j * BLS_PUBLIC_KEY_LENGTH, BLS_PUBLIC_KEY_LENGTH);
+            chunks.add(chunk);
+        }
+        headers.set(period, new SyncCommitteeHeader(syncCommittee.getHashTreeRoot(), syncCommittee.getAggregatePubKey()));
+    }
+
+    public void remove(BigInteger period) {
+        clear(chunks(period));
+        headers.set(period, null);
+    }
+
+    private static void clear(ArrayDB<byte[]> chunks) {
+        for (int i = chunks.size(); i > 0; i--)
+            chunks.removeLast();
+    }
+
+    public static class Committee implements SyncCommitteeKeys {
+        private final SyncCommitteeHeader header;
+        private final ArrayDB<byte[]> chunks;
+        private final byte[][] loaded;
+
+        private Committee(SyncCommitteeHeader header, ArrayDB<byte[]> chunks) {
+            this.header = header;
+            this.chunks = chunks;
+            this.loaded = new byte[chunks.size()][];
+        }
+
+        public SyncCommitteeHeader getHeader() {
+            return header;
+        }
+
+        @Override
+        public byte[] getAggregatePubKey() {
+            return header.getAggregatePubKey();
+        }
+
+        @Override
+        public byte[] getPublicKey(int index) {
+            int c = index / KEYS_PER_CHUNK;
+            if (c >= loaded.length) throw BMVException.unknown("invalid index of sync committee : " + index);
+            byte[] chunk = loaded[c];
+            if (chunk == null) {
+                chunk = chunks.get(c);
+                loaded[c] = chunk;
+            }
+            byte[] key = new byte[BLS_PUBLIC_KEY_LENGTH];
+            System.arraycopy(chunk, (index % KEYS_PER_CHUNK) * BLS_PUBLIC_KEY_LENGTH, key, 0, BLS_PUBLIC_KEY_LENGTH);
+            return key;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package foundation.icon.btp.bmv.eth2;
+
+import foundation.icon.score.util.StringUtil;
+import score.ObjectReader;
+import score.ObjectWriter;
+
+public class SyncCommitteeHeader {
+    private final byte[] hashTreeRoot;
+    private final byte[] aggregatePubKey;
+
+    public SyncCommitteeHeader(byte[] hashTreeRoot, byte[] aggregatePubKey) {
+        this.hashTreeRoot = hashTreeRoot;
+        this.aggregatePubKey = aggregatePubKey;
+    }
+
+    public byte[] getHashTreeRoot() {
+        return hashTreeRoot;
+    }
+
+    public byte[] getAggregatePubKey() {
+        return aggregatePubKey;
+    }
+
+    public static SyncCommitteeHeader readObject(ObjectReader r) {
+        r.beginList();
+        var hashTreeRoot = r.readByteArray();
+        var aggregatePubKey = r.readByteArray();
+        r.end();
+        return new SyncCommitteeHeader(hashTreeRoot, aggregatePubKey);
+    }
+
+    public static void writeObject(ObjectWriter w, SyncCommitteeHeader obj) {
+        w.beginList(2);
+        w.write(obj.hashTreeRoot);
+        w.write(obj.aggregatePubKey);
+        w.end();
+    }
+
+    @Override
+    public String toString() {
+        return "SyncCommitteeHeader{" +
+                "hashTreeRoot=" + StringUtil.toString(hashTreeRoot) +
+                ", aggregatePubKey=" + StringUtil.toString(aggregatePubKey) +
+                '}';
+    }
+}
@@ -16,6 +16,7 @@
 package foundation.icon.btp.bmv.eth2;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
 public class Utils {
     public static BigInteger SLOTS_PER_EPOCH = BigInteger.valueOf(32);
@@ -28,4 +29,12 @@ public class Utils {
     static BigInteger computeSyncCommitteePeriod(BigInteger slot) {
         return computeEpoch(slot).divide(EPOCHS_PER_SYNC_COMMITTEE_PERIOD);
     }
+
+    static BigInteger getCapellaEpoch(byte[] genesisValidatorsRoot) {
+        if (Arrays.equals(genesisValidatorsRoot, Constants.MAINNET_GENESIS_VALIDATORS_ROOT))
+            return Constants.MAINNET_CAPELLA_EPOCH;
+        if (Arrays.equals(genesisValidatorsRoot, Constants.SEPOLIA_GENESIS_VALIDATORS_ROOT))
+            return Constants.SEPOLIA_CAPELLA_EPOCH;
+        throw BMVException.unknown("invalid genesisValidatorsRoot");
+    }
 }
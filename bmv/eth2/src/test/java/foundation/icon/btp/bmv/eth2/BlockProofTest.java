@@ -0,0 +1,104 @@
+package foundation.icon.btp.bmv.eth2;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockProofTest {
+    private static final BigInteger capellaSlot = Constants.SEPOLIA_CAPELLA_EPOCH.multiply(Utils.SLOTS_PER_EPOCH);
+    private static final BigInteger slot = capellaSlot.add(BigInteger.valueOf(8192 * 3 + 100));
+    private static final byte[] receiptsRoot = node(0xff);
+
+    private static byte[] node(long index) {
+        var ret = new byte[Constants.BYTES_PER_CHUNK];
+        for (int i = 0; i < 8; i++)
+            ret[i] = (byte) (index >>> (i * 8));
+        return ret;
+    }
+
+    // multiproof of the header root at headerIndex and receiptsRoot at receiptsIndex in the subtree of the header
+    private static MultiProof multiProof(long headerIndex, long receiptsIndex, byte[][] roots) {
+        byte[] headerRoot = null;
+        byte[] value = receiptsRoot;
+        for (long k = receiptsIndex; k > 1; k >>>= 1) {
+            if ((k & 1) == 0)
+                value = SszUtils.concatAndHash(value, node(k ^ 1));
+            else
+                value = SszUtils.concatAndHash(node(k ^ 1), value);
+            if (k >>> 1 == headerIndex) headerRoot = value;
+        }
+        roots[0] = value;
+        roots[1] = headerRoot;
+        long[] indices = {headerIndex, receiptsIndex};
+        long[] helpers = SszUtils.getHelperIndices(indices);
+        byte[][] hashes = new byte[helpers.length][];
+        for (int i = 0; i < helpers.length; i++)
+            hashes[i] = node(helpers[i]);
+        return new MultiProof(indices, new byte[][]{headerRoot, receiptsRoot}, hashes);
+    }
+
+    @Test
+    void generalizedIndices() {
+        // body_root of BeaconBlockHeader, execution_payload of BeaconBlockBody, receipts_root of ExecutionPayload
+        assertEquals(Constants.RECEIPTS_ROOT_GINDEX, SszUtils.concatGeneralizedIndices(12, 25, 19));
+
+        var finalizedSlot = slot.add(BigInteger.valueOf(8192));
+        assertEquals(37L * 8192 + 100, BlockProof.getHeaderIndex(slot, finalizedSlot, Constants.SEPOLIA_GENESIS_VALIDATORS_ROOT));
+
+        var historicalIndex = BlockProof.getHeaderIndex(slot, finalizedSlot.add(BigInteger.ONE), Constants.SEPOLIA_GENESIS_VALIDATORS_ROOT);
+        assertEquals(((59L * 2 * (1 << 24) + 3) * 2) * 8192 + 100, historicalIndex);
+        assertThrows(BMVException.class, () -> BlockProof.getHeaderIndex(
+                capellaSlot.subtract(BigInteger.ONE), finalizedSlot, Constants.SEPOLIA_GENESIS_VALIDATORS_ROOT));
+        assertThrows(BMVException.class, () -> BlockProof.getHeaderIndex(
+                slot, finalizedSlot.add(BigInteger.ONE), new byte[32]));
+    }
+
+    @Test
+    void verifyHeader() {
+        var finalizedSlot = slot.add(BigInteger.ONE);
+        var gvr = Constants.SEPOLIA_GENESIS_VALIDATORS_ROOT;
+        var headerIndex = BlockProof.getHeaderIndex(slot, finalizedSlot, gvr);
+        var roots = new byte[2][];
+        var proof = multiProof(headerIndex, BlockProof.getReceiptsRootIndex(headerIndex), roots);
+        proof.verifyHeader(roots[0], roots[1], headerIndex);
+        assertArrayEquals(receiptsRoot, proof.getReceiptsRoot());
+
+        // historical header
+        var historicalSlot = slot.add(BigInteger.valueOf(8192 * 2));
+        var historicalIndex = BlockProof.getHeaderIndex(slot, historicalSlot, gvr);
+        var historicalProof = multiProof(historicalIndex, BlockProof.getReceiptsRootIndex(historicalIndex), roots);
+        historicalProof.verifyHeader(roots[0], roots[1], historicalIndex);
+    }
+
+    @Test
+    void verifyHeaderWithWrongIndex() {
+        var headerIndex = BlockProof.getHeaderIndex(slot, slot, Constants.SEPOLIA_GENESIS_VALIDATORS_ROOT);
+        var roots = new byte[2][];
+
+        // valid proof of the header at another slot
+        var otherSlot = multiProof(headerIndex + 1, BlockProof.getReceiptsRootIndex(headerIndex + 1), roots);
+        otherSlot.verifyHeader(roots[0], roots[1], headerIndex + 1);
+        var e = assertThrows(BMVException.class, () -> otherSlot.verifyHeader(roots[0], roots[1], headerIndex));
+        assertTrue(e.getMessage().contains("invalid multiProof header index"));
+
+        // valid proof of another leaf in the header, state_root of BeaconBlockHeader
+        var stateRoot = multiProof(headerIndex, SszUtils.concatGeneralizedIndices(headerIndex, 8 + 3), roots);
+        e = assertThrows(BMVException.class, () -> stateRoot.verifyHeader(roots[0], roots[1], headerIndex));
+        assertTrue(e.getMessage().contains("invalid multiProof receipts root index"));
+
+        // header in the historical summary is not accepted for recent slot
+        var historicalIndex = BlockProof.getHeaderIndex(slot, slot.add(BigInteger.valueOf(8192 * 2)),
+                Constants.SEPOLIA_GENESIS_VALIDATORS_ROOT);
+        var historical = multiProof(historicalIndex, BlockProof.getReceiptsRootIndex(historicalIndex), roots);
+        assertThrows(BMVException.class, () -> historical.verifyHeader(roots[0], roots[1], headerIndex));
+
+        // header root which doesn't match with the leaf
+        var valid = multiProof(headerIndex, BlockProof.getReceiptsRootIndex(headerIndex), roots);
+        var invalidHeader = Arrays.copyOf(roots[1], roots[1].length);
+        invalidHeader[0] ^= 1;
+        assertThrows(BMVException.class, () -> valid.verifyHeader(roots[0], invalidHeader, headerIndex));
+    }
+}
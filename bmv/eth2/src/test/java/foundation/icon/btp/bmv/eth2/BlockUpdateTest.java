@@ -28,11 +28,32 @@ public class BlockUpdateTest {
 
     @Test
     void verifySignature() {
-        assertTrue(blockUpdate.verifySyncAggregate(syncCommittee.getBlsPublicKeys(), genesisRoot));
+        assertNotNull(blockUpdate.verifySyncAggregate(syncCommittee, null, genesisRoot));
 
         byte[] invalidSyncCommitteeBytes = StringUtil.hexToBytes("b1315d9719cd01456c6e49cbeb372b82ad021009731ed0881a2f0095171b77d550a354292a0a36b06c2679f05a6c4602a7e13022e4b15a55f339a35a5e391f3b043e61742235ae0c58a07425ab3a476ffcc8dac2f9cdea716bef4d4a7af284268faf594634413ecfd973b22d30058ee5f6b33f07a99c0c010e7ef9d4f609ce66a1ee719bb8288bc70048e5f688a3e512a67b39f594abe19f0858d2ca8995c8e622dce1ce1882f6aed163177fd943612e18bc8a749269f580e2a53e334b394c2096897c4c4fca143692aa822ecd2ee016d0e8cb67a4a4227475249df390b8fd9bf2cbaa363798779eb51390e997d363ecb2d18ec82b361263f8e2fedbd12f697410c33a95865221ffe40994c8a61968cd5707797fcbc7ce04fbd10efd4a42a660a30572b9b3806c2f5c2935538cf864e882dffff0f4628ec8770c9ed1c6a6df817a2ba04505e007a47acd03a52f75fbe08b6d4ca3b00b5eac8ad5b83d862ce2800757fe0b0711c164aa2ab9ac0e62f736d1e7a3f8512ce64344113ba30da6a16189f0b5c9ec9083a48f674b45ce735268f4ccc6dbabc738041004055467db65548050c4e2ede12a3a04f83533ac15ccc7a5c4a10f38afadd22410787d155d3a2b1ad712b531feeb7ae635273b084fc21e805a7381955fe953256445526c8cdd139365704095d2f83d601ee5b1d56f47b2f657a6107a7458c17568a21ea4d08b2b8649b1a816b4e6c22e078e606b8d1e60ab1eca2e63b8e64711b3efc5b79937feaab58880531f6968d06419b8cd8d98b0546befb01330f804cc3284f54c4181c18cc5115c98b8b67b9ec04c9c0c0448bad71cf372aa90f44ac4d8ffa77eab347a296e4fc2d59202ae1bf82add774fd753b7a9ed52d0639f004924db8f9f49697247770a77eee79c5bea0bb4a95e915b05b0a5aeac2d378bf9fa347fee804d09c99800e6add968d64a1094a4028f770cfe2ad90c087520948f288bc9700e788e020cc3ceb0e4801c90bccf7270c694ddc0b90a969b6851add14542302dc244d346836c9607416210afead9ac6fabd41c542d04f72677edac9b346b56fc15a6846aa5a00c522e64235568e23fac5134fdb860042c2868de0f0a45a5ba2cbd391649e1cc5226a61dc4a5975fa4e08e48923f9492dd2e8359a8dded7345a9dc448a8e577e3cd0957764ac66fa624465b1cb16ae48c736e71c4ba758e23d4ffc1dc5d482ecae7e632e3f0eeb872277377a45c5cbec76315387a53847c6fbdb919725a0a0678117cb63ef71c32ec93228463d8b8a8c7cd971a7fae7f8cdea667d7b1d0dfbbf16983d0c716c5c9b368681c27f4ae9e0bdc11b40d2c58ba4bbd728588f2b80f79fec1584f10ccab360bf8df8d06f4c1a7c04131c1ceae73a0144e82782bb08337787ab62e9f9f64e4535fb6131c3966c3e9f871d2517c61b792d1facc3877d658429e69cc319bcd99a8ff24e5498471ae044851113ab100eb7a1d4ef8df0b09d7b11fd47b82f5be1918487b3f142d7be966afef53dae4bfbd3f59c61667febdcf2a217d00b31fd1bf90277a41bc28a86a180b548174740f51ae3faa8781b6d252b8e0ed6709213e88bd9df24b0cda7b9a4e9d13f9bd78a6b1f4bd030d61d8c46a70adea4e5d67235473eb75be4de484db4f82f414649e69112694ec6b441618dd9a1293eac548cc9220a395257afad760c6b7142c7769d0e1133f7ac52b7dd93e040f1e19d7f497bd3aa5bc8e8c2371f40a530079b844bf7848d4b91f31e8ef0596163764e74425aa398c5c32547afd479b4f1e4271989bf974b67ba566b03914a7c5636c26ed5026626976fc87f80aaf40265d599b905ae13cd908bd45f36afcb21d985bb4d8bbbdd3e32aad535ac71f457b8e4d9da16cc8511dcdc4b2581d29e89ee039de55e5a488d1a98e9566c00140e735461f43a0c31494e6263ae698b3b399b0c014f1586bb7b7b6e5b0898443ae02c4a43b2640751050b1def137dc129285576ab2caf5ec6739b8e0a3bfdc33a3279fb7aac802cb42d6379276eabf2eec4493a63eae3ac23e019cad0a3b09a928a9389621843e8cb0c5548ac9b05b7f577675f33570ba834a85ff59992b98d83455040ffa78df55db39dabd7fe5acadb2d6a60b1f9b1f1c6ab74b4c77de7e97d90c3e3d4e1a11b63eabf4126c7a7e017d423a4a43a394772e6cf969e4d6e5129dd06806d837d7428761dc685b1c993e97c91033a4501ec9427dcaef375a36bdf60fc1b914e4ca85b8621139080afb5802b5d661fa88abc77faec238a5a965f9619b36135358821baa36d418c0580fb031bb9f1b3493c7d2fb7292da868496e4b346850d4d00bb19cc466a1b4275118982cfb21794be697f248050e8b7aa7387b3138cd4deb4bfaa036e3b9ff461603bc2765bd648ce7225fc320104a16f9b47ea6242b89406ad694ac56f7c104a5a78a59066d21f615257fe25dedd946325561ccd31a27a290a444d9425b69920d9b0747c6d38d4b98a835a51a63ce669388bae43599c4eff8ce9729b47bc31f0517cce15374d1d43667088088ce4e78a8d29f5218dade1e9b3d0c3ce57c2faeb7cfb65ad763c81980037cab1859e734172712f49e19cf51d25ed420fab4aa5ae357fcb9e485cf1c8f7c626d7ed01fd6ab56041a401c7f3400508df065381678af0d4dd2469ff665ea65964b1f012dadbafa154bc81f3972963b896c200b1a91a066bd420fd4af87ae05bbfdcd6b6d60b4ed4872f550da58d831b031caefe1a9d2f9de7e7a4d5173dfafe0fb18b8680d8380b4071cfd4b582ea785db93e02ec0525052bdc156cfaa62efb11a4896c4130a70f274ebda4eb798b0cc17050a10ea95c5758d4da5f8f21e2ef84dc3214f15f93cdf05ec466916a415376e54ff0ca12d792a682dc327668c3aa5da13fb56f088124ee1c95985fba60daf513f7b7b46d60fdf5f94d3b2618293a39b66a7d888472dd3a79944d12b913610da6983641ca639934c22d44facad1bb2aa62c50bd57bde4e9d323d8d4287a8e4f07ac9b9db37cacfe8471ceac8ae5bad15f9aa3be7b4c9b8fa89ad2dca4dd10b04065906210fdc78b9796150f66eea0ea5bd7257aa291ddfad1d0e5e9986d1584147c2b45cb90bb6cff7a0cc93910a296dbc7e5b67165e743b1a8c02e112202838417c91f4c21243d253b4762dd65cea213ace2f8b8264adc13da1fced4426859fd01eedd6ea0d5e97009a16e9185a4bea54d18df46b112aee89217ba0d8273bdab9e1b368aa298fc84132413d0d271117db1a2382d9f5b621687866253265a1d24320bcd151b731e50652097c1f9e6e40f4281cc498af3fd1616af22c41ece804fbdce33eb84109736f08c6f20a31672f1d272edfe24fddf7d11e6101f0dd4def43a04fcb98ddfb74de0dc50081f03801e656ae0550a38307735acd52bfec0495235aa2caf8f4da206da86196b69deaf16aff6ff79947cd31104387714ebe475d0e72babf78df164dbe8a54d509d84aa8cbd9262094a438ac308f6bf3243a105e53485f75b15e29e53b1d5f6e6885ef0aaa8bf5a7e5c61d72189f069f92d709fd904899521c8a9638511705934998c55c1e3d94b48e4a32e3d13dbe6bf3add3c52b7cb1403ea2c3b42a23103fdd2cb6489ec3f90b82b24a2b47af4568c8268c439b8974e98bfc4f0bf3f65893cd06097834444682910aa58e0f8ccb1bba9faf95cef3d086632132aa62511c5a1745a8b7c469324cad7e6fda19c7ce4a198844481414bc27bad4cad123b178569e1a4f96998c64d416f130e4118db8e183e7bdb4f1cf0358826733e0eb6be050eb06a2f120bcc803d2c1cc6dae2047847754e6af947196104936cae1e8f3ff91867e5b8b865bfe9a99e706825be1949aef72f4bd8b2192af0db60fdecfd5d9cf802cd36a0eeb3be72dfc548bed5bc9c5dcf6dd6af1d1640ca8749df28843869e91b37db2962f35edbb4d3149878db5c97a5ea387fa646c30685a925c0d5e0e9d7e98b0a807714dfbb7bdb54711fd3d2e3d9c87932260bae455cb3efc948d2a1cad99eaf77422cc81dbfb4d0aa0733ff7938fdf4c63a112eda66c05aa719e5a5f4da956a2f365ceced457810cf65e9d0d573f1cc00e4d5dba152571e54eed0090c95fcd9a368df99fa1e1013887dbddf3255f7f2b4e4dcac58e76e14cdf7b21e0f5bafe32a2261ffe2ef17806f2c9eb906b410a029315a98b92bd6889908c5f7772fe47ab2c2c747d69c93c1e2c11c8effaf32ea7c76ca92c278e44f61c0ef37ffa5449bda5b1ef62850b8a47699ef2af2e1c6cbf00300a5746d67b2d6949edcce7c54587749a3bd43121fe393d37d563e2dd96d3fe1d0a6aa3dbcf267141ef8e81e466ac39e6a202160e804f43d9d85af5e57ef22962ae3bcece4ae0e20de38ae80683b39703d41e8973ea089aa0060f0bc62b9a01b4dbc7d5e543c9aedce86efd022119060763877851cd7973de1550a58d4bf008d0b3b58ac26a43721df302b259a4b6e74f21048c46c66833450f34d466950884e3ef022ed2924c9c5ca6b33c8668f075ada3169438191ca86292616d534779138a4a9bac143ce01c1a30b0c580f256c1f73612402b8e32f27179ab107eab9c8a3e52a09586ae257faa56c0dc011dc488e3a4df13f081119e4d0f4db7248a6b56fdfe0e7d0ae8aa6d57a4ddb634f7224c9d049a8c9b0368a34e33903492a304b43873a5fa73e808be9f7c945058684fcb8abbcca00aab55e0a8b8f6f3799a9926f3bbc89809a6cf0bb4d130d2b20cb16e85884ff32bce329df149bf62ce6c6386d03af2c47670530b413c9fb78be60516f987f8b34e1e70b4e99f1138959d1a8f99825c193797ccae99e3e9ea7abafa8c21e5029d2241ecb969843322bdf8cfc9a2275db3dfa7b43e84c07031aea883ad47d4709ff50adac62f179b145ee70a24672f7706d84f60457a9733c590c0eb45d338f58dbeecced6a9e45a6e478d203efc0a417bf42bd8cfac8ca21c9d38bdff9ea2268ba5869248abf947ace57d067abbabfb904dab208c79266e662f3e7f2d7ea67a63d0384faa31a69d9d21509d82b929e270e621474cdeb37dd149f4dbbfda57b9934ac91157e15208a16d22964186342d4888e1180e95b79dd32a44297002bfb2849023da40b8cba8ec1b8c892465ebc1aeb12c299158b3374c7a42f046ded13aa99ce5056739ad93b6c755302a813c407a555285b1ee3cf7b2dc1e9313855cef95a84adbf0053f993ccefa29b3c484490147234944ae7aa2df6a1f3de3769dcea5207cb1785598abacdd3ef3c0a08a5781bef2879a90be7c2ab225fb04de3379fb35ccb1b05ab9f0b547b6568df454311d6f7e9432abd6f444192a92c15fe683a05453a7eb663169fa3a8a8a0c9221270ba16cfe8af423a4e6f05f463a4966a187e7218f24e9232ef4bdb7fe172bcf8b8275e809035a7cd0fc781668202bc1fa6baa91eb9da6ff2ee0ea304d13bf34782155804f89aaf68949831c83c53d091ab32a0b890ef3d7748f4fcc488fa8bf86317811c85f6e56d61b84f965f308dba8539c0098ac359ab00426515272051760b0cc869012bc228f72d095261ef21b6939d6e192ab32b576d6042d12fd5d7e53d54ab5a127f1011ad15349617830c1b7884275fff99334fee359a6fa52ac0c1eac524a08c0ce2f025122995cde0c4d71bba67dc469c618fe265c8bf62b2e6570b64f9ed08ece74169c9efd4a55d417c0e847639592b16220b4c5b8d6557be059bbfa42e29afe4a883bd83743d0d548af9907a29017a4c1c103222eae8d04406207b903b46d4f028476dc6148a27ac8f9bd37796e784060c22f2b97ad216ece0090602437b0f79c6c169b5c534f5fa54cc5d90d48a1ef6e20c2acfc9ad21e3ef779016c5569778e724c16c648b9353f7b931077bb85ee395b12cbee875d5b701c5e9d7359cdd5bb488e764a3370c64fff21e9766de7e266f31194aaa9a3e821a6a2d16f0531516694a38bcfdb92be95a71eeb1fa46bf73a7850ff3e17f7db1aa8e10904740c4cc98c8e65334e8565f195a74a49dd1f933e61cfacf4086419071bb6c66cbda6df3481a70747848d55de74dde33e305db80838b29dbc69e1601ceca6c079bb246e2f341bb2a735fec1f5fb66d17425b34c84cb02ee7bf7b5192b05c8f35b3f45f3293efd1d92b59739f630b168c1ef356fa0d0bbeb0147285be7f95298db32f55f12a60806554cd6f8051c0fe4c973fa59c47002d73ea1e48edfe098a26bae712292cb784dca1e435fce84a2d82065cc5a43c987cf8c88aa239b09d85ecd9ef6dc4e136ced49b829d5613a8e60029cad96f5f5f3da0a644f5ccf0812a4a37ee86a124df6c769e363cf02ea7ec2b9c41470d79a179501ed3f80840c88ff1734d322ab4439f959ec2e22d1e339aa262690fc0182ba4da7e1623d9c557f82232b4be4462a0edf78eb4dff99dda93ae047b7ecd18b65fdf03e4e70d5def2190a94739648d80fe720e20fa414836d833ebc4f6feb8fa3e5dc86ff1256b3b4023cfd8cf7bf2a314289ff5eafa89579434ea01453452694a286783f47eec9db96dc8976a45d944c90d12acb6a52b6923decc8ae1ff038b5ffd3f85616d419d106f43e7bad5d099b8e9d20e30e130388a4f38461cd8d699af097612e3006bba3ed1a8f7797a68861834e53fc24ddc0fc9d358faed91de0d565fd6e0aecf97654e7005e4cf1fe87b962535c8e137e9e8939cd6de2e68fcf984512ffe38d0a2a16cd5231349cb85c279f6044e1dd523be2d7800157d1c54ec50003fb8f7db9929465a39f2cab77149dba45b753973cf4a4d5b56352738179e0be1b0864e7563d5307ac6e0b37031bbc980085c78ce17e8b66c1e7e8dfa78f8128ab9da791a4a248b3c8a5a3b54468343995806e12b661bc9cee0ce064d9c692fcbdbf078838ab8d4a2cd32b62c0764dcfbfb7742619b35ae13db38ad4bb6c6eb22906bb9b1d1d216fb548cc24430a06d5783e58e49ea1a70a2e034201709e12698173c426d4e5ff93e998f0d0464d8b5e2b16656f2c17d0cba3542e1d9edb9e1fcf1cd5ead9c9b1b9be17b9d6dd9cdb5a1058c5d63a6a515acb73c23462fc8355749bd8052940435b0547dc50c7c37a8349ebb473298f8b872d54585c13710f04de0a34110d9e8fb7de6c42a024f79c898e4bdb512aaee675ad7297fbd23e7175ef56b41f1e85a340d0f52ffe8876de8eb848843918a324c05fdf1517a99cb6722abffd432f36f161325db198144caafc40b789233a32ae867b4d51491cf384dbe1e902f63171278d582a989123ce69aa387ea003a715bcc512e32d553923761f30de0942a058b48159bb187531442d342d839dd4b448e79e887da56ae5ed5a483b1052e108054e1ab3bd90b04a975a9994a5a0573f0fb9dc63edd4da32ba2f1bff4eaebc64c7a0c72a81e507ccbfa9c9f251a2cf744078151de4819ca837b9008611fa58dabf98d97c69c2ad2144df702d23362baf38d19fbe6b3e8840066c32b2cd5320d51d17a87b25501fc8e7a9187cd512606bf4b4ea9451c01bf29d66e37d518b0752fd0d0ecf46f543cfe466d2eb440149e53fb4cdb1c27bc0ffc2f4041929d11425669815b30383d79b120b4c1207ad22d2600898358d71f3a970342fb3aeb63d215b514bd62e41c8481bab04e6fd43eb387daaa4d0d8a4972b3901cdcb358ff0963918c7d81b7ac8445bb3b1d382c6d29151652c633b39f428888aff4aff607e43e791e74ad88739247b4b98df4b57e01d7805ecf1dddd2cdf0b313ef11b0d02f33b21f585c74c76039b8b0ee808ce806f72a507fef18ca9d49e760c6d419dfc9b0731cad6bb402899f9e12d7dba8691efd3d88461b357e8ca9bfbff72616ce17470aa4162b8f116ed656505e27c2a802a387f2d5c69fd9e8cb3e98553c7f37cbfef53fdcb5c27062a7aa2292fbbd3b7d976900e37309669fcd73761c0d615fc1533e720afbddd495b348fd8c3b20ac2619e349dca7a25225be7b470eb4f07764013b95c86eb0d414df11159cd05b17bafc67f57cf2f26224b490fc108208ba72211dad5e6a1daab232113a917cafa05583584e2d63b35df55b52dd0667e4f8dd091e9898c2126bb96c23a80a188948a6e8608beb071457a705542bfc7db4760cde7acb7a53d34dae0df7660b3a7b4dae0a2514c6aaa24a45d2f3f3174bbbac8066753125a11d93440035ec3636b76d5ce818481e8a0a0fa29974c3eba14cbe77388fb81d527c39b1e3d0cbf727e544844a97a1e806cceeb9b96866202908a78e27dacb09ec714f30f9db233a6646ba17ac3ae7981575acb85f889a9b7783e16b390be62114df3ea1cda1d72fda4c09151f7b2523c91dceb0520a98bcba099e88b553e5257c260dbca30b8ef22f9711694bbe37b6a4c370314ea65516c8e7af28bd687274ead484610917648c047bee71b2bd807ce30f7dd7d47b35a83d27e09320cffdbb65dfa83d7bac4bdcd0e154b83c2933a8f73921649ceb6d5555d615b400dde14ada7950794776652ef5ddb1909e25b1812484c5c04b4ac09229bb07d2588ac2ff6a7c3813ca0336e5a0d3d4dbb77fbd83aa340c6f766cb00d3f656dcb53b9813c7be9055f5b45c9ae1a35914a243ae50159b32cd4d24d5766266533027e9922d750d344d177961c5d848a95b988d1f59f6e71c1320801bf22163b5184902876184082cb9fd77265cc3a0d58a77ec66a86e7f959a15ee591417c46543dee7dfec998470eb0e9b174b99e2275ea1d2abe9e37e369a26d1f2582bb0486afe4c274b9d7e809d0a0d9f1b802b975ea8378eeacf7e4866b976d1c953636ec85a74b1772d092ced26086b239daa5251ee20fedc82ba384edd00128aa10873b6030f57d4120dd023cfde4e3c622832eeff61a585a1eb688514696fa38def4d73eb15fcbc63a1235fd509f234ffb711e1bbd7a5d03e5fca7d949d099b9176dea9f6b7903a8431a7d5593ae36405c7f7a0b14610e213e9ca33882c66fccf45dc149122e6f16bed8aba446307ff6226a3173df08236a494cc6008dd6a4031bc7c7038ea92aebbf498e4e3494fe2f64593f4ef13982a33ddb6f030c065e040639eaff5c68123c1d4663a0bb5bc9389e8bdd5c1c5f00c5f869945f9a25bf15a9120d4163e09f25387849c5075b554d989f66a318aaae0e6bd8dcf0be65cb5acab4eb434121f4e371ceded3d8685179e94bd6396c501b3483b6bf104a5fa1190f9878246beb5d10f3374cd3f15648348b80be16b488c8b42953043f5b5fd371f1e6ff92ba9927d2c857db22c7dca777a47a6b2f70f92e8cbf6f6eb583d83efef690470e998dd6be090d8a1e47424d1105e0b5364ee18a0c973f96a04bbc7dc43be3df3a3a2987ac47bf6f6ab05ab448b057abd2859466325406f91a7e7053966ff4074a92f17dc7599fba50a6c65753f60fda30c0595fe2d788f27ef692da67d3b8f7e0c5794eeed61cca17be26cf4bcbb8ee5efe5d58b176aefb3aae9ac004c67d7037225b14eaa42c7e0ddf2d3fbbf624bd2fb547d097860bca7e27a2459d0c7a7c37458173ab2c667e9322cfa0ab01785526fe688be328be9c7750daa5eb1857ff55ccdb9e917543258ec703b9e3a7065793d6bc622b573530f55af605ab3faa83562aeacc43248230e2590ffc319461b620e6757d42917e24b58369fb1e497da2565ccb1a42cfe5fcf803b9307c5f424968eabb39894471ace932aa17365288f15e4a5a7fc09872e71e01a0037a914c92325c2c75861256a110d5293f9dab460b52b729387bf64fd643d8d39d1dfaad74754c43c417943ff0f4463725d71fdca9462b665ca28ef2d081dbbf15bc872c89c663a91b3d7a899e4648bff78af7f9592ce1eaae405e5817090c3a08859283ef868ae07d2a6d469b85e77f0b92f772215c6aba0e50603e637526914ac0d0bd7793782bab1608059950fc0cb5f90deebd462dc14ef32aec339c1778726924d2aaecca18f724c2bb1c07bb8ed8ce026b32090f46ab2874a974644ba20130f60ee0144ca33442701759539e8e06ad80ccb090c21b8082767bc4ae5d67505877dfac19e00a4c5d9eae9f6fa7b4e794abfc6a54fce1c0464ac60a89a027faabf48b281848c87450d2b7d088f0bef628af50250179835c6734f775d155a499f7841fb54f1ff7589f109688780ebaba48eecab9be284abc68c5f7e6cd361d4fd73d37733ee592f873f00378534cb58262e68c2effb6403fdc65fe099e907e94cc3ef4eba3bfa8ba11e4e54b38a029f36a67f3590fc88618a8a4138cf485d039c623181f144de5c7ad6ce031257d1def8e45093c2a03aa327b133f080fa5113728fc35fe74131508cf2d9980baca62236ccc4d4e91482bb9f4ce068c3faeab4d504531f10cb39a94c7148e3d2632a0417213bdc6a85a5be7a01c2b728271cdbfc3117c5579cdf9c6124354592c41bc75903c08f0b4e09876b1cfe1dbe87e8957bc193d4de676c4693c07d4034d6d60f6675cf4c0d2fbe9453f4c44ec7ed928e4c658a5a17a759b7776d1763414bf0fd86cb6d9a47d0c64b271eba3eab78617a626fc624024fc835f3ad5d439637ff7779e5081767d7d7851465bbc3bbe709290a73b2597751ab29f34363cca75fcd39c4a9ab029a739b2b493be691bfec4f4cb5654fb4773671ad264b7b621dcd3079951a0adaca1710c4965ea61ddc53de3505bb702a16c51614f937aa263cce54378502cb63db38bcae92286c40434fa433af7adcf38c43972fcc585a6ab32215f44fb7d126aedbdc5532e75a5f0426b7d2ceda2ed39c95e4b8897f3d7d1a9ab53425af7fea45484a16b7544a4d5fb27458b30a645830d3231f721c1f2a0132fd9f67e407ef9c5567b421eaaeafb08d43099a7e5014c1f5c7643f8a64f54b451c7d1f4d669932920b53feef9f07605c80a35f18cfef4064cb8361b0ce9c4e306361f7ba564d80a6d1a85cecc843781ebe3848452b370314e6e343d8c5f18246109e4d0bee8e4ba663b00ad13f3ef4032ebf98689a22fca1fdbfde24480c0ddbe15591f8d098f73d9ee36bea484c833df6d1b5c1bbf5c12909b606b357c6362e8e3bd9b6d04069f181546a3cb51ce01a44a136f9c2ba3b1d31c5b1a4cf1188f5053d9b137bf85f1ee9ac6450b215a4dc24c4f549161df17e9af7e95cdb44ab7b4794d41807f7dc4cffdef7b8bc206b0f4347cb927b7a0d4afaa4cc5dab192fb27990b7de3fc3c7da755b310249089cdba086000bb44633722c22d05feaf152b78f66e78c2f19d57e48b1432872f0a482dbf4bca07e76275ad87d7b7950419abe4e81c2ea728a525bc4d6eca7072a73e5fa51923cdb6950aa6c9484ddf23120b77328495908579d096f2680828ec1eae6c4c438b11491fa54718099b16f337ec3e9036f922ac88036489137b92e4f13c6752e93e4d2fed1becb7c63abe192ad7593ad3ab8f309eba984d572f73790e1a589723d4158c4c3ec51b48da75aa008dcfc38486a667c9825aafa4682661191b55b50607d0aa0bbb5bcd4d826422610fb2b1886c1f12b88b18183157b450e764a2d61fc6a9e5ae13f49477ffda88960554cf739434710b4bd84d547f4e9a94f9a8808328f5aa0abeccf89317148f12cb8a0e47f2cb084cc532aaa2e6087cec516deb7875efee3d38205aa350eeeca3c7a3362ee58e4ded978cdb90f1fad489cfd9e90fa23d1d06171542512c5091e7dba558de046889c3c96618efe5b9c959e197848e484075ba7bef4b8f21a6951ff96e1452aed8279c76496b2fd246a856194509f075381c69905e0105ba80d2b603382134cfe994efe5341b44e670b71d240074e8165f9c5ac300cabbaa5317468fd4bad6403eeff554cac01cdd711e7fe382b9a981591035ab402aa241e9514a24c6880365fe762f8369bf063feab1714489fa92dabf78404619eb9f5a95c4da56a84665974fcd2ce8e0387feb33b83fac5117444d38bc39bfaedf3b32a1e56a9a1642c139fede96687a56f862ee0aef4377791f60f9629045f7b90a28ce410c0dd5ad1cd942332de7e5014045e705be7d3b6e10f1578c0cde001f7ebf2b4bf2109b35a9222b4e0c5edad99543f5cad5c2001b6fdea6794fca1d50c7012e777e9ed9afc67105f0bc568161e09ead64aa9d213c0ff340adfd97d35a6c2240826da3c0a92d1c3e80b361d9c5e4a3427c0487dc4c13334001e996de3226bff4bc7b94b9d6092205dd5e09a93b03f37f543f0106e76b8743d59510e067ca9253bd787af3f4f53520c00e8878f559b36864241004bc88a4eeddc757381a78fc8e092ee7ef1b62e6113891bbcfb5d73860771e0dadedf0b986a1f52578eb56ecacd69c18839abea9914defb872a8c13acb7e6d929b022073cd774cf7e9edfb98094df349e5d2ed7ed282855dfb581f3db71ba0593c46997f1f7d760274aa591ddf53bbc8e8e35d469f557288ff01a7a7f82ca84b2ba8df70240760f780aec643bba64be02b2b8a69992cc2e9d5ea4e4bfa4dd73e719ec42de3eb3d07a7184957b64c7ea5d5bd515e227edad0ce9af503614e4847098ea85e9d9cdc6a0378d23ab218ef4655a0e9b71d2783abaff060cb4ac16dd5192dd326db7f3a860f5dfc3726f30434a780c4b416822f0e1858a278784da06b9a70df11feb5dbb037bc72d1dd03c336dd9280c343c54e89355e82c15c6d169ef2c1475ac4510416e5f81eae754fa5fcd6e3635b284bfc205793176b89c4be25604d1d03ab0da2eb52f45c43ac064d23ce222e245d01257976585f376af09ceee715c3e51f7e001635656ad4842d33a1449c6a5094d931d074fb2f4f2e6a720198300f59cfdffb4fc00aee45e343f43f116f00ce708cc25f4a9c3f57a2735dff275fe4832e64aa91979931e4f660a784b0af42585f25abf719593392cb551652439ea774d4613658cad535e18ee098f8de240263caffd497a8581ac486069ee5d80a3f98d2c9a219705a67d905e969d78a3f4e265fbdb1df8694338bd91601596fc3f3559f8d3a5dfa7517f9021a2b730898c081aabb429cb7db5c3e84c98675367457cceb2d2122b633f816a808c260e396e790de17e40f46484ad0594dbd759a2d581b826db5b5bd1ab226807003aba5c6ae4cc8a11718ee84eb0a3bd11140830ca25c905872a3da1c6edbabf9e71c18833fa2491cab3383bb556c10189e0d5a01ba23a2ddc1fb61eb209021ff3ead4101b8439e73bb38da0d0276b3ded04f83b89c996162e773109ad1d764bf0a6ee96be732edd070ab24559c601a6980e12ff144cc07a76a00dfc97825e61d967504bb605e6c27cc921dcb432c808aa9a4afa41218b35f3dbe8516044f28890ed80bb0f3f596e4d992c2e9734d7f080b85365b427b17a94476655b43191d4b9273f0082f7fb52112ab51394934b5122a03f09459dcb5be62634442272b903f044f4aafc2604780aa60f74b3389d4cd31b9125bb78bc23a115310ea8dcd664912281f2a465ef86ed88c0ccd22e1cc9ebd432f598e6fc218291b7978c0d5d7e5bae1dbf1bf2168b01785129b8253712e027f7f08b0b1c528a66a3ebdf821507eee70b90a2c0551c35795655a94fe5413af34b3b22b816fd1a37c80ba51590392b7052550302bf44bd4fd269543bf1ed8430e7ce8a7a1b16dc8a15bd8666b6341a28d166b8b0dead4172d9ae3a7c972feacea4b14087d2216d7919af49b037f0209d0eee06bd699b6a1d1483b4ea2dd50d621262eb9177cd46803df9da1d12fe2f61adf1a7412a4e811239657f2c835756bab09bc3ce2e398028cbffb8e97cd964a8cc3deeb8cee8dafda151e7197e83b05e47cb5db29e8e14886ead41b9827e6d23500ebe18a8892cf109a386c0ad77f5a9967b196701f1ee933ab50f7a7193ba83694ec31142a29922b67c11a4547a431248a612de5232643909f8859c5c03d8906af682f53d81c05d5e7a37b7603cf1af6b3933fbc69bac994edd425492e5e894200b73ba49df6ce8725b9660e88d52f3d91adb80d1958251d0ad604adde536fc2b96635f2681d9e00ead0af02f6d86f4cf386263c0e19301b0bfa3d2bc4af6f2aaf4a9b9714c3d0ee5ff8461dfaa9b2bee2db66191bc76a720555bb7e5463743c89d87103514d2c5084297125a947245f6c8610bd95974fe1612f25f449d23ff1124a24ed6ff3354d4080617454e7e622894951a12daf19fffda815286b2bf6a7a6470604d0b93c6384d11c0d552e66b9bb1cfbb6f7149947bb7e1b6dad50bf8ea249de65f34676139abb394197f9cf667dbe69523996f65169ad62c4e6ff3142edc2dc8cc0283de1c84f3d7eebb636fc6218166bf2abefef298945239d558fbf364c88ad758ad37a8a4bc596572cee3286bd0226d8ccf584aec58df9234258c3ddd05419d46565082758a0eb0f2088da96cba457f1bdfa917438298b7019d0c1aad69922908a3bcf4e8468a9fcdf43614005bfd72059a9d84e8aab04aa434d021893778afa59c229bef28bf673bf14d2b205ac761ac22b12d70aae5cf743f88317cc4787f5b0ba7fc4b8176cdf29bd1a4f5dbfdc07a02a1a20d6de0692d2ea0d7b7dda0bd384231228607ca4374618ae150e8fb31b8c170432bb1e0c59f9046a7b0f153f7e2870e4f620f0482e5cdf209e644cc8946bb06e6d2159f39a25b80b8b293f6a5613b823c109616ac98a3022ced4df5f5c80bb65258c04171efe50fef17a79c3a746995bf8541dbcb4204cb8e0d2a389995c6115682a399c065bd4d79f372a46d232aad608553f2c1bb0683c5a981686074bd1a4b9fca3a836e863b345c3d4d96d10d5d7b9eb5b4238f387f9a6465fcc1b0998dcfec5fc34a68df2405168ec1f30fe10978913e782a08e549feb713c53ec69696ac54b654f4b886f9e2512cd3f36cc1545cab7c7416615c0fdd7c8c09639feac2dd9c32e8be0e061d2fdeb63f00bad2204bbea40ca77423c4ad150974e6dd0e55d8ec702aee9f3e984f750ca00263039176f2d3205eb165a590e2170206576d0c2dc2a8a72e033703168e2f42e81f0cb267432f7613824e6179a83012ff47e2715368754684c52ceabdd947273664277f8a70b21535ae0115b6d624b1c22ef8c0e813497bb55ba78a26f88a312b656868f918237a3d3439f1384618788b03fb396efc937dc04d9a71051ba205c4ded08da213ff8e0b466d54efbc7f8eb201b22652f9e91b0d672c190526d34fb71cd9c94b5fa1487b826dbe9d7deb797019d7f383a33736a4840d8dc3423aa2b75326bbe1ce0570a20340f39358f7524d883f4c5dd5a5120dddc9f21feafc5e566610be9243fb8ddf898ab05db0dffea91d03912b2135023270331f3376eb9848298ce32bdf8a03f2e11e72bb456c420e5f259d07b3c7e3874904e147ea606dd16bcabddb1b7b1ab60396004088302cbfba897bf4e5b1fda4330f831a36fcacc0e8567de960f998625fb8864bba527a5d3af7df848f46978ab255ab91bbc870c8b02156236f8a43b38886a03eebca5dd7f1de48e207d18b2f155155669f10bd841fe1c73075056feba6d2c32d978753d8778e40aece80cb41b4f9ec7a503ae08e32cdd0d74b8f08a30c8a9b07deb874ae47110532d6d11b9227b0f81b49d3630dae1f118fad923b0d806560ea4efb4cfc00ee787c2230bc8da3ec25867e25368bbee4e8cdd0a4ce23df55b73b63f9155e1567badfeda6495fad5eb0c23c9453179d2aeb0bdb9f733a8390120f2a9a798e95f0648ba950bd3e225f8133cb33187f6f231b54418d259953396f68794943cf2031d84cdfa04a72733fd3096caea01f1836ad65eed7663b641070d5407b8165a253c20b6ab1a51cd3b80d567b81ce6c7ebe5f5e951d80727894eb3420d5c1617b541e6b3cb46361b5bb53887ba66de5da67a4ac9c975c0e11ca2d266da536b3ff327b34e4f84ae5cbc4259156a1663b5c487902df59bf80e5174fc58dc9fd6580eeeb4e3eb6705e84cc08e8521db2f856d4617551dd249ea5f4885f7d23f7326627ba2c7fa18d7a8621e7bcd15856cc5d3ba81a1c84fc563d9f559576d64500538dca42e5da770193decd2c58a9bcf8d92e12a4cd968753fc5510bc95505251e7fd247d9282774b811e212fcf942938696821ae75e9897e774cf84c304ed6ed45d436465b9c797042b1c86a1c7fccc110c9d6c51c9712a89dd44267b5dc6dcb35428f788d557fe318cdc514420538ab6676b32aeeb0cbfe821fc5f4b7d05f915c858d32b88416a13ee87633fe95bada3dd1bc3b0e6d7cb515fd1198136795f21bb8d83f9fee7d219df843ad489e4307d8173f0d7fb8705d3be61133be455caaa8613fe8f46bd45ae5df4547fb2dfa7d4c6101dde00c497f3043f253c51a95e5e89ef9e78fa090baa4edde1992c7387b0e705a3d7c7271bf59086d521d963588699a34dc7b1499f5a5b7eee904a844195764beca4ba7a7203247ee31d0e19794e094c85beb0bef21134f468cbba9768386d9a2f5fac7f5825ee19d34f2828f3704ac8a29db90c5ec069c6d039656cb020983a74ea01f361b8588c8de55f8ea19a191fe5ed3b39769b87f8a12ec7b0bc3a575353d23929888ff9eefd07fb45057d7f9bbd1d0fc6a44d55902e379305b45a8e65010e543d7c2af3b6aeb964aa3fbb09d63c2b2abdf233606a41bea26a9cd58e5b3370820bc917e23278d2b074792025d4f0e2cf1c03da8a78bff3a5d5c64bb3111dd6887c3163cd6dd7fe722aaaff5f174306ff84c0d580e0d04f60353ce9f4375b54f579b4d5ad2a32f52d43f250d528d7ec1a8b3a11e102fb2df655a69a4cec87ace9e18078de528918c994122ddadbb16e7b1c0d248d8a0237eafb09265d4846c839116facbd4ab2056348cbd51b619280c31ef408db8b2dc167d7b26c087447ff36adb04a482833fd67ea82247f978b3678ca7fc8f4791a624eb13cec932af5a4217e1d60ae74332fe4efc72b04659265a50da8b42da646765af7926b79117b0f8b4ae5bb2c0efe4a1955d915e8d2b156a000353a9116a87a8df8f6be1f60fd0a4588408b79d0be4ff2317105007733463b07c65251d66e3b0821af8acf3bfb892713791ed2719553169faa609c49e87679ec69f4adbd139c6c5f080dbf7a6c675acea50b573838854ff87045390faa9b83cf4d35e9c3e21b24c470eb1f8381990e39d0fa2f93c11111be2f0a1cfd39bb2b38587ad1480208fb9988c9287e6ce3fe66b23edb54d9f4186ad3abc2b76f7f1b67314aa8c27db1610d79938d6a9fd6e83d9de44a18fd98a79a9c48161dccb74441bcc29991e8c764ba601bec2c71d96ba5101f9c47774b749936c37203509bb933f94517d87b4850ae9d59e27b257186bbdfce1c2e4a572ac95dbf8ee55cdeda947caf329be665184487c99f19b32ccb20694710ea2b8ab6da1fca6a42739c9b51a3e68ccf2016b8563f79508f7685fa0742b6d46d6b774ad8d423ab92c532182c3dde13f1731b59188704fa03ffff4f9a6db13dc660c98dbe7cb3589b4e4bce8d49a092830d2a91ce01c9fde570bfea5ac20b9334bf8eab909ca624c9a9068d981206cfcb45c7cb4ce6f9ee0e92258e2f9bc3bd5b0f83fdb5b32a3a345bdf4afaab48621cd1225259664fdcb2149e1a300ba6a82ad0aaa10e6a437a8c6dc8ec307c2205a7cb6f70984d181b526238284c14e757e9acd6a7a9838a3435cec65aa5b30dc06f710822ad8872ca34cf6b35e09fb4ed08a5af2c89a69aec8e192a2ab250e16bc1347437abd4c752cb6cc01e2618cc954004640988460a66d3719d03147163a97373451e2c3f8073428c090b181df2019d3c564cbd6677f0d3f4d8760bdc2c0f3d694817e2beb7219fa4a4147df09a241296dcf291073bffed898cea9a2c99beacbd4d953eaac7052d8d4e8cd05893e28d8868a264c995296eabb2d652ad83ac62bc163fdc24a2698272695a099a5dd8f6709f4de1cd3802f9f74ee529610c89726229f305241ae8c8996065bc839335e3f2aeff0e3daf103572a4490436e80373ad83e2cf2ccdd6fec91732db7866ce9ae73d0d0ddf1db89ace98e381b1c120faba887915dffbc099911af9870d59f879231e66c5be1fb9a9562b5392e2c0b8626b39c73f53d5367d6e90d009f875ef4fd63ddf5bbfddc7648425daf2196258f1e57ed8b1ceafe9d5941ab5cc9a35067719528c9002523ff2d568f73a3cdafb84ca27881f42441a4fd458bac6017df46f6b08b1969fc57e273c10fc3a82abc854bcd86eb60928f0e05f58de27c56a9be0a115e9025ea5da52259a6a887cf720865b6dfb288f377895a5c6b0bb7c49bdd97a8e8567e4b26e0371443ca2d8986923743ad8fa8d74f56c1a9e197f6d08803d10deb5cbfc780fcebce171e2eccc5c471a7f3ebb91eb00728ed9371ecf313e3c32400f9634bee9c49b61e802f48e3a91143158e81cc3df523bdbdfed1d7e56399a572d753f8f94b39a31679c1997c6af98fbaf6bc0775e0ea01c3997f61c39cc8cd5d1afe8665ba16866f2049577210ab967a90764f2fe4268ab3ebfaeec9b78edcaf29aaa3ad73e99762a4758614e94d3a399d51d3346f5058c891605581a49cd330c8a1d32a5a6db6217cf761de49c22bbbd7cfc467b9476407909cd0163a53751907fd0be48fa28f05744988a0b67394eca222b7da5cc1fc812ef1526165c9af08a138e139e82d7098ad226521a4ebab775bfd432e26d05f3d8eba13e2bf1820e03b6beecd9598ae117e9ae1d07853d9505baa384eda833927a06ca3975dbd93c95e3debe03f668f6a934c227be6b00f47d5705312926b0edf0d3dd5a0bbd910c0989265c5b0d6cb2495995a5dde7693d389f6e96a95a835fcddc9ede22122e4b08bc2f4cf0955e92fafba5afcb4e51373dfb80ccb5bb1b913b8fa2f76d5303b4f23c79cfc31112ce52869c5332c1f935c833a82dd5c378dd9a9fbbac5fad8612c0787c4391cd90c24b30b062b5efb37e5d382c718f0e0f9ae2cb11910db15ce6e6365d8c601c71c9251e0a8194f6689388fc9c6245d754b6aa897fb381f305b90f37d2bfd40fd10f0359a2e0708f1ff578b34f709ca09ed5becb4ccd08ee78156002d38f19d32d0b5a476909c457e79328e11e36d7dc85095aa716e000e34421a8b58cfa113ac3be0c7cf733b2de78ba22a3a957c1432f873adfceeb4fcb957361a359eac4a1d69bfc0e20cd56d32188fa21b8893c7cc791e479de064f8983b3ba1c3697f4483df75a1fdbcbaec7aad0a026e801e8756398a4ffd51e6be12ae51bbd475b33c3a20021b0373be4546e5a2cbd4563d839d170aa3d6d84e009029fb057f0b8f92fc9668e422b272cb686e01ccc1ef86d8b636ad106192c1f2826192c4715cfad3f0322fb3011fa9d6a97bbdaf57e981f41956428a4e4e9e9e842721cf34de31de61fa946e67a0ebcb9b6e6d67c001f282010009a99fc11d4e671e8c9692c2aaebc7ae8ddeec316581d09b53fca57d58558403c672cc74bf421f7429ab0b515433d840d992865f49b050ce36cabab177376a1020e4852d86c87103db6bf1eb157763771412cc1b1313dbd9468e285ead6c92bc3585dea14f0079aa70a2f90a594e35933097ce8d57d9f1e3395700fc183d735edab49b23d3bb796d1be0c327b74ad9c1f18ce8b577fe8da41f768c8290081abbb4e7c091ea2c1c5949504147dab7a5973548276068f8f14b468ae2a7949f83ecdb92cca57ed95737d0c7f6354fd999d6f15201d903e1bdd80cfee5605f574bc2f11e8b8f40d16514d7990f76777eae2a98882f61ecca051282fea1997c6372434b66e091b55e5600345a534723d5f2d79955c4276a04b26680b168cd73f6d4688b908b7184a1184e1652f75e0f8640b6ff417d1289d87aaabbbc62d9816ccec7a1c8085ec8119515e419d3b2c677a36916b1acfd98da88d53d1d0f6cda977aa59f1924fa544a31171991e2cda14cc4f1da80bf1d32c1fc5843a92fd06826fb0171a935efbc6b3ee513c576319e3504751e5c5ead1b457edb24033164223eb0b2c4615027b4187aefeda9a0e87226f374d78e509f6534a293b727c074701d41f5926104133cdd0fafef698d356642b412f5328f174997b3b5e0c79b5e5aea5a936eb31bb0e05111b0019fac94be5daa8c32cbbf53c04f70023b117b86757c6c32468f82122a61659ef592fcc55b17a719be8bbeb35942ddf1f815d166847c55074470f603571f92e7ff761c9796dbb83817c3b216fbf7eeb2c356a5ef53f5525a6aa98090d6bfb9408fd8804d5bba76a24d313e650d125f11c38e943e31b4d03666f49a3468427cd75700435a64215156ca868e78265f7e3c902d1d95375967f2ddbb78ef4f85f6aeb9d02eb20dc80f79161f6f751a72a7f42f490f46600d263da6adb72c71a56a642da680d6b75708fbe7a4b2d6d18e97efb3a896f259bbe8b59782d2bdfb68f636650cce702ae928657ca7b3fd63ba914facec4fb4cfbd525b0dcec06ee059440fda4b778bd3bb42446b70e98c2b80280173a9931990f61b6f518d2e7c9628e30e5bd2fb7317e89ebe8d13798018f347a017808fb9187129372530c0b2029e63b26f572166f116b9ed2889691799b75d323e8fa3e3443c1597c5f62e678b74617f25ed4406fc0dbf61ab06d9729f8a268cd7f026982a28e755378247bd1f51292de226bba707ee57db6e82e7ea88758c69df0caa82abeff9e0bdf3c006240db520e1568e62ecaefd98f6a4ae2e5b30a09d22c556aecce561adf4ca08908d0ab2bd225d2881cdf9bf56556725905e7a05da7f3b1c52c993393e2ea11b393c42f5c7c727428cae942ce313f2f685b13327e1c0ed01f8475da17b5c0950756bd833b683e584462f6b7766a0a63149cb881d7b3c8ef94cba93aebc463f4782178a175fc12ebf208bf8f5de36413d3e71436e957f9c3ca899990d540b8278d0b2b54d2e2a562214be3cc64e2a44211837b85458d795cfde29014cad8d05f52a78359c3fdced0c81d84ef4da338e3fd886fb2823fa3b01ff936d7922f3d87e10a1c480500baf60905b6a2c03aeff760dfad679cdf6aa0930c7be76f56083d93bb384b6c6c0987a17857d0109a45aef9ee0c79f83d6b3f0bd08886d59dd42399273a4b8c2dcd4a8918f34c7951290528d0ecc965c55cc2d67deeca14c887ea90439ada6dcee9567d6d1a7df11989e9391f1c335922b41ea98d1e8783216acd7349f15fbeee81f1cb17c27cdf22999148a080dcc76e475e3a29f88b3007eed861cfaa21987143ef741a8d6790102a93a0967eb0688fe73da5d67a7a5ec0d30346fe8b8e77fc7d4507ca556f3feef35b16ddec0151cab539acfec0aa5c34881dfd081a65dce56977938dbf267f2a5b8a30b54ebed4c96b55087cf78f1a106a35826e7e96f1d2f18bd326b808493338310954a3aa1bc03bdf0cb8cb99c276ec1dc88e675dae0998e334d5a68bc419c0815fa10dc2cea019665ceb06462618ba9c634a95197febcd7a386c6a3c7dd576681dd23e4408accb37ccfb843fc7f4bb99c5257272465248ce97056cb10c19599c1f0e5c7758d61721474e3553cc80ba1df8cf73c3e2de282475c9e5c4d03b5e77dc0c29e797854525f856164955a9b92e1b0417e1fbf5d359a1ac7c366b0b9c2bd6db8d42ab29df3e07aed12cf4a185d02e5d1d2fa0a36a01e11ccac41f560b70c3adacc283c8ee984a4e1c88eb77a931c783da8346b552873ef09c878d69d692fa12adbbb4b3e88d09a0d03cfda5485164182ff2de403799f9b2c5d16a3b3a6648349c327405c9a6db328a1a264e04de394a3ab586846ee91edf639493db9b5e2436e8549e085714e19dc06c0508d2d4c2db69279567f80406b423969969c1f53bb6e5a78ba7180915e9a99f48bb6b501ced2262c3efd6360bfeb4f9cadcbbc814bd3247fd24187a4890bb3a58f957129d371f3340f3c0e09a75a9b9f6453958bcc0d9448b8d8248cbabf8d08f5504a4397d0632c5ca5c374ecec4b383586ccde9cb704ff8b080e76ff3b37258d15b18f0739ae2f504ea8a30ebd5782f7d623b3e6fb4e636bbf252f82d9df132793dbea2bf27c3b0572bce7f20e4baf0a8fa90328b41aad1877c15ae371609a79b865d19b61b5a5bad614be74a1405f17fbc3dffac4cf04375ff6b0e1b2948ee13cad89e0d360f2b05a2243114a97017ee6e18c5f0caaa6c19636abe09c77a470c13209e679af556b2fd659f808e28ef03bb77309472f28ae5be71f9ca5069e43d9459fdc3bfc3287492604189867a7eedf08036496531111684b6ff06eeb741c079969cf23cddd7b45e2992089187d2cd6f6f4ad2035bc117f7593464821b34d73ececcc9df79c32eec2429c3bf0ae53618ec1756e8745c58da3736956a477b0080c0c26a597a5f75fd6ced93f6ca7e3b6681c1cfe4143bd5d5a9bb695b3bb66948cadebdf2a52314951efb33dc455300730271cbd39e57a1ae7afb21fdf844031475a2f5b56154e2f9b2bf0a34c7384a1936133790a39ba77969591f1f5ceea68f27dacabf369557e7688d75f2adfa19807e485ca1472e4d3d12b0cac82f8f537b75cf9affa267afad2166340947594fbb775af4c93e2d85db68f322759d8ac492d8b432c449ec693084ca85d45a0b163ac22330908649a0f7054fa8c8c6354757e75a23fe72e8f205c31d0dea6c88d0cc0e2de164d5ee99fcf19704aceec7b1aa5b31688200f5903dbd33745abee0f286c4dfebbf4b8556e19294b3ac71a9817054955ef095b9a736b7ddda4fc7f79b88de5f6217d54e9fd83d4719a99afd121040c28eae1706965dd29e17d4080b6e8f0302415d4ebaf82701973719e7cc8b2b53fe70cf84dc63281189060d94333a0702b7c3df394f3e1948d625e1bca2d4fea4183f75c6fdf9927e589b1136b1983968f07c0e0675b581489946f2cc9ec818ed9fc125295b0410ecac7a43061bbfede8d04f2ee94ba667107fdb344878207aae1537b712650fbbe800f061182bc4acb7b171ae7c0a3b83518adfa94716429cffa05671c0b8f3191566bb982afbfd283aa7d43396fac919a5f45ec9aaf6b14233a3a4abfee010c6b2556fc9ef5f739fcb2bb6a6b53aa331ef8ed53763bd40fad27ac5865a7d6091ec1f9df5bc1d5edea0f6c82b9141071146160191060ee3d0f7fdbf7721f140782f6dbeb3e20a4cd8f8a27e44b8278883e4f8ab7c6eba638ad91075b7f1402167d81c28cabe415e97908d575dcad03a2e0acd727b65c27cea1efd95e3544dff6491f27a443d02965417ac4466dc6d1ec9def3fc08de7a518032df828f1c485ba9c9bfcc538bbcb0aabd0d025960b04bcf94dc848ffece3db1460be7488f662c1834b524aed950d85a446b8906787fc3ff96d629c7c3e21bc9741569685e8e441f25f045dfa69a0ffa40b648372ba2760ee82a09273ed79be538a3b7a1559260c20a679496b7d03a49142fe13481d520978c344acaceadded28235d8f9b6a3da964493c433ae267d415bd7a11568ec19ed20ddc5861033a01910f484215b2271132657fad3db3d419ae6591277ff9362c2f2e38386a8496340b0197322d5a2ab1d44018eac15b55c88b298f109fd4f8f2281131cdc3da000133b6bc2b4c522e063b365f16b4a4acc75e2b45794e7d9cb2ee9cfebcbb4e15d1af685186914674b4b23a95ff9a33840c7b5710796517f633dc8cdfb41daac41d2adbbf54eafe50f01796aa1f43764775a07a22bb3883da9ed2e3d4b122bd7db7f818603aed319e14b8fc8b350dda12b04029e41a528f83b0969c05ff4d1c4a8bb812426ac077998ccdaff848ff8e0276d2631b2d2b006d6b80bb9cf6b8e0d67b6ecf5d2713485892122786dacb5b54f1a183d5ab0cf06f8e1d6ae9efb9f53f51f4ae4d4fab1d505a162e6c80738a59154e868c0acd26a8fc9d474a4a893bcb9b94486761d59176d07ff0742f3c4cf036128e7a451f45baf6992c466a65b874967b978b060182ea0f3beae4937c08bc2b84f3556197bb7e63306dc69b5d74737beb9a1546aa8728248b5c39e6aad4d490b9c40ca6b7900ee146a0cb78f7afce1ab5b23b9fefa61f40f810a34e1c2805178f5f41b66c1ff6e52a544390ea608a6c4d21f7d082b3d70a0d7a825534dc310192cf0cc9e738a5f222451b7d9ccde0391c644529cfb869287ff64c3866fdbc4283a9214f552ccb6f45f88e1b8a4baa2f9248cce9aebd03d5b0b848b965555c3f88791077364b37eea01683d019f6368ccb708d7d95dd6ea0f0c4e5de85e42a3baf303bb93575aa8e7468d52673b37eedd327c6296de8a598101aec2d6b66defbf5c3fc97d4d8d42ee7bad70a9d3255809525fdaae2f5083332e0755df1500930bb1e0c0464766f6e406e3dae5a0c8dae43ab00d0e20f619b2f449618396fdb5493eb95f3e97ebe0d02a3d64cc35357f16fa947290ec62025664885b4e1eac9ca97b13de902bbfbed47bd2594d0eada048d6edbfd2684343077298bddd501a4e1100583401d93b22ae77180420a24794f66171b74736e951e13fa27915561fa1eb917085675669e83a0ca8d5b1f507d9b1848085bf436384be138cbba8dfcfc8551344acc22a8eb728019ea1eead46c61816cf3c87f27e6fa04f40e1e1114bdb97f12f326320593d39f046ccbd102ac0ef5b2833a0f84b9bbbaf065fd21833dbfa9454d0f2a7274d4142c1ffc2f58c97087993efb8e0677b1955b8b4bc4dea575dcc33e28c5906832707038e317b45d48b945cff00acdabb39b4d733b4b6a6a708c13b785e52e45d20c27da360ccc18df2b7abfe31d1e33fecb53cb3ba6d2b277b17a22ea1805cca39a89f34461063e8c38ada9383a6c628ef959535c8e9b0accb566d718a27487bb046ceccf2e7b0c818db67a51a5bf9093c2a52c930d8827e342cbfb46033c66f3c183407e3f91d93b804d69a5384a14615520e5e361c3dbb0b083f4e0cdcf0cb1ed3d3444b894a0f92d2e23bd981a3cb5e2c26aac898164a5323ff9fd8c7a6f3d07c4156026549ecb843b6bb0394546bf30f448d1d31bfdaa11294fb12ac47f9d98a108c639d92d11a1b02fa21691293af8d6d10adde9300894dae3e5a04dc9ba14ff00ef979a81b86a38b333a28419c2fe539588b611a665ff1f1bb32f39a812d8d490a6c6b58610abc14f916e8e1a2d1b32cac135f555bbb2f0df3bcd09f91fa403cca9c89b302a204f7438e232c318b23015f955b0a66b9870a2d01e2c0cfb14edf52d77414cd4d33274745221282846ac3084e9f0422853ce4b000e2bbf06115dd417a2137302932c21f67c0cb65d3810467b8fb9fd6b57e6ff0bbbe73c8fc0254c761237d86fef565f6f58ba7169595fba975894c37085659f8f3944961e5b688a3014e2ded97cf2e05a46c4c3fda89ca37a372329688150c235749f4f576a09539d38caae4db258cc38eb2e0eadaf9536bcc7126cd51c34a8b4ab02e644ddf6e7d51975ec547966e045baa6c850f5d321b068f2e6a496d2ee430fd44eeecaaaf4fadef4889984f191526289e4a8c828b68c0cdfb052e3910036dd5644cd7fd70bcf092673c097c313e57829edb1c6f5dcc64997a60896e2632afcb071efef880aac230a1cea8ededb91326abac8d70ae1e1551f4c65b6586143f49a0024fe0f30e93022f42e728c786601914bb8449b3a4872d7f06294ba44dea085fe72db3371cb7ea1f25ab3424852f9f72ab1c29e53d154c8cdc14ef8d6f8002d028d2316f8a0a8fdb16052e73f26c083fa3d3ab5277e1d06ade49480e5041e3e700b605f7d5373a2aa26ff2efa613cca3b782aff966d32d7a27e59c6c5e9ea19f57077225ae1362caa44a834d755290711160b78b97e1a281fc470e2183c0652001667faa39b91520b3cdc7c0d1725ca3abd9babecb319ed07f49086886b77c00b6d3326b4583894379ebe6d1fdcdd1afba59ec32c4c64401d83dead908781316857eb09ded7bf75e75ca42504ea85b06cc650afbc5faaba26b827a54adc299413f27a6fbb22cf94f81dc4b8dc50485a8cfe31e8a30e1de4b90d92de2d216e87b0a1e9f4239ec8a843a057cd8541dd581ac3371e70b50837a3bf8aab7ed37db3674e7f9d7b2bb9f328a497de31b4d88de16deac6e830420f1c7004274cbee9a61b8c3dd2ece656691881002ab68ae3ff42299e7164631c95ef0c8495ab34c9e95c4eecfed282c037fe7df37b7bcbf5ebb7a72e42573ca50b8abce159da11fa5471554bf33199cbe2f0bb8bcc4ff6465a9b1312a53dfa256cf96b3f501174ce554c13614dbf85ad495f7c408cb80b74934afb11f1fb9907d20e348ab9297cb335a256077cf3b44237a5101d7a50dc041fbaaf385f9187fc7ad2cd54b80988e6f9eb76118f76edf01b1775951e2e3737c77fe06e1f455907b75153d84e295a960a3c385044cac545cfffaddd9596c6015d0dc407c99b7dc49f500d8b64c457a2cdad8d1ed489e773dd8c6b6a31a695de8b218f375ebf11c93e103d716d9334552b8d5d72f8ff56931a05bc964213f2d88380d5ea58784e4eb6d0e8730ddb74b347ccca6f53738f1d70ff9ab1277354cfdd6f397b1ee558cbce4a22a582d6b3d836b8bfbe18b764e57182ed12c1ac078198162f004de33e358da6af3f87884972ea5ae2d3ef7644fa3eed0e8e6c3706a836c80021168e7a711f3dabee80191d4b9cc5d5d6510d8d89cea137956e4e08c909ec69d157b6d38935c174a0b5a73f0eb54ed619f59e1b7dad31768aa4ce39b5fcf4422503e36e4ae519bba6f103623da93201ca14c27caed23f58b9a0f4c76aec06df2daa8d525897376cea5f38bebb23d310b02d9e9d9ce77bfa8aa5e5135f4ff07ae048881a806a9f3e8bf0e8c34bd6b23c2545415e97c6ddae2ba28480f9c765a980425d2c4a0d52c77d3a841c2780577514961b41edba6d51928a35ff1777dbf54c1065915fc2ea1f0697bf048d064daa572288c852308b28e4686369e0f50d43822bcae5a245f9fca224e9f1802695fcdd576888ac5773574184444299f32f24be067a433f9ebdb9bdb293b645f135a990b8c4ffe3148ddcb2d16ed0824cd233ffe1ce96ed6a90b28cfed98ffdb519be7f68040363aa2ed287368bdbef2dd2c3b70e77adeeb978c28c6d8812fc21fb8dd85395b832ee56543afc83c08fa23c0e3bf550128a6af0bdd9fde0d569b90c25d4f8e84898768246b2498c8a49820f703b9dd86dea48509f55ed2aeb62f63a1d9f526831ed133ed1ad759bd90ad826c5bba2f5219600ccc4b735b64dbba69c6558bead6db4b028e364b64ef5c1606d3080c0d10b7250b6319bbb578a3385e6635c283babbf89893db5b8a386f1c39a228b73a26a1f091b3a1680dc77a3d1b7302a7ef1a8749e40888dcba8c00db815e7a0bf6d0efc9f3779b27073e291673716971ed8cc004b1a2309602449d96d3a3e0f3bb666c0120fd04987feede1e726a407dfc3fd9fa1bde6865a40652d3a5fc33af5afda1c11398eace5554995159e86f111d00d8afcaa3173d5cddd633f158e0c257dbe356d49dd99dfdbcda0b2b2056771fd29cc43aca6ded703d6dfe51efbebc076fdc8fba2e2d0e50d32fc643dfa7de4d90d2c5c3d01a103a7c0eab586fe9345f4de2fa8b11d46e8684c81b6d471364b05762cf7ea0f9b56fccc2ddf127cb60cab65cc91bacfa5dae18906ca3bf21247bc56a555454ce6f6b610196bcf36c2086a998b498b9ee1d55a0ff53681cbc4b8851099bf6fe2a19bf192fae62996ba64ec7e918f2f3094b24bd67599e5349a83e4893fd8f57bea4d3dfdadcede806a28608eed97b762b9ba69a7539fb0570f42f5f91bf054cc847c1c57c2c9b363abf2137bb4d48cb020e67d26d4ff5ff3ed025646f2075189ab166518ba33f36faf82bfc2fb9f7a5538cddae2b09d502180e6b75941b1152bd1172f2a6df9e9cc90395fd6d5c0be10b06cdcc21d3cedc64e1aecf4e6d6c16c2a4c3f59507f5e96840f790804784edb86f2f1bd34239603edd609a4dba28a368d4703703be3375cebc5bf2a0eb0bd8bf104ac979f196d3e5cba9c5087976da1b8ea624f9c35af3fc2e7ef30efdbb007a5b9e2aeff15f2d6055ac25b932bc4105866804d9568872212c50918ecb6b5c6f6e11350e0576a18e99f8e22cece9b33b3a1726325f5a177f5d2d05a13f078aa8f110c51c9fbdf035e1516169ac84bdcf0d34de1b44be3161ee9de1a8c61c9a3b861bcb4af3cd2a8dcc17fb422d9f90c7c30fe5d940947a703eb572b22f51b140a656562fc76c30c462c9ac91286224793abd014a3266d42a5a2ad4276302623d352b89c3ecfdbc7b176ed2ff8012ad6382350bd90e3a85dfd9dc0f4cddb49b793e8b35794b83945c83b6fefc13b000166423cfd3fd00497fed596fd4f863f7dbccd327d7e5c8aec324195d01971997481ad4bc1ef69a4c42984d2e8c85f54401f1e351d854f2b347221f6b5c6451a2616d1ae0c78d5bde3bf4b8754398a27bb887701fb18cb0703f315319e202270f961460f5988b71a863ca8d2e33162b6bda8cd1747078c6655a8d3d3524d2018448a1d0097ef74a8ee1b6bf52cd6ba42f1565f76ffa3ac51af5144f75cb98fb76649753facf2cec6b19cbb0d7a70985617abd18737605890dfa22f127b8fdd5e69a6f7cf0c0c5f77dbf3abd82a357823a9057cd68056eb54daf8865ffda8c18171a7d9cfe8ed774b7085a613e4e9ac95d6224347484da3f532102f0e48513ffa8acc20e6281bb5a62bb72a7ec7804153b095eb3dbfbd466be55098ea7869bfe3655ba793b87809d2b82882fa7f73ef0ea1e37e0dac9aceb9de5e0f928af8913b3f95562447dcc0d83ef3ac02daf53b9df0d5af2995205a16e013b6c7d676e22f42d2ddc9d8c0330e4fce34ee9781ccf4d2a2b7f8e7e603c46fb106ebc0ecd1f30cfa481c44f7eb9f631af12cf6da4439f35f43ed1afc809cbf769f3d6c581ea1039809cf0f622a7968f7d0c97382524b36adda641c934f51c2226cdb93af6d0ea8403d9ac992d98f07b1d7969e756054c0920dfe162c30881fbfe99577c407957989fa23952c19e1c961529148f29606039287e564aa36a635bbf8899d65aa5f42a2f90eb54b1582461b3cea8f65c76ab011fe36384ecd02d711ee27d34b462f95791770237c5025d881129e5db2bd0e559773416d128f41b0feec94447df8740f60224bbff7070766a6b15875acf22c66c058bcb279d26ff45425fb86e802ca3b96daa9e184d86e175ee30b892e628d07b43353c19ca05e6dba4dd47768f66c866a1ab1406a1df8e8b23d3bc86e60d3d5b96f8166f9a917850cb8e584304655a71bed337c1530b63499426cbd01468226bb46030b810f7691add11b3551d2f7da934e97770e66952424c96bf0356c52797b74221188b92069d1c5261737d4171e89e80a84b75e3d22680583095090e732b8a5525903f6af3826cd25d728c27c33418c74aae8841feca921d1e7c23ad416c781b7bc52fa4199735dafe932951284ae37907fd400351fb16588387a9df525fe984a17f5663f74946f9cfa085f62d3c105307d8e961f7789ae6131ceb26c2f8c77c6b25e62cc49017c7df5f0cd6ba6ad463aaa57ac2740a26efd011d28d929ab3771b8655e1e67a0c40259bc57e2dc87383cca6811d6f56ebb58233d4cef1bf8506acea573c13df5e80099a4c0d40ee1456b8edff0e6c0c8fff229d83c2e03b0c017ccb2a58827be3c8c19e9d56c28a9be10f4f60f35f4ae80fcab859f024a84377a869ff14ebce2e8479f197527d5ad5730fdbbeeb95ebc23aab8835461383f4e4ace2977816c31f0de1e008e91ffe354903b6349e3946ca16f1af14a3b4f809fb35562e85fc6495cb6210858a5793f9b2d5c65a86d8b8e7afcc7480cc726d3c21f2fbeb9ca920a7d8a22c06c8f20b8b61ce7f14cc20f09f1fecaa903f2aef943a3f0437ceeda16bf9ad14a0f76c6a52183ff41ab6e838f3f8e342ab9a6cdab5c17723dc8d82abc6e150a7cc469a7aa0c651a7c87da2526b781d4c5ba12bfef883132600a409eecd3e2e8a569b6119082478d9fea0815982f223d8bb0312b7e6e920d9438cb6ea4595a3a6711626b43081e88484043d2e793d1caeea7790fb45a41e37b8561e7e140f33e19c47350259dccf40b543244f301c707887efe0f388bbe0e3aa279fe23e59de858b017ecb722929e6a0d492812379f8524ca3cbf7085dfd5878c2fae1ccc5718c47f4e57ec692e2dcafd8cb64a1b552e08b5ae42b44f340e1cfa4a9d99a1fd51edc99a99d65c128c124627ba9b71322a898b9868d0c3af5e07c58e8306e52acce0cdc9f3b455de9ac9d7990b13f7a5b9ad6c60b33be85b6e0817b9631d5e17fc898c095c3aa29431b0a82d88a25661f40edbde29b57079e57a52bfd288f03eb71b90623ad4bc8bfd23a69b4fe80f10248697e4da8800f72abcddf2c647f78150f3b71886b61700deb3828097328a11dd4f9e7897974b0ec6a425af540c9d7746ff83b2e3f0ae616879af925913142e20f18125eb90f9cb5575a306f973b427f51fad467d0201b39440d808f9c56759e461eabff58fc0ddc92768f227f9010681bbc65f5d8dbb9bb26f7e911f990b664e3e5f89f213d6a2086ab9c7abddde674e0c8f67dabf58a8008601e8232ab26aef7f0e72d2998a49c444046736eb623b0cf7269c9aa6e1b81f254517ddc9f2369d1c1437064fb7552e8926f207f9f250e6b10563028c938e4c9036ec5211e1ee4f340be381e0712d4ba2db9297a8dcb2b0244939013d4f4d3434a45370767798eed48dccf1a43da737c96f615dd322a71bc6fb2c753e2bef6c18c8916a32449ad8974af820a138a1768d6810e2dc049c8782b356a9a896935ef1c13aa71f308efde967266304a7a5c130cbfea496a306aa127c9fbd5a505b2a4af2ed819b748052be229459885740e95c59011f5034d7f38c04de425607e00680c8c38f653db23683da7e7d71b7efbaf4f3e6848a5d12c1a4c5257483a16cda71b754b764427c0b735d39923e902531303f0b6fc528b65f0f37cdf564570a8828544eb1556457608016c05096b20fb645dc483fc0764ea8635d31cf6cb1f88ccf2e848d22bb3cfaae6095a10c92f6212ff145419c66d15100359ebdb7d111f04bff2dd22eb2cf9abf132eca794fe20f9c849d7da904afe5f7564a214bf518b1bc68525548c6d8bb6cc2d18fa057a1a4b68f55d7b525d7377dceb5bc452b9874711464367286795b94e8baddced3d2418b55afb6a59b48338b8f8b5798ab553a62009524bd72a9d9da0e71933cdaf5a417ffe6e80e390132a912fd3a74dd326e353f07e9fab83ed57fd48148afe105c56d17a1d6faf691e945e8726aec4aa24c5fb8997740d80515077e939475598b58d5032a198e211d80c656a038acb8b8d74abefd4aeee65e69b4b832f3189657358e2bd63d4e9e1bd604e2a653ee4fbf0d5cc4adf3efc9245e3c8b0b90b09a2fca5db694020bd0c6a26eb8ea4a4e248b395745fe3b9a347421326cc2112551d0061e34209496facf00288abe7b8d17065ddf86943874735cb5f5cbd0553b234b3f39c9449e3cde88a5eaae1d9d02664c2796dcab49450a3aac7fa98d58aa90668f5095a65eb34dc05cba38181daad7468d885c3b53340e2a0929b3f210bc291e71b5511e4fcf23a15b7c158b67ac973dcc57bdb77030ca4991da09971f5af951d5cf022e88636140017f5dec23b5956672c9e39dbcc47877e424f4e9f7b1ffd234f35615dee1bc5fbfc5722636f2856858c1abbac33a8d4101788c373af152845116ce8f83a4bd83fb6433ae1b988961ac08254513b11a6f8d75d339ae353fcc78f76d38e3836befff3c19e4a3d6f3a8b0d7e456f41f5f87d69f805702a3cab98bffb0d31bac5560f6eccf7c4d56ddb8415759be12c27a32999b340ab8dd0d628dcda50b500d2c2563adc811828e08e4bdaa43e0a27e1dbae6c02427bdbe7a48ad01981eb3ceb34b6c6243ef884648bb5d585c2ad167a5c8ba09abb3ae82f7570be71c2bdddb7b9c687254acdd9e97db0cf7d35bff8831616d63ea3cb19a66e4aec32e43b9b884cb1ab0a08830a6108983360f5ff091b9b8976b3839c7be021093edd602463aff4432913500ce31644a821edc9f204ea58e94cb48ccdc873de02226817572a600c46f37c512155226f1a93539951737a43512b7fe326c18140409c20c18feea8cfb8be6242cf9a66eb39e1ed0af9791735ad760c8f860f0d48b5f5bed600953a5be61ab397524c1a8171b1dee883592fa2f22381edf5e9284bc788664c00d6cdde6e0b320f60fb0efcc72fbbfb37552762e223fe369f78edc9f3bd97992f7dc2a204f761a4e2e870c4f75e3cbf688410bef63433d2d13cfcf1c07387f0e1fc434821d5f72a1f63120abba08446c638a2b17205ca2519f862ffb58d6721620235343def02504c06d67eab1e2890e8e44ae4d13ca68ea711b1ec671f480568557b502b206fd4b60a679281ebadbb872619cc675dbec1b96d59c2edaafec96996b527891af846891459cc349d0f2e16c931ca1409156856db829195914a64644d0709353f33d3d5b7c3e90610ef5ecea92d2f7e43063019eda07fbbe2b4ac8a22b5e3c7a1a404b918e253d02f3c105e3691fcf446818cd6ee5ebd27abc511e6f0bedecfd3549773c4090f7435473b860f57d05913ff38f059803434cc27781bdc398c071c97ebc254caedce99f9abff887cc145f56e371e8bb6f641124d35450ea171400cb5c2db2b0129c315f82ed9a2c15aba7eafdc4d2236fbede95554f6af5792a67d59dfbf045fbb2e22fadfc3be07a5a67bcb1241598d6632a7360c2ecd268f630178742da92b52fbbd4d46f387afdfd256964ae166335a5b2e5be68ba82046fbb272b6155832461a4438d3f962223d70e923d69e234c5383552dcb0232b505235151b28556e4b2e4228570ffd11d3d97a9d0f885e8c03205c7635c073db803ca1dadb972860a2c66933eeac99c2b22ce26f622bcf78753cb2ecf85a8e7ceaf1fb23e1c3d283ff699500a327f35db5464f8d77fa37c0b972e0099d6c3d14cce021e2e0863c375f107d3a30c25692afed6c4a3a748696eda97c4f045cb88e4ffb436f09e0785964f3e46da0568407622d1a0f3ac7bebe3230d4abe3c02ada9d25c2f8a250e2b8cc5600f977424d37937697a3fed5ef5499ff01766331afee841733cae2aceeb3b3eb07e0880533e240d2b0d9a26c98996eefc804ae305d4d706c893c3051d2881073e8a312b7f379a00527f4239d410e7e0c8787af5fc11efd2cf2f0c713ee9251540653453f0fe58f2feecfbe7223d3d919fabc49998226cdc2e8b2579e54c82e1bd3d9d44b418b8410e8bb89cbb5a82ba878a3a8994868258f9cfd8f4039d3dc9e6e40b56910c20f71bd1c82f4830268b2c399a9de4800b66d28d73f6af887ae2f785f300c5183dd4e4d5fd03db113b05e105a8547a72532d0b153a81e5650783b147ade17c20b8329db5dec891cada1ad9ca51a7ad5e147935dd5dc61c5b0783e550bff92096870b54384174c1354d220d4c51520b979ba0acde623309b8750a60e9c3048a2e4f7f03d000232eb83a95d5f139bf66d2f59e82273e62153183297d70ccf182e6d024efb2b94305a98a9e02aa0d6b06c6910e6a6c36c78127c574cf7689af1fbb7ad02dfe9ed4046cc3f6b29d1360a8b5938c4cf15a28366b7353413f822986f0a7e83d4016bc9038b81c693eb31ba918726faa986c68c5da32d4ba43cc6440699fc35520b75d42ab4a50b43556615db64d479aac8b92af712c78f81e630ce245835688aee4a6e3b6aa098411ea51188e635c10e3c543f2691762a20ea8cb781be3e11e1a4ee5b46c33d0e7b842b224c9a67aa1c2542a2e40f255374d22826358b9930d66cf35bf28ee039368511c7ac66eea17533129df802d77cc82878f9779416950994486e41a10cabba924499d7fa0b1f8ca93ad373b860ff75625ffcec0b9233cf12e70e828f7ceb2d61b55e90a90dfcbe55d309222d0d61660144e72c8cadb4bf4904906a83a36663c339986bad539185d9177a62c8e949e82673f4953724b1c8cf61bb08add31d5acd58046e07dffeec1759bc29b20f1143b187dfb564de49b0aa9375d1f98e9f5f8b7bf9a70e6d0747ae84e0130e3321a6120b0cda982bc3df8fe2194e8edb5a560ca8b7eb667f89e64054ac02bb46c3a7fefc17f3fb8284a11b537eb263b0c5b8299d2ef18372f7f58194bf42970a48941634bcdeb46bd4d2efd4f6912667d15db9b7fcf20b405d7e1f50f42b10996da9523adcb1424b022aa1cb4e39b0628c89d8512ee02ce19400ffd863fbb4b8daecacf6bd49ed096084f73e3661b611f82ee2820313c1ae650c42b0fef0b933fbd578b65e2c0415953859ebb054b1f90c090c4f885331e2a2c51d3ea5eec9ebc6041fc1edf9336169a07111a54daf9726033f2fdc9e28b62149118c8ce8b81629d183a1858b435e44e9fa36434827f1ef014184778bf3ebf9a652fcd30da41a581d027971fdbfc210742afc9c737e5e5784d90ec025766e9be5a36d5496d8a18e9c95e514edac2097232f00014f884ad8125c4b729c7975fcdf4366e6ef7420293330139d86e4abd4d8e6d9b25aac4cf79a256ff21eb8252f098819f8709523f63f7d5777041dd80914dd073f68d27464a1df5f4746e41198edb2ef8120cc4d789d6e312e6fcca39bf02769b977b73baef483c2c77fb4b1b945b6793d74ec6b7e64bd8491a250f446b1191ce258b2877a60475c0d5fe02baed799ed6829961e8f9f873fcf59b01558e728f8873c3a21b8f692acc9c04358a1bfa86cd810a54aebf9b0310ceef4d5ae0161166b65");
         var invalidSyncCommittee = SyncCommittee.deserialize(invalidSyncCommitteeBytes);
-        assertFalse(blockUpdate.verifySyncAggregate(invalidSyncCommittee.getBlsPublicKeys(), genesisRoot));
+        assertNull(blockUpdate.verifySyncAggregate(invalidSyncCommittee, null, genesisRoot));
+    }
+
+    @Test
+    void verifySignatureWithAggregatedPubKey() {
+        var aggregatedPubKey = blockUpdate.verifySyncAggregate(syncCommittee, null, genesisRoot);
+        assertNotNull(aggregatedPubKey);
+
+        // the same key from another participation which differs by one
+        var bits = aggregatedPubKey.getBits().clone();
+        bits[0] ^= 0x01;
+        var prev = AggregatedPubKey.of(syncCommittee, bits, null);
+        var fromPrev = blockUpdate.verifySyncAggregate(syncCommittee, prev, genesisRoot);
+        assertNotNull(fromPrev);
+        assertArrayEquals(aggregatedPubKey.getPubKey(), fromPrev.getPubKey());
+        assertSame(fromPrev, blockUpdate.verifySyncAggregate(syncCommittee, fromPrev, genesisRoot));
+
+        // previous key which doesn't match with its bits
+        var invalidBits = bits.clone();
+        invalidBits[0] ^= 0x02;
+        var invalidPrev = new AggregatedPubKey(invalidBits, prev.getPubKey());
+        assertNull(blockUpdate.verifySyncAggregate(syncCommittee, invalidPrev, genesisRoot));
     }
 
     @Test
@@ -0,0 +1,83 @@
+package foundation.icon.btp.bmv.eth2;
+
+import foundation.icon.score.util.StringUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SszUtilsTest {
+    private static final byte[][] chunks = new byte[5][];
+
+    static {
+        for (int i = 0; i < chunks.length; i++) {
+            chunks[i] = new byte[32];
+            Arrays.fill(chunks[i], (byte) (i + 1));
+        }
+    }
+
+    @Test
+    void zeroHash() {
+        assertArrayEquals(new byte[32], SszUtils.getZeroHash(0));
+        assertEquals("f5a5fd42d16a20302798ef6ed309979b43003d2320d9f0e8ea9831a92759fb4b",
+                StringUtil.bytesToHex(SszUtils.getZeroHash(1)));
+        assertEquals("c78009fdf07fc56a11f122370658a353aaa542ed63e44c4bc15ff4cd105ab33c",
+                StringUtil.bytesToHex(SszUtils.getZeroHash(3)));
+        assertEquals("c885c236140249c9e1640e5e99fb972d81fbb31ea5e29fbdde063627f0d6bdc8",
+                StringUtil.bytesToHex(SszUtils.getZeroHash(SszUtils.MAX_DEPTH)));
+        assertThrows(BMVException.class, () -> SszUtils.getZeroHash(SszUtils.MAX_DEPTH + 1));
+    }
+
+    @Test
+    void merkleize() {
+        assertEquals("6c1cfb22738edf2a397893ab3bd49b601f5dfc69439772b613f6fad2889ebbd6",
+                StringUtil.bytesToHex(SszUtils.merkleize(chunks)));
+        assertEquals("c40beadc86603840346f01c2752d82a92a502ab715a8b791091bc3c3285ae2a5",
+                StringUtil.bytesToHex(SszUtils.merkleize(chunks, 512)));
+        assertArrayEquals(SszUtils.getZeroHash(9), SszUtils.merkleize(new byte[0][], 512));
+    }
+
+    // nodes[gindex] of the tree of 8 chunks
+    private static byte[][] tree() {
+        byte[][] nodes = new byte[16][];
+        for (int i = 0; i < 8; i++) {
+            nodes[8 + i] = new byte[32];
+            Arrays.fill(nodes[8 + i], (byte) (i + 1));
+        }
+        for (int i = 7; i > 0; i--)
+            nodes[i] = SszUtils.concatAndHash(nodes[i * 2], nodes[i * 2 + 1]);
+        return nodes;
+    }
+
+    private static byte[][] helpers(byte[][] nodes, long[] indices) {
+        long[] helpers = SszUtils.getHelperIndices(indices);
+        byte[][] hashes = new byte[helpers.length][];
+        for (int i = 0; i < helpers.length; i++)
+            hashes[i] = nodes[(int) helpers[i]];
+        return hashes;
+    }
+
+    @Test
+    void verifyMultiproof() {
+        var nodes = tree();
+        long[] indices = {9, 14};
+        assertArrayEquals(new long[]{15, 8, 6, 5}, SszUtils.getHelperIndices(indices));
+        byte[][] leaves = {nodes[9], nodes[14]};
+        SszUtils.verifyMultiproof(nodes[1], indices, leaves, helpers(nodes, indices));
+
+        // leaf which is an ancestor of another one
+        long[] nested = {4, 9};
+        byte[][] nestedLeaves = {nodes[4], nodes[9]};
+        SszUtils.verifyMultiproof(nodes[1], nested, nestedLeaves, helpers(nodes, nested));
+        byte[][] invalidNestedLeaves = {nodes[5], nodes[9]};
+        assertThrows(BMVException.class, () ->
+                SszUtils.verifyMultiproof(nodes[1], nested, invalidNestedLeaves, helpers(nodes, nested)));
+
+        byte[][] invalidLeaves = {nodes[9], nodes[13]};
+        assertThrows(BMVException.class, () ->
+                SszUtils.verifyMultiproof(nodes[1], indices, invalidLeaves, helpers(nodes, indices)));
+        assertThrows(BMVException.class, () ->
+                SszUtils.verifyMultiproof(nodes[1], indices, leaves, new byte[][]{nodes[15]}));
+    }
+}
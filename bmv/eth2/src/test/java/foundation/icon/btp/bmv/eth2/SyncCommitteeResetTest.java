@@ -0,0 +1,100 @@
+package foundation.icon.btp.bmv.eth2;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import foundation.icon.btp.lib.BMVStatus;
+import foundation.icon.btp.lib.BTPAddress;
+import foundation.icon.score.util.StringUtil;
+import org.junit.jupiter.api.Test;
+import score.Address;
+import score.Context;
+import score.UserRevertedException;
+import score.VarDB;
+import score.annotation.External;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Resets the sync committee after the aggregated key of the committee is stored,
+ * as the owner does by updating the verifier with the constructor parameters.
+ */
+public class SyncCommitteeResetTest extends TestBase {
+    static final ServiceManager sm = getServiceManager();
+    private static final DataSource data = DataSource.loadDataSource("sepolia.json");
+    private static final String PREV_BMC = "btp://aa36a7.eth/0xd2f04942ff92709ed9d41988d161710d18d7f1fe";
+    private static final String NET = "0x42.icon";
+    private static final int BLS_PUBLIC_KEY_LENGTH = 48;
+
+    public static class ResettableBMV extends BTPMessageVerifier {
+        private final VarDB<LightClientHeader> finalizedHeaderDB = Context.newVarDB("finalizedHeader", LightClientHeader.class);
+
+        public ResettableBMV(String srcNetworkID, byte[] genesisValidatorsHash, byte[] syncCommittee, Address bmc,
+                             byte[] ethBmc, byte[] finalizedHeader, BigInteger seq) {
+            super(srcNetworkID, genesisValidatorsHash, syncCommittee, bmc, ethBmc, finalizedHeader, seq);
+        }
+
+        @External
+        public void reset(byte[] finalizedHeader, byte[] syncCommittee) {
+            var header = LightClientHeader.deserialize(finalizedHeader);
+            finalizedHeaderDB.set(header);
+            setSyncCommittee(Utils.computeSyncCommitteePeriod(header.getBeacon().getSlot()),
+                    SyncCommittee.deserialize(syncCommittee));
+        }
+    }
+
+    /**
+     * @return committee of the keys rotated by one, whose aggregate key is the first key
+     */
+    private static byte[] otherSyncCommittee(byte[] syncCommittee) {
+        int keysLen = Constants.SYNC_COMMITTEE_COUNT * BLS_PUBLIC_KEY_LENGTH;
+        byte[] ret = new byte[syncCommittee.length];
+        System.arraycopy(syncCommittee, BLS_PUBLIC_KEY_LENGTH, ret, 0, keysLen - BLS_PUBLIC_KEY_LENGTH);
+        System.arraycopy(syncCommittee, 0, ret, keysLen - BLS_PUBLIC_KEY_LENGTH, BLS_PUBLIC_KEY_LENGTH);
+        System.arraycopy(syncCommittee, 0, ret, keysLen, BLS_PUBLIC_KEY_LENGTH);
+        return ret;
+    }
+
+    @Test
+    void relayAfterSyncCommitteeReset() throws Exception {
+        var params = data.getParams();
+        var phase = data.getCases().get(0).getPhases().get(0);
+        byte[] syncCommittee = StringUtil.hexToBytes(params.getSyncCommittee());
+        byte[] finalizedHeader = StringUtil.hexToBytes(params.getFinalizedHeader());
+        byte[] relayMsg = StringUtil.hexToBytes(phase.getInput());
+        Account owner = sm.createAccount();
+        Score bmv = sm.deploy(owner, ResettableBMV.class,
+                params.getSrcNetworkID(),
+                StringUtil.hexToBytes(params.getGenesisValidatorsHash()),
+                syncCommittee,
+                Address.fromString(params.getBmc()),
+                StringUtil.hexToBytes(params.getEthBmc()),
+                finalizedHeader,
+                BigInteger.ZERO
+        );
+        var bmcAccount = sm.getAccount(Address.fromString(params.getBmc()));
+        String bmc = new BTPAddress(NET, params.getBmc()).toString();
+
+        // stores the aggregated key of the participants for the period
+        sm.call(bmcAccount, BigInteger.ZERO, bmv.getAddress(), "handleRelayMessage",
+                bmc, PREV_BMC, BigInteger.ZERO, relayMsg);
+        assertEquals(phase.getStatus().getHeight(), bmv.call(BMVStatus.class, "getStatus").getHeight());
+
+        // the same participants must not be verified with the key of the replaced committee
+        sm.call(owner, BigInteger.ZERO, bmv.getAddress(), "reset", finalizedHeader, otherSyncCommittee(syncCommittee));
+        var invalidSignature = assertThrows(UserRevertedException.class, () -> sm.call(
+                bmcAccount, BigInteger.ZERO, bmv.getAddress(), "handleRelayMessage",
+                bmc, PREV_BMC, BigInteger.ZERO, relayMsg));
+        assertTrue(invalidSignature.getMessage().contains("invalid signature"));
+
+        sm.call(owner, BigInteger.ZERO, bmv.getAddress(), "reset", finalizedHeader, syncCommittee);
+        sm.call(bmcAccount, BigInteger.ZERO, bmv.getAddress(), "handleRelayMessage",
+                bmc, PREV_BMC, BigInteger.ZERO, relayMsg);
+        assertEquals(phase.getStatus().getHeight(), bmv.call(BMVStatus.class, "getStatus").getHeight());
+    }
+}
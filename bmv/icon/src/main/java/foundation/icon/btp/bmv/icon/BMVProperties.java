@@ -16,6 +16,7 @@
 
 package foundation.icon.btp.bmv.icon;
 
+import foundation.icon.btp.lib.MerkleTreeAccumulator;
 import score.*;
 
 public class BMVProperties {
@@ -93,14 +94,19 @@ public class BMVProperties {
         obj.setBmc(reader.readNullable(Address.class));
         obj.setNet(reader.readNullable(String.class));
         obj.setLastHeight(reader.readLong());
-        obj.setValidators(reader.readNullable(Validators.class));
+        Validators validators = reader.readNullable(Validators.class);
         obj.setMta(reader.readNullable(MerkleTreeAccumulator.class));
+        byte[] validatorsHash = reader.hasNext() ? reader.readNullable(byte[].class) : null;
+        if (validators != null && validatorsHash != null) {
+            validators.setHash(validatorsHash);
+        }
+        obj.setValidators(validators);
         reader.end();
         return obj;
     }
 
     public void writeObject(ObjectWriter writer) {
-        writer.beginList(5);
+        writer.beginList(6);
         writer.writeNullable(this.getBmc());
         writer.writeNullable(this.getNet());
         writer.write(this.getLastHeight());
@@ -108,6 +114,8 @@ public class BMVProperties {
         writer.writeNullable(validators);
         MerkleTreeAccumulator mta = this.getMta();
         writer.writeNullable(mta);
+        // hash of validators, to avoid re-encoding them on loading
+        writer.writeNullable(validators == null ? null : validators.getHash());
         writer.end();
     }
 
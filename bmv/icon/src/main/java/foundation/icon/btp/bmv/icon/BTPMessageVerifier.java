@@ -19,8 +19,11 @@ package foundation.icon.btp.bmv.icon;
 import foundation.icon.btp.lib.BMV;
 import foundation.icon.btp.lib.BMVStatus;
 import foundation.icon.btp.lib.BTPAddress;
+import foundation.icon.btp.lib.MTAException;
+import foundation.icon.btp.lib.MerkleTreeAccumulator;
+import foundation.icon.btp.lib.MerkleTreeAccumulatorDB;
+import foundation.icon.btp.lib.mpt.MerklePatriciaTrie;
 import foundation.icon.score.util.Logger;
-import foundation.icon.score.util.StringUtil;
 import score.Address;
 import score.Context;
 import score.VarDB;
@@ -33,8 +36,10 @@ import java.util.List;
 
 public class BTPMessageVerifier implements BMV {
     private static final Logger logger = Logger.getLogger(BTPMessageVerifier.class);
+    private static final String HASH_ALG = "sha3-256";
 
     private final VarDB<BMVProperties> properties = Context.newVarDB("properties", BMVProperties.class);
+    private final MerkleTreeAccumulatorDB mtaDB = new MerkleTreeAccumulatorDB("mta");
 
     public BTPMessageVerifier(Address _bmc, String _net, String _validators, long _offset) {
         BMVProperties properties = getProperties();
@@ -45,17 +50,21 @@ public class BTPMessageVerifier implements BMV {
         if (properties.getLastHeight() == 0) {
             properties.setLastHeight(_offset);
         }
-        if (properties.getMta() == null) {
+        if (properties.getMta() != null) {
+            // migrate MerkleTreeAccumulator which was stored in BMVProperties
+            mtaDB.set(properties.getMta());
+            properties.setMta(null);
+        } else if (mtaDB.get() == null) {
             MerkleTreeAccumulator mta = new MerkleTreeAccumulator();
             mta.setHeight(_offset);
             mta.setOffset(_offset);
-            properties.setMta(mta);
+            mtaDB.set(mta);
         }
         setProperties(properties);
     }
 
     static byte[] hash(byte[] bytes) {
-        return Context.hash("sha3-256",bytes);
+        return Context.hash(HASH_ALG,bytes);
     }
 
     static Address recoverAddress(byte[] msg, byte[] sig, boolean compressed) {
@@ -83,12 +92,14 @@ public class BTPMessageVerifier implements BMV {
         ReceiptProof[] receiptProofs = relayMessage.getReceiptProofs();
         BlockHeader lastBlockHeader;
         BMVProperties properties = getProperties();
-        MerkleTreeAccumulator mta = properties.getMta();
+        MerkleTreeAccumulatorDB.Accumulator mta = mtaDB.get();
+        boolean isPropertiesUpdate = false;
         if (blockUpdates != null && blockUpdates.length > 0) {
             Validators validators = verifyBlockUpdates(blockUpdates, mta, properties.getValidators());
-            properties.setMta(mta);
+            mta.flush();
             if (validators != null) {
                 properties.setValidators(validators);
+                isPropertiesUpdate = true;
             }
             lastBlockHeader = blockUpdates[blockUpdates.length - 1].getBlockHeader();
         } else if (blockProof != null) {
@@ -106,8 +117,9 @@ public class BTPMessageVerifier implements BMV {
                 throw BMVException.unknown("invalid RelayMessage, BlockHeader has not receiptHash");
             }
             byte[] receiptHash = lastBlockHeader.getResult().getReceiptHash();
+            MerklePatriciaTrie prover = new MerklePatriciaTrie(HASH_ALG, receiptHash);
             for(ReceiptProof receiptProof : receiptProofs) {
-                Receipt receipt = proveReceiptProof(receiptProof, receiptHash);
+                Receipt receipt = proveReceiptProof(receiptProof, prover);
                 for(EventLog eventLog : receipt.getEventLogs()) {
                     if(!(prevAddr.account().equals(eventLog.getAddress().toString()))) {
                         continue;
@@ -130,6 +142,7 @@ public class BTPMessageVerifier implements BMV {
             }
             if (msgs.size() > 0) {
                 properties.setLastHeight(lastBlockHeader.getHeight());
+                isPropertiesUpdate = true;
                 ret = new byte[msgs.size()][];
                 int i = 0;
                 for (byte[] msg : msgs) {
@@ -138,28 +151,27 @@ public class BTPMessageVerifier implements BMV {
             }
         }
 
-        if ((blockUpdates != null && blockUpdates.length > 0) || ret.length > 0) {
+        if (isPropertiesUpdate) {
             setProperties(properties);
         }
         return ret;
     }
 
-    private Receipt proveReceiptProof(ReceiptProof receiptProof, byte[] receiptHash) {
+    private Receipt proveReceiptProof(ReceiptProof receiptProof, MerklePatriciaTrie prover) {
         try {
-            byte[] serializedReceipt = MerklePatriciaTree.prove(
-                    receiptHash,
-                    MerklePatriciaTree.encodeKey(receiptProof.getIndex()),
+            byte[] serializedReceipt = prover.prove(
+                    MerklePatriciaTrie.encodeKey("RLPn", receiptProof.getIndex()),
                     receiptProof.getProofs().getProofs());
             Receipt receipt = Receipt.fromBytes(serializedReceipt);
             byte[] eventLogsHash = receipt.getEventLogsHash();
             MPTProof[] eventProofs = receiptProof.getEventProofs();
             if (eventProofs != null) {
                 EventLog[] eventLogs = new EventLog[eventProofs.length];
+                MerklePatriciaTrie eventProver = new MerklePatriciaTrie(HASH_ALG, eventLogsHash);
                 int i=0;
                 for(MPTProof eventProof : eventProofs){
-                    byte[] serializedEventLog = MerklePatriciaTree.prove(
-                            eventLogsHash,
-                            MerklePatriciaTree.encodeKey(eventProof.getIndex()),
+                    byte[] serializedEventLog = eventProver.prove(
+                            MerklePatriciaTrie.encodeKey("RLPn", eventProof.getIndex()),
                             eventProof.getProofs().getProofs());
                     EventLog eventLog = EventLog.fromBytes(serializedEventLog);
                     eventLogs[i++] = eventLog;
@@ -167,14 +179,14 @@ public class BTPMessageVerifier implements BMV {
                 receipt.setEventLogs(eventLogs);
             }
             return receipt;
-        } catch (MerklePatriciaTree.MPTException e) {
+        } catch (MerklePatriciaTrie.MPTException e) {
             throw BMVException.invalidMPT(e.getMessage());
         }
     }
 
-    private Validators verifyBlockUpdates(BlockUpdate[] blockUpdates, MerkleTreeAccumulator mta, Validators validators) {
+    private Validators verifyBlockUpdates(BlockUpdate[] blockUpdates, MerkleTreeAccumulatorDB.Accumulator mta, Validators validators) {
         boolean isValidatorsUpdate = false;
-        byte[] validatorHash = hash(validators.toBytes());
+        byte[] validatorHash = validators.getHash();
         for(BlockUpdate blockUpdate : blockUpdates) {
             BlockHeader blockHeader = blockUpdate.getBlockHeader();
             long blockHeight = blockHeader.getHeight();
@@ -188,7 +200,7 @@ public class BTPMessageVerifier implements BMV {
                     if (nextValidators == null) {
                         throw BMVException.invalidBlockUpdate("not exists next validator");
                     }
-                    if (!(Arrays.equals(hash(nextValidators.toBytes()), nextValidatorHash))) {
+                    if (!(Arrays.equals(nextValidators.getHash(), nextValidatorHash))) {
                         throw BMVException.invalidBlockUpdate("invalid next validator hash");
                     }
                     validators = nextValidators;
@@ -207,7 +219,7 @@ public class BTPMessageVerifier implements BMV {
         return isValidatorsUpdate ? validators : null;
     }
 
-    private void verifyBlockProof(BlockProof blockProof, MerkleTreeAccumulator mta) {
+    private void verifyBlockProof(BlockProof blockProof, MerkleTreeAccumulatorDB.Accumulator mta) {
         BlockWitness blockWitness = blockProof.getBlockWitness();
         if (blockWitness == null) {
             throw BMVException.invalidBlockProof("not exists witness");
@@ -224,14 +236,14 @@ public class BTPMessageVerifier implements BMV {
         } catch (MTAException.InvalidWitnessOldException e) {
             throw BMVException.invalidBlockWitnessOld(e.getMessage());
         } catch (MTAException e) {
-            logger.println("verifyBlockProof","MTAException", e.getMessage());
+            logger.warn("verifyBlockProof","MTAException", e.getMessage());
             throw BMVException.invalidBlockWitness(e.getMessage());
         }
     }
 
     private void verifyVotes(Votes votes, long blockHeight, byte[] blockHash, Validators validators) {
         if (votes == null) {
-            logger.println("verifyVotes","invalidBlockUpdate", "not exists votes");
+            logger.warn("verifyVotes","invalidBlockUpdate", "not exists votes");
             throw BMVException.invalidBlockUpdate("not exists votes");
         }
         VoteMessage voteMessage = new VoteMessage();
@@ -240,28 +252,30 @@ public class BTPMessageVerifier implements BMV {
         voteMessage.setVoteType(VoteMessage.VOTE_TYPE_PRECOMMIT);
         voteMessage.setBlockId(blockHash);
         voteMessage.setPartSetId(votes.getPartSetId());
-        List<Address> addresses = new ArrayList<>();
+        boolean[] voted = new boolean[validators.size()];
+        int numOfVotes = 0;
         for(Vote vote : votes.getItems()) {
             voteMessage.setTimestamp(vote.getTimestamp());
             byte[] voteMessageHash = hash(voteMessage.toBytes());
             Address address = recoverAddress(voteMessageHash, vote.getSignature(), true);
-            if (!validators.contains(address)) {
-                logger.println("verifyVotes","invalidVotes", "invalid signature",
-                        "messageHash:", StringUtil.toString(voteMessageHash),
-                        "signature:", StringUtil.toString(vote.getSignature()),
-                        "address:",  StringUtil.toString(address.toString()));
+            int idx = validators.indexOf(address);
+            if (idx < 0) {
+                logger.warn("verifyVotes","invalidVotes", "invalid signature",
+                        "messageHash:", voteMessageHash,
+                        "signature:", vote.getSignature(),
+                        "address:", address);
                 throw BMVException.invalidVotes("invalid signature");
             }
-            if (addresses.contains(address)) {
-                logger.println("verifyVotes","invalidVotes", "duplicated vote");
+            if (voted[idx]) {
+                logger.warn("verifyVotes","invalidVotes", "duplicated vote");
                 throw BMVException.invalidVotes("duplicated vote");
-            } else {
-                addresses.add(address);
             }
+            voted[idx] = true;
+            numOfVotes++;
         }
 
-        if (addresses.size() <= (validators.getAddresses().length * 2 / 3)) {
-            logger.println("verifyVotes","invalidVotes", "require votes +2/3");
+        if (numOfVotes <= (validators.size() * 2 / 3)) {
+            logger.warn("verifyVotes","invalidVotes", "require votes +2/3");
             throw BMVException.invalidVotes("require votes +2/3");
         }
     }
@@ -280,7 +294,7 @@ public class BTPMessageVerifier implements BMV {
     @External(readonly = true)
     public BMVStatus getStatus() {
         BMVProperties properties = getProperties();
-        MerkleTreeAccumulator mta = properties.getMta();
+        MerkleTreeAccumulatorDB.Accumulator mta = mtaDB.get();
         BMVStatus s = new BMVStatus();
         s.setHeight(mta.getHeight());
         s.setExtra(new BMVStatusExtra(
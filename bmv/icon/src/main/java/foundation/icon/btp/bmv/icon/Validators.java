@@ -20,11 +20,16 @@ import foundation.icon.score.util.StringUtil;
 import score.*;
 import scorex.util.ArrayList;
 import scorex.util.Base64;
+import scorex.util.HashMap;
 
 import java.util.List;
+import java.util.Map;
 
 public class Validators {
     private Address[] addresses;
+    // built on demand, not serialized
+    private Map<Address, Integer> index;
+    private byte[] hash;
 
     public Address[] getAddresses() {
         return addresses;
@@ -32,15 +37,44 @@ public class Validators {
 
     public void setAddresses(Address[] addresses) {
         this.addresses = addresses;
+        this.index = null;
+        this.hash = null;
     }
 
-    public boolean contains(Address target) {
-        for(Address address : addresses) {
-            if (address.equals(target)){
-                return true;
+    public int size() {
+        return addresses.length;
+    }
+
+    /**
+     * @param target address of validator
+     * @return position of the validator, or -1 if it's not a validator
+     */
+    public int indexOf(Address target) {
+        if (index == null) {
+            index = new HashMap<>(addresses.length * 2);
+            for (int i = 0; i < addresses.length; i++) {
+                if (addresses[i] != null) {
+                    index.putIfAbsent(addresses[i], i);
+                }
             }
         }
-        return false;
+        Integer i = index.get(target);
+        return i == null ? -1 : i;
+    }
+
+    public boolean contains(Address target) {
+        return indexOf(target) >= 0;
+    }
+
+    public byte[] getHash() {
+        if (hash == null) {
+            hash = BTPMessageVerifier.hash(toBytes());
+        }
+        return hash;
+    }
+
+    void setHash(byte[] hash) {
+        this.hash = hash;
     }
 
     /**
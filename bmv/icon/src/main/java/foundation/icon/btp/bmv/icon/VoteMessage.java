@@ -30,6 +30,8 @@ public class VoteMessage {
     private byte[] blockId;
     private PartSetId partSetId;
     private long timestamp;
+    // encoded items except timestamp, votes of a block differ only in timestamp
+    private byte[] encodedPrefix;
 
     public long getHeight() {
         return height;
@@ -37,6 +39,7 @@ public class VoteMessage {
 
     public void setHeight(long height) {
         this.height = height;
+        this.encodedPrefix = null;
     }
 
     public long getRound() {
@@ -45,6 +48,7 @@ public class VoteMessage {
 
     public void setRound(long round) {
         this.round = round;
+        this.encodedPrefix = null;
     }
 
     public long getVoteType() {
@@ -53,6 +57,7 @@ public class VoteMessage {
 
     public void setVoteType(long voteType) {
         this.voteType = voteType;
+        this.encodedPrefix = null;
     }
 
     public byte[] getBlockId() {
@@ -61,6 +66,7 @@ public class VoteMessage {
 
     public void setBlockId(byte[] blockId) {
         this.blockId = blockId;
+        this.encodedPrefix = null;
     }
 
     public PartSetId getPartSetId() {
@@ -69,6 +75,7 @@ public class VoteMessage {
 
     public void setPartSetId(PartSetId partSetId) {
         this.partSetId = partSetId;
+        this.encodedPrefix = null;
     }
 
     public long getTimestamp() {
@@ -127,8 +134,51 @@ public class VoteMessage {
     }
 
     public byte[] toBytes() {
+        if (encodedPrefix == null) {
+            ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
+            writer.beginList(5);
+            writer.write(this.getHeight());
+            writer.write(this.getRound());
+            writer.write(this.getVoteType());
+            writer.writeNullable(this.getBlockId());
+            writer.writeNullable(this.getPartSetId());
+            writer.end();
+            byte[] list = writer.toByteArray();
+            int header = listHeaderSize(list[0]);
+            encodedPrefix = new byte[list.length - header];
+            System.arraycopy(list, header, encodedPrefix, 0, encodedPrefix.length);
+        }
         ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
-        VoteMessage.writeObject(writer, this);
-        return writer.toByteArray();
+        writer.write(this.getTimestamp());
+        byte[] timestamp = writer.toByteArray();
+
+        int len = encodedPrefix.length + timestamp.length;
+        byte[] header = listHeader(len);
+        byte[] bytes = new byte[header.length + len];
+        System.arraycopy(header, 0, bytes, 0, header.length);
+        System.arraycopy(encodedPrefix, 0, bytes, header.length, encodedPrefix.length);
+        System.arraycopy(timestamp, 0, bytes, header.length + encodedPrefix.length, timestamp.length);
+        return bytes;
+    }
+
+    private static int listHeaderSize(byte first) {
+        int b = first & 0xFF;
+        return b <= 0xF7 ? 1 : 1 + (b - 0xF7);
+    }
+
+    private static byte[] listHeader(int len) {
+        if (len < 56) {
+            return new byte[]{(byte) (0xC0 + len)};
+        }
+        int size = 0;
+        for (int l = len; l > 0; l >>= 8) {
+            size++;
+        }
+        byte[] header = new byte[1 + size];
+        header[0] = (byte) (0xF7 + size);
+        for (int i = size; i > 0; i--, len >>= 8) {
+            header[i] = (byte) len;
+        }
+        return header;
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmv.icon;
+
+import org.junit.jupiter.api.Test;
+import score.Address;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BMVPropertiesTest {
+    static Address address(int i) {
+        byte[] bytes = new byte[Address.LENGTH];
+        bytes[Address.LENGTH - 1] = (byte) i;
+        return new Address(bytes);
+    }
+
+    @Test
+    void validatorsHashShouldFollowValidators() {
+        Validators validators = new Validators();
+        validators.setAddresses(new Address[]{address(1), address(2)});
+        BMVProperties properties = new BMVProperties();
+        properties.setValidators(validators);
+        byte[] hash = validators.getHash();
+        assertArrayEquals(hash, BMVProperties.fromBytes(properties.toBytes()).getValidators().getHash());
+
+        // validators updated after setValidators
+        validators.setAddresses(new Address[]{address(3)});
+        byte[] updated = BMVProperties.fromBytes(properties.toBytes()).getValidators().getHash();
+        assertFalse(Arrays.equals(hash, updated));
+        assertArrayEquals(BTPMessageVerifier.hash(validators.toBytes()), updated);
+
+        properties.setValidators(null);
+        assertNull(BMVProperties.fromBytes(properties.toBytes()).getValidators());
+    }
+}
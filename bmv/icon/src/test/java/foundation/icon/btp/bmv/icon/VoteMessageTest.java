@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.bmv.icon;
+
+import org.junit.jupiter.api.Test;
+import score.ByteArrayObjectWriter;
+import score.Context;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VoteMessageTest {
+    static byte[] bytes(int size) {
+        byte[] ret = new byte[size];
+        for (int i = 0; i < size; i++) {
+            ret[i] = (byte) (i + 1);
+        }
+        return ret;
+    }
+
+    static VoteMessage newVoteMessage(int blockIdSize, PartSetId partSetId) {
+        VoteMessage msg = new VoteMessage();
+        msg.setHeight(100);
+        msg.setRound(0);
+        msg.setVoteType(VoteMessage.VOTE_TYPE_PRECOMMIT);
+        msg.setBlockId(blockIdSize < 0 ? null : bytes(blockIdSize));
+        msg.setPartSetId(partSetId);
+        msg.setTimestamp(1680000000000000L);
+        return msg;
+    }
+
+    static byte[] encode(VoteMessage msg) {
+        ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
+        VoteMessage.writeObject(writer, msg);
+        return writer.toByteArray();
+    }
+
+    static PartSetId newPartSetId() {
+        PartSetId partSetId = new PartSetId();
+        partSetId.setCount(1);
+        partSetId.setHash(bytes(32));
+        return partSetId;
+    }
+
+    @Test
+    void toBytesShouldEqualToWriteObject() {
+        boolean shortList = false, longList = false;
+        // length of the list crosses 56 bytes which needs the length of length in the header
+        for (int size = -1; size <= 64; size++) {
+            for (PartSetId partSetId : new PartSetId[]{null, newPartSetId()}) {
+                VoteMessage msg = newVoteMessage(size, partSetId);
+                byte[] expected = encode(msg);
+                assertArrayEquals(expected, msg.toBytes());
+                if ((expected[0] & 0xFF) < 0xF8) {
+                    shortList = true;
+                } else {
+                    longList = true;
+                }
+            }
+        }
+        assertTrue(shortList);
+        assertTrue(longList);
+    }
+
+    @Test
+    void toBytesWithChangedFields() {
+        for (int size : new int[]{0, 32}) {
+            VoteMessage msg = newVoteMessage(size, newPartSetId());
+            assertArrayEquals(encode(msg), msg.toBytes());
+
+            // votes of the block differ only in timestamp
+            for (long timestamp : new long[]{0, 1, 0x7F, 0x80, Long.MAX_VALUE, -1}) {
+                msg.setTimestamp(timestamp);
+                assertArrayEquals(encode(msg), msg.toBytes());
+            }
+
+            msg.setRound(1);
+            assertArrayEquals(encode(msg), msg.toBytes());
+            msg.setBlockId(bytes(64));
+            assertArrayEquals(encode(msg), msg.toBytes());
+            msg.setPartSetId(null);
+            assertArrayEquals(encode(msg), msg.toBytes());
+        }
+    }
+
+    @Test
+    void fromBytesShouldDecodeToBytes() {
+        VoteMessage msg = newVoteMessage(32, newPartSetId());
+        VoteMessage decoded = VoteMessage.fromBytes(msg.toBytes());
+        assertEquals(msg.getHeight(), decoded.getHeight());
+        assertEquals(msg.getTimestamp(), decoded.getTimestamp());
+        assertArrayEquals(msg.getBlockId(), decoded.getBlockId());
+        assertArrayEquals(msg.toBytes(), decoded.toBytes());
+    }
+}
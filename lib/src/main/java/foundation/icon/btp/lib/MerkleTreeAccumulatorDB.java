@@ -0,0 +1,354 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.lib;
+
+import foundation.icon.score.util.StringUtil;
+import score.Context;
+import score.DictDB;
+import score.ObjectReader;
+import score.ObjectWriter;
+import score.VarDB;
+
+import java.util.Arrays;
+
+/**
+ * Storage of MerkleTreeAccumulator which stores each root and each cache entry by its index.
+ * State of the accumulator (height, offset, sizes) is stored in VarDB, so that
+ * {@link Accumulator#add(byte[])} writes only the changed roots and the touched cache slot,
+ * and {@link Accumulator#verify(byte[][], byte[], long, long)} reads only the root of the witness.
+ * <p>
+ * Because every root is a perfect merkle tree, the root of index i exists
+ * if and only if the bit i of (height - offset) is set.
+ */
+public class MerkleTreeAccumulatorDB {
+    private static final int HASH_LEN = 32;
+
+    private final VarDB<State> state;
+    private final DictDB<Integer, byte[]> roots;
+    private final DictDB<Integer, byte[]> cache;
+
+    public MerkleTreeAccumulatorDB(String id) {
+        this.state = Context.newVarDB(id + "|state", State.class);
+        this.roots = Context.newDictDB(id + "|roots", byte[].class);
+        this.cache = Context.newDictDB(id + "|cache", byte[].class);
+    }
+
+    /**
+     * @return accumulator which loads roots on demand, or null if not exists
+     */
+    public Accumulator get() {
+        State state = this.state.get();
+        if (state == null) return null;
+        return new Accumulator(state);
+    }
+
+    /**
+     * Replaces the stored accumulator with the given one, used for initialization and migration.
+     */
+    public void set(MerkleTreeAccumulator mta) {
+        State old = this.state.get();
+        if (old != null) {
+            for (int i = 0; i < old.rootsLength; i++) {
+                roots.set(i, null);
+            }
+            if (old.isCacheEnabled()) {
+                for (int i = 0; i < old.cacheSize; i++) {
+                    cache.set(i, null);
+                }
+            }
+        }
+        State state = new State();
+        state.height = mta.getHeight();
+        state.offset = mta.getOffset();
+        state.rootSize = mta.getRootSize();
+        state.cacheSize = mta.getCacheSize();
+        state.allowNewerWitness = mta.getAllowNewerWitness();
+        byte[][] roots = mta.getRoots();
+        if (roots != null) {
+            state.rootsLength = roots.length;
+            for (int i = 0; i < roots.length; i++) {
+                if (roots[i] != null) {
+                    this.roots.set(i, roots[i]);
+                }
+            }
+        }
+        byte[][] cache = mta.getCache();
+        if (state.isCacheEnabled() && cache != null) {
+            int len = Math.min(cache.length, state.cacheSize);
+            for (int i = 0; i < len; i++) {
+                if (cache[i] != null) {
+                    this.cache.set(i, cache[i]);
+                }
+            }
+            Integer cacheIdx = mta.getCacheIdx();
+            state.cacheIdx = cacheIdx == null || cacheIdx >= state.cacheSize ? 0 : cacheIdx;
+        }
+        this.state.set(state);
+    }
+
+    public class Accumulator {
+        private final State state;
+        private byte[][] loaded;
+        private boolean[] isLoaded;
+        private boolean dirty;
+
+        private Accumulator(State state) {
+            this.state = state;
+            this.loaded = new byte[state.rootsLength][];
+            this.isLoaded = new boolean[state.rootsLength];
+        }
+
+        public long getHeight() {
+            return state.height;
+        }
+
+        public long getOffset() {
+            return state.offset;
+        }
+
+        public boolean isAllowNewerWitness() {
+            return state.allowNewerWitness != null && state.allowNewerWitness;
+        }
+
+        private boolean hasRoot(int idx) {
+            return ((state.height - state.offset) >>> idx & 1) == 1;
+        }
+
+        private byte[] getRoot(int idx) {
+            if (idx < 0 || idx >= state.rootsLength) {
+                throw new MTAException("root idx is out of range");
+            }
+            if (!isLoaded[idx]) {
+                loaded[idx] = hasRoot(idx) ? roots.get(idx) : null;
+                isLoaded[idx] = true;
+            }
+            return loaded[idx];
+        }
+
+        private void setRoot(int idx, byte[] hash) {
+            if (idx >= state.rootsLength) {
+                state.rootsLength = idx + 1;
+                loaded = Arrays.copyOf(loaded, state.rootsLength);
+                isLoaded = Arrays.copyOf(isLoaded, state.rootsLength);
+            }
+            loaded[idx] = hash;
+            isLoaded[idx] = true;
+            roots.set(idx, hash);
+        }
+
+        public void verify(byte[][] witness, byte[] hash, long height, long at) {
+            if (state.height == at) {
+                byte[] root = getRoot(witness.length);
+                MerkleTreeAccumulatorDB.verify(witness, witness.length, root, hash, height - 1 - state.offset);
+            } else if (state.height < at) {
+                if (!isAllowNewerWitness()) {
+                    throw new MTAException.InvalidWitnessNewerException("not allowed newer witness");
+                }
+                if (state.height < height) {
+                    throw new MTAException("given witness for newer node");
+                }
+                int rootIdx = getRootIdxByHeight(height);
+                byte[] root = getRoot(rootIdx);
+                MerkleTreeAccumulatorDB.verify(witness, rootIdx, root, hash, height - 1 - state.offset);
+            } else {
+                // acc: new, wit: old
+                // rebuild witness is not supported, but able to verify by cache if enabled
+                if (state.isCacheEnabled() && (state.height - height - 1) < state.cacheSize) {
+                    if (!hasCache(hash)) {
+                        throw new MTAException("invalid old witness");
+                    }
+                } else {
+                    throw new MTAException.InvalidWitnessOldException("not allowed old witness");
+                }
+            }
+        }
+
+        private int getRootIdxByHeight(long height) {
+            if (height <= state.offset) {
+                throw new MTAException("given height is out of range");
+            }
+            long idx = height - 1 - state.offset;
+            int rootIdx = state.rootsLength - 1;
+            while (rootIdx >= 0) {
+                if (hasRoot(rootIdx)) {
+                    long bitFlag = 1L << rootIdx;
+                    if (idx < bitFlag) {
+                        break;
+                    }
+                    idx -= bitFlag;
+                }
+                rootIdx--;
+            }
+            if (rootIdx < 0) {
+                throw new MTAException("given height is out of range");
+            }
+            return rootIdx;
+        }
+
+        public void add(byte[] hash) {
+            putCache(hash);
+            if (state.height == state.offset) {
+                setRoot(state.rootsLength, hash);
+            } else {
+                boolean isAdded = false;
+                int len = state.rootsLength;
+                int pruningIdx = (state.isRootSizeLimitEnabled() ? state.rootSize : 0) - 1;
+                for (int i = 0; i < len; i++) {
+                    byte[] root = getRoot(i);
+                    if (root == null) {
+                        setRoot(i, hash);
+                        isAdded = true;
+                        break;
+                    } else {
+                        if (i == pruningIdx) {
+                            setRoot(i, hash);
+                            state.offset += 1L << i;
+                            isAdded = true;
+                            break;
+                        } else {
+                            hash = concatAndHash(root, hash);
+                            setRoot(i, null);
+                        }
+                    }
+                }
+                if (!isAdded) {
+                    setRoot(len, hash);
+                }
+            }
+            state.height++;
+            dirty = true;
+        }
+
+        private boolean hasCache(byte[] hash) {
+            for (int i = 0; i < state.cacheSize; i++) {
+                if (Arrays.equals(cache.get(i), hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void putCache(byte[] hash) {
+            if (state.isCacheEnabled()) {
+                cache.set(state.cacheIdx++, hash);
+                if (state.cacheIdx >= state.cacheSize) {
+                    state.cacheIdx = 0;
+                }
+            }
+        }
+
+        /**
+         * Writes the state if it's changed by {@link #add(byte[])}.
+         * Roots and cache entries are already written on add.
+         */
+        public void flush() {
+            if (dirty) {
+                MerkleTreeAccumulatorDB.this.state.set(state);
+                dirty = false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder("Accumulator{");
+            sb.append("state=").append(state);
+            sb.append(", loaded=").append(StringUtil.toString(loaded));
+            sb.append('}');
+            return sb.toString();
+        }
+    }
+
+    private static byte[] concatAndHash(byte[] b1, byte[] b2) {
+        byte[] data = new byte[HASH_LEN * 2];
+        System.arraycopy(b1, 0, data, 0, HASH_LEN);
+        System.arraycopy(b2, 0, data, HASH_LEN, HASH_LEN);
+        return Context.hash("sha3-256", data);
+    }
+
+    private static void verify(byte[][] witness, int witnessLen, byte[] root, byte[] hash, long idx) {
+        for (int i = 0; i < witnessLen; i++) {
+            if (idx % 2 == 0) {
+                hash = concatAndHash(hash, witness[i]);
+            } else {
+                hash = concatAndHash(witness[i], hash);
+            }
+            idx = idx / 2;
+        }
+        if (!Arrays.equals(root, hash)) {
+            throw new MTAException("invalid witness"+
+                    ", root: "+StringUtil.toString(root) + ", hash: "+StringUtil.toString(hash));
+        }
+    }
+
+    public static class State {
+        private long height;
+        private long offset;
+        private int rootsLength;
+        private Integer rootSize;
+        private Integer cacheSize;
+        private int cacheIdx;
+        private Boolean allowNewerWitness;
+
+        boolean isRootSizeLimitEnabled() {
+            return rootSize != null && rootSize > 0;
+        }
+
+        boolean isCacheEnabled() {
+            return cacheSize != null && cacheSize > 0;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder("State{");
+            sb.append("height=").append(height);
+            sb.append(", offset=").append(offset);
+            sb.append(", rootsLength=").append(rootsLength);
+            sb.append(", rootSize=").append(rootSize);
+            sb.append(", cacheSize=").append(cacheSize);
+            sb.append(", cacheIdx=").append(cacheIdx);
+            sb.append(", allowNewerWitness=").append(allowNewerWitness);
+            sb.append('}');
+            return sb.toString();
+        }
+
+        public static void writeObject(ObjectWriter writer, State obj) {
+            writer.beginList(7);
+            writer.write(obj.height);
+            writer.write(obj.offset);
+            writer.write(obj.rootsLength);
+            writer.writeNullable(obj.rootSize);
+            writer.writeNullable(obj.cacheSize);
+            writer.write(obj.cacheIdx);
+            writer.writeNullable(obj.allowNewerWitness);
+            writer.end();
+        }
+
+        public static State readObject(ObjectReader reader) {
+            State obj = new State();
+            reader.beginList();
+            obj.height = reader.readLong();
+            obj.offset = reader.readLong();
+            obj.rootsLength = reader.readInt();
+            obj.rootSize = reader.readNullable(Integer.class);
+            obj.cacheSize = reader.readNullable(Integer.class);
+            obj.cacheIdx = reader.readInt();
+            obj.allowNewerWitness = reader.readNullable(Boolean.class);
+            reader.end();
+            return obj;
+        }
+    }
+}
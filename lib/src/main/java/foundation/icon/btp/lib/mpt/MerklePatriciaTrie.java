@@ -0,0 +1,224 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.lib.mpt;
+
+import foundation.icon.score.util.StringUtil;
+import score.ByteArrayObjectWriter;
+import score.Context;
+import scorex.util.HashMap;
+
+import java.util.Map;
+
+/**
+ * Verifier of Merkle Patricia Trie proofs which is shared by BMVs.
+ * It walks the key by nibble offset over the proof nodes as they are given, and reads RLP headers
+ * of the node in place instead of decoding the node into objects. The node which is proven once
+ * is cached by its hash, so that it may be given as empty bytes in the proofs of the following keys.
+ * The codec of node is RLP, which is also compatible with the node encoded by RLPn.
+ */
+public class MerklePatriciaTrie {
+    private static final int HASH_LENGTH = 32;
+    private static final int BRANCH_ITEMS = 17;
+    private static final int VALUE_INDEX = 16;
+
+    public static class MPTException extends RuntimeException {
+        public MPTException(String message) {
+            super(message);
+        }
+
+        public MPTException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private final String hashAlg;
+    private final byte[] rootHash;
+    private final Map<String, byte[]> nodes = new HashMap<>();
+
+    // result of peek, offset and length of the content of the item and offset of the next item
+    private int offset;
+    private int length;
+    private boolean isList;
+    private int next;
+
+    /**
+     * @param hashAlg  hash algorithm of the node, e.g. "sha3-256" or "keccak-256"
+     * @param rootHash hash of the root node
+     */
+    public MerklePatriciaTrie(String hashAlg, byte[] rootHash) {
+        this.hashAlg = hashAlg;
+        this.rootHash = rootHash;
+    }
+
+    public static byte[] encodeKey(String codec, Object key) {
+        ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter(codec);
+        writer.write(key);
+        return writer.toByteArray();
+    }
+
+    public static byte[] prove(String hashAlg, byte[] rootHash, byte[] key, byte[][] proofs) {
+        return new MerklePatriciaTrie(hashAlg, rootHash).prove(key, proofs);
+    }
+
+    /**
+     * @param key    key
+     * @param proofs nodes on the path of key from the root, which are referenced by hash
+     * @return value of the key
+     */
+    public byte[] prove(byte[] key, byte[][] proofs) {
+        int keyLen = key.length * 2;
+        int k = 0;
+        int p = 0;
+        byte[] buf = load(rootHash, 0, proofs, p++);
+        int start = 0;
+        while (true) {
+            // items of the node
+            peek(buf, start, buf.length);
+            if (!isList) throw new MPTException("invalid node, required list");
+            int end = offset + length;
+            int first = offset;
+            int cnt = 0;
+            for (int pos = first; pos < end; pos = next) {
+                peek(buf, pos, end);
+                cnt++;
+            }
+            int ref;
+            if (cnt == BRANCH_ITEMS) {
+                if (k == keyLen) {
+                    int item = item(buf, first, end, VALUE_INDEX);
+                    return value(buf, item, end);
+                }
+                ref = item(buf, first, end, nibble(key, k++));
+            } else if (cnt == 2) {
+                peek(buf, first, end);
+                if (isList || length == 0) throw new MPTException("invalid node, required path");
+                int pathOff = offset;
+                int pathLen = length;
+                int ref1 = next;
+                int prefix = (buf[pathOff] >> 4) & 0x0F;
+                int from = (prefix & 0x1) != 0 ? 1 : 2;
+                int pathNibbles = pathLen * 2 - from;
+                if (pathNibbles > keyLen - k) throw new MPTException("mismatch nibbles");
+                for (int i = 0; i < pathNibbles; i++) {
+                    if (nibble(buf, pathOff, from + i) != nibble(key, k + i))
+                        throw new MPTException("mismatch nibbles");
+                }
+                k += pathNibbles;
+                if ((prefix & 0x2) != 0) {
+                    if (k != keyLen) throw new MPTException("mismatch nibbles on leaf");
+                    return value(buf, ref1, end);
+                }
+                ref = ref1;
+            } else {
+                throw new MPTException("invalid node, invalid list length " + cnt);
+            }
+
+            // child which is referenced by hash or embedded
+            peek(buf, ref, end);
+            if (isList) {
+                start = ref;
+            } else if (length == HASH_LENGTH) {
+                buf = load(buf, offset, proofs, p++);
+                start = 0;
+            } else {
+                throw new MPTException("not found, nibble " + k);
+            }
+        }
+    }
+
+    private byte[] load(byte[] hash, int off, byte[][] proofs, int i) {
+        String id = StringUtil.bytesToHex(slice(hash, off, HASH_LENGTH));
+        byte[] node = nodes.get(id);
+        if (node != null) return node;
+        if (i >= proofs.length) throw new MPTException("not enough proofs");
+        node = proofs[i];
+        byte[] h = Context.hash(hashAlg, node);
+        for (int j = 0; j < HASH_LENGTH; j++) {
+            if (h[j] != hash[off + j]) throw new MPTException("mismatch hash");
+        }
+        nodes.put(id, node);
+        return node;
+    }
+
+    // returns offset of the index-th item of the list
+    private int item(byte[] buf, int pos, int end, int index) {
+        for (int i = 0; i < index; i++) {
+            peek(buf, pos, end);
+            pos = next;
+        }
+        return pos;
+    }
+
+    private byte[] value(byte[] buf, int pos, int end) {
+        peek(buf, pos, end);
+        if (isList) throw new MPTException("invalid value, required bytes");
+        return slice(buf, offset, length);
+    }
+
+    private static byte[] slice(byte[] buf, int off, int len) {
+        if (off == 0 && len == buf.length) return buf;
+        byte[] ret = new byte[len];
+        System.arraycopy(buf, off, ret, 0, len);
+        return ret;
+    }
+
+    private static int nibble(byte[] bytes, int i) {
+        return nibble(bytes, 0, i);
+    }
+
+    private static int nibble(byte[] bytes, int off, int i) {
+        int b = bytes[off + i / 2];
+        return (i % 2 == 0 ? b >> 4 : b) & 0x0F;
+    }
+
+    private void peek(byte[] buf, int pos, int end) {
+        if (pos >= end) throw new MPTException("invalid rlp, out of range");
+        int b = buf[pos] & 0xFF;
+        if (b < 0x80) {
+            offset = pos;
+            length = 1;
+            isList = false;
+        } else if (b <= 0xB7) {
+            offset = pos + 1;
+            length = b - 0x80;
+            isList = false;
+        } else if (b <= 0xBF) {
+            offset = pos + 1 + (b - 0xB7);
+            length = readLength(buf, pos + 1, b - 0xB7, end);
+            isList = false;
+        } else if (b <= 0xF7) {
+            offset = pos + 1;
+            length = b - 0xC0;
+            isList = true;
+        } else {
+            offset = pos + 1 + (b - 0xF7);
+            length = readLength(buf, pos + 1, b - 0xF7, end);
+            isList = true;
+        }
+        next = offset + length;
+        if (next > end || next < offset) throw new MPTException("invalid rlp, out of range");
+    }
+
+    private static int readLength(byte[] buf, int pos, int size, int end) {
+        if (size > 4 || pos + size > end) throw new MPTException("invalid rlp, length");
+        int len = 0;
+        for (int i = 0; i < size; i++) {
+            len = (len << 8) | (buf[pos + i] & 0xFF);
+        }
+        return len;
+    }
+}
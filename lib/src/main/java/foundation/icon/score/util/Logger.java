@@ -21,7 +21,23 @@ import scorex.util.HashMap;
 
 import java.util.Map;
 
+/**
+ * Logger which prints with {@link Context#println(String)}.
+ * <p>
+ * {@link #debug}, {@link #info}, {@link #warn} and {@link #error} print only if the level is
+ * enabled by {@link #LEVEL}, and format arguments only when they print.
+ * {@link #LEVEL} is a compile-time constant which is decided by {@code debugJar} at build time,
+ * so that the compiler removes printing of disabled levels.
+ * A call still builds its varargs array and boxes its arguments, so calls on hot paths are guarded by
+ * {@code if (Logger.LEVEL <= Logger.DEBUG)} which lets the compiler remove the whole call.
+ */
 public class Logger {
+    public static final int DEBUG = 0;
+    public static final int INFO = 1;
+    public static final int WARN = 2;
+    public static final int ERROR = 3;
+    public static final int LEVEL = BuildConfig.DEBUG ? DEBUG : WARN;
+
     static String loggerId(Class<?> clazz) {
         return clazz.getName();
     }
@@ -50,6 +66,30 @@ public class Logger {
         this.id = id;
     }
 
+    public void debug(String prefix, Object ... objs) {
+        if (LEVEL <= DEBUG) {
+            println(prefix, objs);
+        }
+    }
+
+    public void info(String prefix, Object ... objs) {
+        if (LEVEL <= INFO) {
+            println(prefix, objs);
+        }
+    }
+
+    public void warn(String prefix, Object ... objs) {
+        if (LEVEL <= WARN) {
+            println(prefix, objs);
+        }
+    }
+
+    public void error(String prefix, Object ... objs) {
+        if (LEVEL <= ERROR) {
+            println(prefix, objs);
+        }
+    }
+
     /**
      * Print list of message
      *
@@ -78,7 +118,7 @@ public class Logger {
         }
         sb.append("]");
         for(Object obj : objs) {
-            sb.append(DELIMITER).append(StringUtil.toString(obj));
+            sb.append(DELIMITER).append(format(obj));
         }
         Context.println(sb.toString());
     }
@@ -98,6 +138,18 @@ public class Logger {
         Context.println(sb.toString());
     }
 
+    static String format(Object obj) {
+        if (obj instanceof byte[]) {
+            return StringUtil.toString((byte[]) obj);
+        } else if (obj instanceof byte[][]) {
+            return StringUtil.toString((byte[][]) obj);
+        } else if (obj instanceof Object[]) {
+            return StringUtil.toString((Object[]) obj);
+        } else {
+            return StringUtil.toString(obj);
+        }
+    }
+
     public static String toStringWithClassName(Object obj) {
         if (obj == null) {
             return "null";
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.lib;
+
+import com.iconloop.score.test.Account;
+import com.iconloop.score.test.Score;
+import com.iconloop.score.test.ServiceManager;
+import com.iconloop.score.test.TestBase;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import score.Context;
+import score.annotation.External;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares MerkleTreeAccumulatorDB with MerkleTreeAccumulator which keeps everything in memory.
+ */
+class MerkleTreeAccumulatorDBTest extends TestBase {
+    static final ServiceManager sm = getServiceManager();
+    static final Account owner = sm.createAccount();
+    static final int HASH_LEN = 32;
+    static final int COUNT = 70;
+
+    /**
+     * Runs the task in the frame of the score, which owns the storage of MerkleTreeAccumulatorDB.
+     */
+    public static class StorageScore {
+        static Runnable task;
+
+        @External
+        public void run() {
+            task.run();
+        }
+    }
+
+    static void run(Runnable task) throws Exception {
+        Score score = sm.deploy(owner, StorageScore.class);
+        StorageScore.task = task;
+        try {
+            sm.call(owner, BigInteger.ZERO, score.getAddress(), "run");
+        } finally {
+            StorageScore.task = null;
+        }
+    }
+
+    static Stream<Arguments> parameters() {
+        List<Arguments> args = new ArrayList<>();
+        for (Integer rootSize : new Integer[]{null, 0, 1, 3}) {
+            for (Integer cacheSize : new Integer[]{null, 0, 5}) {
+                args.add(Arguments.of(rootSize, cacheSize));
+            }
+        }
+        return args.stream();
+    }
+
+    static byte[] leaf(int i) {
+        return Context.hash("sha3-256", BigInteger.valueOf(i).toByteArray());
+    }
+
+    static byte[] concatAndHash(byte[] b1, byte[] b2) {
+        byte[] data = new byte[HASH_LEN * 2];
+        System.arraycopy(b1, 0, data, 0, HASH_LEN);
+        System.arraycopy(b2, 0, data, HASH_LEN, HASH_LEN);
+        return Context.hash("sha3-256", data);
+    }
+
+    static MerkleTreeAccumulator newMTA(Integer rootSize, Integer cacheSize) {
+        MerkleTreeAccumulator mta = new MerkleTreeAccumulator();
+        mta.setRootSize(rootSize);
+        mta.setCacheSize(cacheSize);
+        mta.ensureCache();
+        return mta;
+    }
+
+    /**
+     * Returns witness of the leaf at the height, in the root which includes the leaf.
+     * Roots are perfect merkle trees of the leaves after offset, the largest one first.
+     */
+    static byte[][] witness(long offset, long height, long leafHeight) {
+        long n = height - offset;
+        long pos = leafHeight - 1 - offset;
+        long start = 0;
+        for (int i = 63; i >= 0; i--) {
+            if ((n >>> i & 1) == 0) {
+                continue;
+            }
+            long size = 1L << i;
+            if (pos < start + size) {
+                byte[][] level = new byte[(int) size][];
+                for (int j = 0; j < size; j++) {
+                    level[j] = leaf((int) (offset + start + j));
+                }
+                int idx = (int) (pos - start);
+                byte[][] witness = new byte[i][];
+                for (int d = 0; d < i; d++) {
+                    witness[d] = level[idx ^ 1];
+                    byte[][] parent = new byte[level.length / 2][];
+                    for (int j = 0; j < parent.length; j++) {
+                        parent[j] = concatAndHash(level[j * 2], level[j * 2 + 1]);
+                    }
+                    level = parent;
+                    idx /= 2;
+                }
+                return witness;
+            }
+            start += size;
+        }
+        return new byte[0][];
+    }
+
+    static String outcome(Runnable r) {
+        try {
+            r.run();
+            return "OK";
+        } catch (MTAException e) {
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Verifies the leaves with witnesses of the current height, and old witnesses which need the cache.
+     */
+    static void assertSameVerification(MerkleTreeAccumulator mta, MerkleTreeAccumulatorDB.Accumulator acc) {
+        assertEquals(mta.getHeight(), acc.getHeight());
+        assertEquals(mta.getOffset(), acc.getOffset());
+        long height = mta.getHeight();
+        for (long h = mta.getOffset() + 1; h <= height; h++) {
+            byte[][] witness = witness(mta.getOffset(), height, h);
+            byte[] hash = leaf((int) h - 1);
+            long leafHeight = h;
+            String expected = outcome(() -> mta.verify(witness, hash, leafHeight, height));
+            assertEquals("OK", expected);
+            assertEquals(expected, outcome(() -> acc.verify(witness, hash, leafHeight, height)));
+
+            byte[] invalid = leaf((int) h);
+            expected = outcome(() -> mta.verify(witness, invalid, leafHeight, height));
+            assertEquals("MTAException", expected);
+            assertEquals(expected, outcome(() -> acc.verify(witness, invalid, leafHeight, height)));
+        }
+        for (long h = Math.max(1, height - 8); h < height; h++) {
+            byte[] hash = leaf((int) h - 1);
+            long leafHeight = h;
+            for (long at = leafHeight; at < height; at++) {
+                long witnessAt = at;
+                String expected = outcome(() -> mta.verify(new byte[0][], hash, leafHeight, witnessAt));
+                assertEquals(expected, outcome(() -> acc.verify(new byte[0][], hash, leafHeight, witnessAt)));
+            }
+        }
+        byte[] hash = leaf((int) height - 1);
+        String expected = outcome(() -> mta.verify(new byte[0][], hash, height, height + 1));
+        assertEquals("InvalidWitnessNewerException", expected);
+        assertEquals(expected, outcome(() -> acc.verify(new byte[0][], hash, height, height + 1)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void addAndVerify(Integer rootSize, Integer cacheSize) throws Exception {
+        run(() -> {
+            MerkleTreeAccumulator mta = newMTA(rootSize, cacheSize);
+            MerkleTreeAccumulatorDB db = new MerkleTreeAccumulatorDB("mta");
+            db.set(newMTA(rootSize, cacheSize));
+            int i = 0;
+            while (i < COUNT) {
+                MerkleTreeAccumulatorDB.Accumulator acc = db.get();
+                // several leaves in a relay message
+                int size = i % 3 + 1;
+                for (int j = 0; j < size && i < COUNT; j++, i++) {
+                    mta.add(leaf(i));
+                    acc.add(leaf(i));
+                }
+                acc.flush();
+                assertSameVerification(mta, acc);
+                assertSameVerification(mta, db.get());
+            }
+            // roots are pruned by rootSize
+            assertEquals(rootSize != null && rootSize > 0, mta.getOffset() > 0);
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void migrate(Integer rootSize, Integer cacheSize) throws Exception {
+        run(() -> {
+            MerkleTreeAccumulator mta = newMTA(rootSize, cacheSize);
+            for (int i = 0; i < COUNT / 2; i++) {
+                mta.add(leaf(i));
+            }
+            MerkleTreeAccumulatorDB db = new MerkleTreeAccumulatorDB("mta");
+            // previous state which must be replaced
+            MerkleTreeAccumulator prev = newMTA(1, 7);
+            for (int i = 0; i < 11; i++) {
+                prev.add(leaf(i + COUNT));
+            }
+            db.set(prev);
+
+            // MerkleTreeAccumulator which was stored as a whole, such as in BMVProperties of icon
+            db.set(MerkleTreeAccumulator.fromBytes(mta.toBytes()));
+            assertSameVerification(mta, db.get());
+            for (int i = COUNT / 2; i < COUNT; i++) {
+                MerkleTreeAccumulatorDB.Accumulator acc = db.get();
+                mta.add(leaf(i));
+                acc.add(leaf(i));
+                acc.flush();
+                assertSameVerification(mta, db.get());
+            }
+        });
+    }
+}
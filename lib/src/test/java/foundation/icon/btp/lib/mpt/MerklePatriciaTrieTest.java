@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.btp.lib.mpt;
+
+import org.junit.jupiter.api.Test;
+import score.Context;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MerklePatriciaTrieTest {
+    private static final String HASH_ALG = "sha3-256";
+    private static final byte[] EMPTY = new byte[0];
+
+    private static byte[] header(int base, int len) {
+        if (len < 56) return new byte[]{(byte) (base + len)};
+        int size = len < 0x100 ? 1 : 2;
+        byte[] ret = new byte[1 + size];
+        ret[0] = (byte) (base + 55 + size);
+        for (int i = size; i > 0; i--, len >>= 8)
+            ret[i] = (byte) len;
+        return ret;
+    }
+
+    private static byte[] bytes(byte[] b) {
+        if (b.length == 1 && (b[0] & 0xFF) < 0x80) return b;
+        var os = new ByteArrayOutputStream();
+        os.writeBytes(header(0x80, b.length));
+        os.writeBytes(b);
+        return os.toByteArray();
+    }
+
+    // items must be encoded already
+    private static byte[] list(byte[]... items) {
+        var payload = new ByteArrayOutputStream();
+        for (byte[] item : items)
+            payload.writeBytes(item);
+        var os = new ByteArrayOutputStream();
+        os.writeBytes(header(0xC0, payload.size()));
+        os.writeBytes(payload.toByteArray());
+        return os.toByteArray();
+    }
+
+    private static byte[] value(int seed, int len) {
+        byte[] ret = new byte[len];
+        Arrays.fill(ret, (byte) seed);
+        return ret;
+    }
+
+    // extension [1,2] -> branch, [3] -> leaf [4], [5] -> leaf [6], [7] -> embedded leaf [8]
+    private final byte[] valueA = value(0xA, 40);
+    private final byte[] valueB = value(0xB, 40);
+    private final byte[] valueC = new byte[]{'v'};
+    private final byte[] leafA = list(bytes(new byte[]{0x34}), bytes(valueA));
+    private final byte[] leafB = list(bytes(new byte[]{0x36}), bytes(valueB));
+    private final byte[] branch;
+    private final byte[] extension;
+    private final byte[] root;
+
+    MerklePatriciaTrieTest() {
+        byte[][] items = new byte[17][];
+        Arrays.fill(items, bytes(EMPTY));
+        items[3] = bytes(Context.hash(HASH_ALG, leafA));
+        items[5] = bytes(Context.hash(HASH_ALG, leafB));
+        items[7] = list(bytes(new byte[]{0x38}), bytes(valueC));
+        branch = list(items);
+        extension = list(bytes(new byte[]{0x00, 0x12}), bytes(Context.hash(HASH_ALG, branch)));
+        root = Context.hash(HASH_ALG, extension);
+    }
+
+    @Test
+    void prove() {
+        assertArrayEquals(valueA, MerklePatriciaTrie.prove(HASH_ALG, root,
+                new byte[]{0x12, 0x34}, new byte[][]{extension, branch, leafA}));
+        assertArrayEquals(valueC, MerklePatriciaTrie.prove(HASH_ALG, root,
+                new byte[]{0x12, 0x78}, new byte[][]{extension, branch}));
+    }
+
+    @Test
+    void proveWithProvenNodes() {
+        var trie = new MerklePatriciaTrie(HASH_ALG, root);
+        assertArrayEquals(valueA, trie.prove(new byte[]{0x12, 0x34}, new byte[][]{extension, branch, leafA}));
+        assertArrayEquals(valueB, trie.prove(new byte[]{0x12, 0x56}, new byte[][]{EMPTY, EMPTY, leafB}));
+    }
+
+    @Test
+    void proveInvalid() {
+        assertThrows(MerklePatriciaTrie.MPTException.class, () -> MerklePatriciaTrie.prove(HASH_ALG, root,
+                new byte[]{0x12, (byte) 0x99}, new byte[][]{extension, branch}));
+        assertThrows(MerklePatriciaTrie.MPTException.class, () -> MerklePatriciaTrie.prove(HASH_ALG, root,
+                new byte[]{0x12, 0x35}, new byte[][]{extension, branch, leafA}));
+        assertThrows(MerklePatriciaTrie.MPTException.class, () -> MerklePatriciaTrie.prove(HASH_ALG, root,
+                new byte[]{0x12, 0x56}, new byte[][]{extension, branch, leafA}));
+        assertThrows(MerklePatriciaTrie.MPTException.class, () -> MerklePatriciaTrie.prove(HASH_ALG, root,
+                new byte[]{0x12, 0x34}, new byte[][]{extension, branch}));
+    }
+}
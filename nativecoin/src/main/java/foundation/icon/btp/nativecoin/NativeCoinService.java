@@ -21,7 +21,6 @@ import foundation.icon.btp.lib.*;
 import foundation.icon.btp.nativecoin.irc31.IRC31SupplierScoreInterface;
 import foundation.icon.score.util.ArrayUtil;
 import foundation.icon.score.util.Logger;
-import foundation.icon.score.util.StringUtil;
 import score.*;
 import score.annotation.EventLog;
 import score.annotation.External;
@@ -244,7 +243,9 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
     }
 
     private void sendRequest(Address owner, BTPAddress to, List<String> coinNames, List<BigInteger> amounts) {
-        logger.println("sendRequest","begin");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("sendRequest","begin");
+        }
         NCSProperties properties = getProperties();
 
         BigInteger feeRatio = properties.getFeeRatio();
@@ -280,7 +281,9 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
 
         sendMessage(to.net(), NCSMessage.REQUEST_COIN_TRANSFER, sn, request.toBytes());
         TransferStart(owner, to.toString(), sn, encode(assetTransferDetails));
-        logger.println("sendRequest","end");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("sendRequest","end");
+        }
     }
 
     static byte[] encode(AssetTransferDetail[] assetTransferDetails) {
@@ -294,14 +297,18 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
     }
 
     private void sendMessage(String to, int serviceType, BigInteger sn, byte[] data) {
-        logger.println("sendMessage","begin");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("sendMessage","begin");
+        }
         NCSMessage message = new NCSMessage();
         message.setServiceType(serviceType);
         message.setData(data);
 
         BMCScoreInterface bmc = new BMCScoreInterface(this.bmc);
         bmc.sendMessage(to, SERVICE, sn, message.toBytes());
-        logger.println("sendMessage","end");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("sendMessage","end");
+        }
     }
 
     private void responseSuccess(String to, BigInteger sn) {
@@ -409,21 +416,27 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
     }
 
     private void lock(String coinName, Address owner, BigInteger value) {
-        logger.println("lock","coinName:",coinName,"owner:",owner,"value:",value);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("lock","coinName:",coinName,"owner:",owner,"value:",value);
+        }
         Balance balance = getBalance(coinName, owner);
         balance.setLocked(balance.getLocked().add(value));
         setBalance(coinName, owner, balance);
     }
 
     private void unlock(String coinName, Address owner, BigInteger value) {
-        logger.println("unlock","coinName:",coinName,"owner:",owner,"value:",value);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("unlock","coinName:",coinName,"owner:",owner,"value:",value);
+        }
         Balance balance = getBalance(coinName, owner);
         balance.setLocked(balance.getLocked().subtract(value));
         setBalance(coinName, owner, balance);
     }
 
     private void refund(String coinName, Address owner, BigInteger value) {
-        logger.println("refund","coinName:",coinName,"owner:",owner,"value:",value);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("refund","coinName:",coinName,"owner:",owner,"value:",value);
+        }
         //unlock and add refundable
         Balance balance = getBalance(coinName, owner);
         balance.setLocked(balance.getLocked().subtract(value));
@@ -447,7 +460,9 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
     }
 
     private void handleRequest(TransferRequest request, String from, BigInteger sn) {
-        logger.println("handleRequest","begin","sn:",sn);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("handleRequest","begin","sn:",sn);
+        }
         Address to;
         try {
             to = Address.fromString(request.getTo());
@@ -489,13 +504,19 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
             mintBatch(to, coinNamesToIds(coinNames), ArrayUtil.toBigIntegerArray(amounts));
         }
 
-        logger.println("handleRequest","responseSuccess");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("handleRequest","responseSuccess");
+        }
         responseSuccess(from, sn);
-        logger.println("handleRequest","end");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("handleRequest","end");
+        }
     }
 
     private void handleResponse(BigInteger sn, TransferResponse response) {
-        logger.println("handleResponse","begin","sn:",sn);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("handleResponse","begin","sn:",sn);
+        }
         TransferTransaction transaction = transactions.get(sn);
         List<String> registeredCoinNames = getCoinNamesAsList();
         // ignore when not exists pending request
@@ -504,7 +525,9 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
             Address owner = Address.fromString(transaction.getFrom());
             AssetTransferDetail[] assets = transaction.getAssets();
 
-            logger.println("handleResponse","code:",code);
+            if (Logger.LEVEL <= Logger.DEBUG) {
+                logger.debug("handleResponse","code:",code);
+            }
             if (TransferResponse.RC_OK.equals(code)) {
                 List<String> coinNames = new ArrayList<>();
                 List<BigInteger> amounts = new ArrayList<>();
@@ -549,7 +572,9 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
             transactions.set(sn, null);
             TransferEnd(owner, sn, code, response.getMessage() != null ? response.getMessage().getBytes() : null);
         }
-        logger.println("handleResponse","end");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("handleResponse","end");
+        }
     }
 
     @External
@@ -580,13 +605,17 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
     }
 
     private AssetTransferDetail newAssetTransferDetail(String coinName, BigInteger amount, BigInteger feeRatio) {
-        logger.println("newAssetTransferDetail","begin");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("newAssetTransferDetail","begin");
+        }
         BigInteger fee = amount.multiply(feeRatio).divide(FEE_DENOMINATOR);
         if (feeRatio.compareTo(BigInteger.ZERO) > 0 && fee.compareTo(BigInteger.ZERO) == 0) {
             fee = BigInteger.ONE;
         }
         BigInteger transferAmount = amount.subtract(fee);
-        logger.println("newAssetTransferDetail","amount:",amount,"fee:",fee);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("newAssetTransferDetail","amount:",amount,"fee:",fee);
+        }
         if (transferAmount.compareTo(BigInteger.ZERO) < 1) {
             throw NCSException.unknown("not enough value");
         }
@@ -594,91 +623,105 @@ public class NativeCoinService implements NCS, IRC31Receiver, BSH, OwnerManager
         asset.setCoinName(coinName);
         asset.setAmount(transferAmount);
         asset.setFee(fee);
-        logger.println("newAssetTransferDetail","end");
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("newAssetTransferDetail","end");
+        }
         return asset;
     }
 
     /* Intercall with IRC31Supplier */
     private void transferFrom(Address from, Address to, BigInteger id, BigInteger amount) {
-        logger.println("transferFrom", from, to, id, amount);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("transferFrom", from, to, id, amount);
+        }
         IRC31SupplierScoreInterface irc31 = new IRC31SupplierScoreInterface(this.irc31);
         try {
             irc31.transferFrom(from, to, id, amount, null);
         } catch (UserRevertedException e) {
-            logger.println("transferFrom", "code:", e.getCode(), "msg:", e.getMessage());
+            logger.warn("transferFrom", "code:", e.getCode(), "msg:", e.getMessage());
             throw NCSException.irc31Reverted("code:" + e.getCode() + "msg:" + e.getMessage());
         } catch (IllegalArgumentException | RevertedException e) {
-            logger.println("transferFrom", "Exception:", e.toString());
+            logger.warn("transferFrom", "Exception:", e.toString());
             throw NCSException.irc31Failure("Exception:" + e);
         }
     }
 
     private void transferFromBatch(Address from, Address to, BigInteger[] ids, BigInteger[] amounts) {
-        logger.println("transferFromBatch", from, to, StringUtil.toString(ids), StringUtil.toString(amounts));
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("transferFromBatch", from, to, ids, amounts);
+        }
         IRC31SupplierScoreInterface irc31 = new IRC31SupplierScoreInterface(this.irc31);
         try {
             irc31.transferFromBatch(from, to, ids, amounts, null);
         } catch (UserRevertedException e) {
-            logger.println("transferFromBatch", "code:", e.getCode(), "msg:", e.getMessage());
+            logger.warn("transferFromBatch", "code:", e.getCode(), "msg:", e.getMessage());
             throw NCSException.irc31Reverted("code:" + e.getCode() + "msg:" + e.getMessage());
         } catch (IllegalArgumentException | RevertedException e) {
-            logger.println("transferFromBatch", "Exception:", e.toString());
+            logger.warn("transferFromBatch", "Exception:", e.toString());
             throw NCSException.irc31Failure("Exception:" + e);
         }
     }
 
     private void mint(Address to, BigInteger id, BigInteger amount) {
-        logger.println("mint", to, id, amount);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("mint", to, id, amount);
+        }
         IRC31SupplierScoreInterface irc31 = new IRC31SupplierScoreInterface(this.irc31);
         try {
             irc31.mint(to, id, amount);
         } catch (UserRevertedException e) {
-            logger.println("mint", "code:", e.getCode(), "msg:", e.getMessage());
+            logger.warn("mint", "code:", e.getCode(), "msg:", e.getMessage());
             throw NCSException.irc31Reverted("code:" + e.getCode() + "msg:" + e.getMessage());
         } catch (IllegalArgumentException | RevertedException e) {
-            logger.println("mint", "Exception:", e.toString());
+            logger.warn("mint", "Exception:", e.toString());
             throw NCSException.irc31Failure("Exception:" + e);
         }
     }
 
     private void mintBatch(Address to, BigInteger[] ids, BigInteger[] amounts) {
-        logger.println("mintBatch", to, StringUtil.toString(ids), StringUtil.toString(amounts));
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("mintBatch", to, ids, amounts);
+        }
         IRC31SupplierScoreInterface irc31 = new IRC31SupplierScoreInterface(this.irc31);
         try {
             irc31.mintBatch(to, ids, amounts);
         } catch (UserRevertedException e) {
-            logger.println("mintBatch", "code:", e.getCode(), "msg:", e.getMessage());
+            logger.warn("mintBatch", "code:", e.getCode(), "msg:", e.getMessage());
             throw NCSException.irc31Reverted("code:" + e.getCode() + "msg:" + e.getMessage());
         } catch (IllegalArgumentException | RevertedException e) {
-            logger.println("mintBatch", "Exception:", e.toString());
+            logger.warn("mintBatch", "Exception:", e.toString());
             throw NCSException.irc31Failure("Exception:" + e);
         }
     }
 
     private void burn(BigInteger id, BigInteger amount) {
-        logger.println("burn", id, amount);
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("burn", id, amount);
+        }
         IRC31SupplierScoreInterface irc31 = new IRC31SupplierScoreInterface(this.irc31);
         try {
             irc31.burn(Context.getAddress(), id, amount);
         } catch (UserRevertedException e) {
-            logger.println("burn", "code:", e.getCode(), "msg:", e.getMessage());
+            logger.warn("burn", "code:", e.getCode(), "msg:", e.getMessage());
             throw NCSException.irc31Reverted("code:" + e.getCode() + "msg:" + e.getMessage());
         } catch (IllegalArgumentException | RevertedException e) {
-            logger.println("burn", "Exception:", e.toString());
+            logger.warn("burn", "Exception:", e.toString());
             throw NCSException.irc31Failure("Exception:" + e);
         }
     }
 
     private void burnBatch(BigInteger[] ids, BigInteger[] amounts) {
-        logger.println("burnBatch", StringUtil.toString(ids), StringUtil.toString(amounts));
+        if (Logger.LEVEL <= Logger.DEBUG) {
+            logger.debug("burnBatch", ids, amounts);
+        }
         IRC31SupplierScoreInterface irc31 = new IRC31SupplierScoreInterface(this.irc31);
         try {
             irc31.burnBatch(Context.getAddress(), ids, amounts);
         } catch (UserRevertedException e) {
-            logger.println("mintBatch", "code:", e.getCode(), "msg:", e.getMessage());
+            logger.warn("mintBatch", "code:", e.getCode(), "msg:", e.getMessage());
             throw NCSException.irc31Reverted("code:" + e.getCode() + "msg:" + e.getMessage());
         } catch (IllegalArgumentException | RevertedException e) {
-            logger.println("mintBatch", "Exception:", e.toString());
+            logger.warn("mintBatch", "Exception:", e.toString());
             throw NCSException.irc31Failure("Exception:" + e);
         }
     }
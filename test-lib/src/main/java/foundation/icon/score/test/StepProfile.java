@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.score.test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storage and API usage of the profiled calls, collected by {@link StepProfiler}.
+ * Estimated step is calculated with the default step prices of goloop,
+ * it covers storage access and API calls only, not the execution of the bytecode.
+ */
+public class StepProfile {
+    public static final long STEP_GET_BASE = 3000;
+    public static final long STEP_GET = 25;
+    public static final long STEP_SET_BASE = 10000;
+    public static final long STEP_SET = 320;
+    public static final long STEP_DELETE_BASE = 200;
+    public static final long STEP_API_CALL = 10000;
+
+    private long calls;
+    private long reads;
+    private long writes;
+    private long deletes;
+    private long bytesRead;
+    private long bytesWritten;
+    private long hash;
+    private long recoverKey;
+    private long aggregate;
+    private long verifySignature;
+    // id of storage => number of reads
+    private final Map<String, Long> readsById = new HashMap<>();
+    // id of storage => number of writes
+    private final Map<String, Long> writesById = new HashMap<>();
+
+    void onCall() {
+        calls++;
+    }
+
+    void onRead(String id, int size) {
+        reads++;
+        bytesRead += size;
+        readsById.merge(id, 1L, Long::sum);
+    }
+
+    void onWrite(String id, int size) {
+        writes++;
+        bytesWritten += size;
+        writesById.merge(id, 1L, Long::sum);
+    }
+
+    void onDelete() {
+        deletes++;
+    }
+
+    void onHash() {
+        hash++;
+    }
+
+    void onRecoverKey() {
+        recoverKey++;
+    }
+
+    void onAggregate() {
+        aggregate++;
+    }
+
+    void onVerifySignature() {
+        verifySignature++;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    /**
+     * Returns number of reads from the storage which is created with the id,
+     * including the storages whose id is concatenated with the id and '|'.
+     *
+     * @param id id of storage
+     * @return number of reads
+     */
+    public long getReads(String id) {
+        return sumById(readsById, id);
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    /**
+     * Returns number of writes to the storage which is created with the id,
+     * including the storages whose id is concatenated with the id and '|'.
+     *
+     * @param id id of storage
+     * @return number of writes
+     */
+    public long getWrites(String id) {
+        return sumById(writesById, id);
+    }
+
+    private static long sumById(Map<String, Long> countsById, String id) {
+        long sum = 0;
+        for (Map.Entry<String, Long> entry : countsById.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals(id) || key.startsWith(id + "|")) {
+                sum += entry.getValue();
+            }
+        }
+        return sum;
+    }
+
+    public long getDeletes() {
+        return deletes;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public long getRecoverKey() {
+        return recoverKey;
+    }
+
+    public long getAggregate() {
+        return aggregate;
+    }
+
+    public long getVerifySignature() {
+        return verifySignature;
+    }
+
+    public long getApiCalls() {
+        return hash + recoverKey + aggregate + verifySignature;
+    }
+
+    public long getSteps() {
+        return reads * STEP_GET_BASE + bytesRead * STEP_GET +
+                writes * STEP_SET_BASE + bytesWritten * STEP_SET +
+                deletes * STEP_DELETE_BASE +
+                getApiCalls() * STEP_API_CALL;
+    }
+
+    public long getStepsPerCall() {
+        return calls > 0 ? getSteps() / calls : 0;
+    }
+
+    public void add(StepProfile other) {
+        calls += other.calls;
+        reads += other.reads;
+        writes += other.writes;
+        deletes += other.deletes;
+        bytesRead += other.bytesRead;
+        bytesWritten += other.bytesWritten;
+        hash += other.hash;
+        recoverKey += other.recoverKey;
+        aggregate += other.aggregate;
+        verifySignature += other.verifySignature;
+        for (Map.Entry<String, Long> entry : other.readsById.entrySet()) {
+            readsById.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        for (Map.Entry<String, Long> entry : other.writesById.entrySet()) {
+            writesById.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+    }
+
+    public String toJson() {
+        final StringBuilder sb = new StringBuilder("{");
+        sb.append("\"calls\":").append(calls);
+        sb.append(",\"reads\":").append(reads);
+        sb.append(",\"writes\":").append(writes);
+        sb.append(",\"deletes\":").append(deletes);
+        sb.append(",\"bytesRead\":").append(bytesRead);
+        sb.append(",\"bytesWritten\":").append(bytesWritten);
+        sb.append(",\"hash\":").append(hash);
+        sb.append(",\"recoverKey\":").append(recoverKey);
+        sb.append(",\"aggregate\":").append(aggregate);
+        sb.append(",\"verifySignature\":").append(verifySignature);
+        sb.append(",\"steps\":").append(getSteps());
+        sb.append(",\"stepsPerCall\":").append(getStepsPerCall());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("StepProfile{");
+        sb.append("calls=").append(calls);
+        sb.append(", reads=").append(reads);
+        sb.append(", writes=").append(writes);
+        sb.append(", deletes=").append(deletes);
+        sb.append(", bytesRead=").append(bytesRead);
+        sb.append(", bytesWritten=").append(bytesWritten);
+        sb.append(", hash=").append(hash);
+        sb.append(", recoverKey=").append(recoverKey);
+        sb.append(", aggregate=").append(aggregate);
+        sb.append(", verifySignature=").append(verifySignature);
+        sb.append(", steps=").append(getSteps());
+        sb.append('}');
+        return sb.toString();
+    }
+}
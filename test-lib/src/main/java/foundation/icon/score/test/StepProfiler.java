@@ -0,0 +1,255 @@
+/*
+ * Copyright 2023 ICON Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package foundation.icon.score.test;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import score.Address;
+import score.ArrayDB;
+import score.BranchDB;
+import score.ByteArrayObjectWriter;
+import score.Context;
+import score.DictDB;
+import score.VarDB;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Profiles storage and API usage of SCORE calls in the unit test with javaee-unittest.
+ * While it's open, static methods of {@link Context} are intercepted, so that the SCORE
+ * must be deployed after opening to profile storage access.
+ * <pre>{@code
+ * try (StepProfiler profiler = new StepProfiler("BTPMessageVerifier")) {
+ *     Score score = sm.deploy(owner, BTPMessageVerifier.class, ...);
+ *     profiler.profile("handleRelayMessage", () -> sm.call(...));
+ *     profiler.writeReport();
+ * }
+ * }</pre>
+ * Report is written as JSON to the directory of system property {@value #REPORT_DIR_PROPERTY},
+ * default is {@value #DEFAULT_REPORT_DIR}.
+ */
+public class StepProfiler implements AutoCloseable {
+    public static final String REPORT_DIR_PROPERTY = "stepProfile.dir";
+    public static final String DEFAULT_REPORT_DIR = "build/step-profile";
+
+    private final String name;
+    private final MockedStatic<Context> context;
+    private final Map<String, StepProfile> profiles = new LinkedHashMap<>();
+    private StepProfile current;
+
+    public StepProfiler(String name) {
+        this.name = name;
+        this.context = Mockito.mockStatic(Context.class, this::answer);
+    }
+
+    private Object answer(InvocationOnMock invocation) throws Throwable {
+        Object ret = invocation.callRealMethod();
+        String method = invocation.getMethod().getName();
+        switch (method) {
+            case "newVarDB":
+            case "newDictDB":
+            case "newArrayDB":
+            case "newBranchDB":
+                return wrap(ret, invocation.getArgument(0));
+        }
+        if (current != null) {
+            switch (method) {
+                case "hash":
+                    current.onHash();
+                    break;
+                case "recoverKey":
+                    current.onRecoverKey();
+                    break;
+                case "aggregate":
+                    current.onAggregate();
+                    break;
+                case "verifySignature":
+                    current.onVerifySignature();
+                    break;
+            }
+        }
+        return ret;
+    }
+
+    private Object wrap(Object db, String id) {
+        if (db == null || Proxy.isProxyClass(db.getClass())) {
+            return db;
+        }
+        List<Class<?>> interfaces = new ArrayList<>();
+        for (Class<?> c : new Class<?>[]{VarDB.class, DictDB.class, ArrayDB.class, BranchDB.class}) {
+            if (c.isInstance(db)) {
+                interfaces.add(c);
+            }
+        }
+        if (interfaces.isEmpty()) {
+            return db;
+        }
+        return Proxy.newProxyInstance(VarDB.class.getClassLoader(),
+                interfaces.toArray(new Class<?>[0]), new StorageHandler(db, id));
+    }
+
+    private class StorageHandler implements InvocationHandler {
+        private final Object db;
+        private final String id;
+
+        StorageHandler(Object db, String id) {
+            this.db = db;
+            this.id = id;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object ret;
+            try {
+                ret = method.invoke(db, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            String name = method.getName();
+            if ("at".equals(name)) {
+                return wrap(ret, id);
+            }
+            if (current != null) {
+                switch (name) {
+                    case "get":
+                    case "getOrDefault":
+                        current.onRead(id, sizeOf(ret));
+                        break;
+                    case "size":
+                        current.onRead(id, 0);
+                        break;
+                    case "set":
+                    case "add":
+                        Object value = args[args.length - 1];
+                        if (value == null) {
+                            current.onDelete();
+                        } else {
+                            current.onWrite(id, sizeOf(value));
+                        }
+                        break;
+                    case "pop":
+                    case "removeLast":
+                        current.onDelete();
+                        break;
+                }
+            }
+            return ret;
+        }
+    }
+
+    static int sizeOf(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        } else if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8).length;
+        } else if (value instanceof BigInteger) {
+            return ((BigInteger) value).toByteArray().length;
+        } else if (value instanceof Address) {
+            return 21;
+        } else if (value instanceof Boolean || value instanceof Byte || value instanceof Character) {
+            return 1;
+        } else if (value instanceof Number) {
+            return BigInteger.valueOf(((Number) value).longValue()).toByteArray().length;
+        }
+        try {
+            ByteArrayObjectWriter writer = Context.newByteArrayObjectWriter("RLPn");
+            writer.write(value);
+            return writer.toByteArray().length;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Executes the callable and adds its usage to the profile of the method.
+     * Usage of the nested profile is only added to the profile of the nested one.
+     *
+     * @param method   name of the profile, usually name of the external method
+     * @param callable SCORE call to profile
+     * @return the result of callable
+     */
+    public <T> T profile(String method, Callable<T> callable) throws Exception {
+        StepProfile profile = new StepProfile();
+        StepProfile parent = current;
+        current = profile;
+        try {
+            profile.onCall();
+            return callable.call();
+        } finally {
+            current = parent;
+            profiles.computeIfAbsent(method, (k) -> new StepProfile()).add(profile);
+        }
+    }
+
+    public StepProfile get(String method) {
+        return profiles.get(method);
+    }
+
+    public Map<String, StepProfile> getProfiles() {
+        return profiles;
+    }
+
+    public String toJson() {
+        final StringBuilder sb = new StringBuilder("{");
+        sb.append("\"name\":\"").append(name).append("\"");
+        sb.append(",\"methods\":{");
+        boolean first = true;
+        for (Map.Entry<String, StepProfile> entry : profiles.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            sb.append('"').append(entry.getKey()).append("\":").append(entry.getValue().toJson());
+        }
+        sb.append("}}");
+        return sb.toString();
+    }
+
+    /**
+     * Writes report to the file which is named with the name of profiler
+     *
+     * @return path of the report
+     */
+    public Path writeReport() throws IOException {
+        Path dir = Path.of(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+        Files.createDirectories(dir);
+        Path path = dir.resolve(name + ".json");
+        Files.writeString(path, toJson());
+        return path;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}